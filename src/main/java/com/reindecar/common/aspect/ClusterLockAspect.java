@@ -0,0 +1,54 @@
+package com.reindecar.common.aspect;
+
+import com.reindecar.common.scheduling.ClusterLocked;
+import com.reindecar.common.scheduling.JobLease;
+import com.reindecar.common.scheduling.JobLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * AOP Aspect enforcing {@link ClusterLocked} on scheduled methods.
+ * The method proceeds only on the node that obtains the job lock; elsewhere the call returns null.
+ * A lock whose minimum hold exceeds its lease is rejected, since the lease would expire before it.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterLockAspect {
+
+    private final JobLockService jobLockService;
+    private final Environment environment;
+
+    @Around("@annotation(clusterLocked)")
+    public Object runLocked(ProceedingJoinPoint joinPoint, ClusterLocked clusterLocked) throws Throwable {
+        Duration lockAtMostFor = duration(clusterLocked.lockAtMostFor());
+        Duration lockAtLeastFor = duration(clusterLocked.lockAtLeastFor());
+        if (lockAtLeastFor.compareTo(lockAtMostFor) > 0) {
+            throw new IllegalStateException(String.format(
+                "Job %s: lockAtLeastFor %s exceeds lockAtMostFor %s", clusterLocked.name(), lockAtLeastFor, lockAtMostFor));
+        }
+        Optional<JobLease> lease = jobLockService.tryAcquire(clusterLocked.name(), lockAtMostFor);
+        if (lease.isEmpty()) {
+            log.debug("Scheduled job {} skipped, locked by another node", clusterLocked.name());
+            return null;
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            jobLockService.release(lease.get(), lockAtLeastFor);
+        }
+    }
+
+    private Duration duration(String value) {
+        return Duration.parse(environment.resolveRequiredPlaceholders(value));
+    }
+}
@@ -1,5 +1,7 @@
 package com.reindecar.common.aspect;
 
+import com.reindecar.common.monitoring.MethodTimingRegistry;
+import com.reindecar.common.monitoring.MethodTimingRegistry.Layer;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -7,20 +9,21 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 /**
- * AOP Aspect for logging method execution in Controller and Service layers.
+ * AOP Aspect for timing and logging method execution in Controller and Service layers.
  * Provides:
+ * - Per-method latency histograms, enabled per layer
  * - Method entry/exit logging
- * - Execution time measurement
- * - Request/Response information logging
- * - Sensitive data masking
+ * - Request information logging
+ * - Sensitive data masking, rendered only when the log level is enabled
  */
 @Aspect
 @Component
@@ -28,9 +31,27 @@ import java.util.stream.Collectors;
 public class LoggingAspect {
 
     private static final String[] SENSITIVE_FIELDS = {
-        "password", "token", "secret", "authorization", "creditCard", "cvv", "pin"
+        "password", "token", "secret", "authorization", "creditcard", "cvv", "pin"
     };
 
+    private static final int MAX_ARG_LENGTH = 200;
+
+    private final MethodTimingRegistry timingRegistry;
+    private final boolean controllerTimingEnabled;
+    private final boolean serviceTimingEnabled;
+    private final long slowThresholdMillis;
+
+    public LoggingAspect(
+            MethodTimingRegistry timingRegistry,
+            @Value("${timing.controller.enabled:true}") boolean controllerTimingEnabled,
+            @Value("${timing.service.enabled:true}") boolean serviceTimingEnabled,
+            @Value("${timing.slow-threshold-ms:1000}") long slowThresholdMillis) {
+        this.timingRegistry = timingRegistry;
+        this.controllerTimingEnabled = controllerTimingEnabled;
+        this.serviceTimingEnabled = serviceTimingEnabled;
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+
     /**
      * Pointcut for all Controller methods
      */
@@ -46,79 +67,91 @@ public class LoggingAspect {
 
     /**
      * Around advice for Controller methods
-     * Logs request details, execution time, and response
+     * Records execution time and logs request details when INFO is enabled
      */
     @Around("controllerMethods()")
     public Object logControllerExecution(ProceedingJoinPoint joinPoint) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String className = signature.getDeclaringType().getSimpleName();
-        String methodName = signature.getName();
-
-        HttpServletRequest request = getCurrentRequest();
-        String traceId = getOrGenerateTraceId(request);
-
-        long startTime = System.currentTimeMillis();
 
-        log.info("[{}] [CONTROLLER] {} -> {}.{}() called with args: {}",
-                traceId,
-                request != null ? request.getMethod() + " " + request.getRequestURI() : "N/A",
-                className,
-                methodName,
-                maskSensitiveData(joinPoint.getArgs()));
+        if (log.isInfoEnabled()) {
+            HttpServletRequest request = getCurrentRequest();
+            log.info("[{}] [CONTROLLER] {} -> {}.{}() called with args: {}",
+                    getOrGenerateTraceId(request),
+                    request != null ? request.getMethod() + " " + request.getRequestURI() : "N/A",
+                    signature.getDeclaringType().getSimpleName(),
+                    signature.getName(),
+                    new MaskedArgs(joinPoint.getArgs()));
+        }
 
+        long startNanos = System.nanoTime();
         try {
             Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - startTime;
-
-            log.info("[{}] [CONTROLLER] {}.{}() completed successfully in {}ms",
-                    traceId, className, methodName, executionTime);
+            long elapsedNanos = System.nanoTime() - startNanos;
+            record(controllerTimingEnabled, Layer.CONTROLLER, signature, elapsedNanos);
 
+            if (log.isInfoEnabled()) {
+                log.info("[{}] [CONTROLLER] {}.{}() completed successfully in {}ms",
+                        getTraceIdFromRequest(), signature.getDeclaringType().getSimpleName(),
+                        signature.getName(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            }
             return result;
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
+            long elapsedNanos = System.nanoTime() - startNanos;
+            record(controllerTimingEnabled, Layer.CONTROLLER, signature, elapsedNanos);
             log.error("[{}] [CONTROLLER] {}.{}() failed after {}ms with error: {}",
-                    traceId, className, methodName, executionTime, e.getMessage());
+                    getTraceIdFromRequest(), signature.getDeclaringType().getSimpleName(),
+                    signature.getName(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), e.getMessage());
             throw e;
         }
     }
 
     /**
      * Around advice for Service methods
-     * Logs execution time and method calls
+     * Records execution time; arguments are only rendered when DEBUG is enabled
      */
     @Around("serviceMethods()")
     public Object logServiceExecution(ProceedingJoinPoint joinPoint) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String className = signature.getDeclaringType().getSimpleName();
-        String methodName = signature.getName();
-
-        String traceId = getTraceIdFromRequest();
-        long startTime = System.currentTimeMillis();
 
-        log.debug("[{}] [SERVICE] {}.{}() started with args: {}",
-                traceId, className, methodName, maskSensitiveData(joinPoint.getArgs()));
+        if (log.isDebugEnabled()) {
+            log.debug("[{}] [SERVICE] {}.{}() started with args: {}",
+                    getTraceIdFromRequest(), signature.getDeclaringType().getSimpleName(),
+                    signature.getName(), new MaskedArgs(joinPoint.getArgs()));
+        }
 
+        long startNanos = System.nanoTime();
         try {
             Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - startTime;
+            long elapsedNanos = System.nanoTime() - startNanos;
+            record(serviceTimingEnabled, Layer.SERVICE, signature, elapsedNanos);
 
-            if (executionTime > 1000) {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            if (elapsedMillis > slowThresholdMillis) {
                 log.warn("[{}] [SERVICE] {}.{}() took {}ms (slow operation)",
-                        traceId, className, methodName, executionTime);
-            } else {
+                        getTraceIdFromRequest(), signature.getDeclaringType().getSimpleName(),
+                        signature.getName(), elapsedMillis);
+            } else if (log.isDebugEnabled()) {
                 log.debug("[{}] [SERVICE] {}.{}() completed in {}ms",
-                        traceId, className, methodName, executionTime);
+                        getTraceIdFromRequest(), signature.getDeclaringType().getSimpleName(),
+                        signature.getName(), elapsedMillis);
             }
-
             return result;
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
+            long elapsedNanos = System.nanoTime() - startNanos;
+            record(serviceTimingEnabled, Layer.SERVICE, signature, elapsedNanos);
             log.error("[{}] [SERVICE] {}.{}() failed after {}ms: {}",
-                    traceId, className, methodName, executionTime, e.getMessage());
+                    getTraceIdFromRequest(), signature.getDeclaringType().getSimpleName(),
+                    signature.getName(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), e.getMessage());
             throw e;
         }
     }
 
+    private void record(boolean enabled, Layer layer, MethodSignature signature, long elapsedNanos) {
+        if (enabled) {
+            timingRegistry.record(layer, signature.getMethod(), TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        }
+    }
+
     /**
      * Get current HTTP request from RequestContextHolder
      */
@@ -140,8 +173,8 @@ public class LoggingAspect {
             String traceId = request.getHeader("X-Trace-Id");
             if (traceId == null || traceId.isEmpty()) {
                 traceId = java.util.UUID.randomUUID().toString().substring(0, 8);
-                request.setAttribute("traceId", traceId);
             }
+            request.setAttribute("traceId", traceId);
             return traceId;
         }
         return "NO-TRACE";
@@ -163,31 +196,42 @@ public class LoggingAspect {
     }
 
     /**
-     * Mask sensitive data in method arguments
+     * Method arguments rendered with sensitive data masked.
+     * Rendering happens in toString(), so it only runs when the logger formats the message.
      */
-    private String maskSensitiveData(Object[] args) {
-        if (args == null || args.length == 0) {
-            return "[]";
+    private record MaskedArgs(Object[] args) {
+
+        @Override
+        public String toString() {
+            if (args == null || args.length == 0) {
+                return "[]";
+            }
+            StringBuilder builder = new StringBuilder("[");
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(mask(args[i]));
+            }
+            return builder.append(']').toString();
         }
 
-        return Arrays.stream(args)
-                .map(arg -> {
-                    if (arg == null) {
-                        return "null";
-                    }
-                    String argString = arg.toString();
-                    // Check if argument contains sensitive field names
-                    for (String sensitiveField : SENSITIVE_FIELDS) {
-                        if (argString.toLowerCase().contains(sensitiveField.toLowerCase())) {
-                            return "[MASKED]";
-                        }
-                    }
-                    // Limit string length to avoid huge logs
-                    if (argString.length() > 200) {
-                        return argString.substring(0, 200) + "...";
-                    }
-                    return argString;
-                })
-                .collect(Collectors.joining(", ", "[", "]"));
+        private static String mask(Object arg) {
+            if (arg == null) {
+                return "null";
+            }
+            String argString = arg.toString();
+            String lowerCase = argString.toLowerCase(Locale.ROOT);
+            for (String sensitiveField : SENSITIVE_FIELDS) {
+                if (lowerCase.contains(sensitiveField)) {
+                    return "[MASKED]";
+                }
+            }
+            // Limit string length to avoid huge logs
+            if (argString.length() > MAX_ARG_LENGTH) {
+                return argString.substring(0, MAX_ARG_LENGTH) + "...";
+            }
+            return argString;
+        }
     }
 }
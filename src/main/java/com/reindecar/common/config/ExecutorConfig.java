@@ -0,0 +1,83 @@
+package com.reindecar.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@Slf4j
+public class ExecutorConfig {
+
+    @Bean(name = "pricingExecutor")
+    public ThreadPoolTaskExecutor pricingExecutor(
+            @Value("${pricing.batch.pool-size:4}") int poolSize,
+            @Value("${pricing.batch.queue-capacity:100}") int queueCapacity) {
+        return boundedExecutor("pricing-", poolSize, queueCapacity);
+    }
+
+    @Bean(name = "invoiceExecutor")
+    public ThreadPoolTaskExecutor invoiceExecutor(
+            @Value("${leasing.invoice-run.pool-size:4}") int poolSize,
+            @Value("${leasing.invoice-run.queue-capacity:100}") int queueCapacity) {
+        return boundedExecutor("invoice-", poolSize, queueCapacity);
+    }
+
+    @Bean(name = "notificationExecutor")
+    public ThreadPoolTaskExecutor notificationExecutor(
+            @Value("${notification.daily-checks.pool-size:4}") int poolSize,
+            @Value("${notification.daily-checks.queue-capacity:20}") int queueCapacity) {
+        return boundedExecutor("notification-", poolSize, queueCapacity);
+    }
+
+    @Bean(name = "notificationStreamExecutor")
+    public ThreadPoolTaskExecutor notificationStreamExecutor(
+            @Value("${notification.stream.pool-size:2}") int poolSize,
+            @Value("${notification.stream.queue-capacity:200}") int queueCapacity) {
+        // A missed push is repaired by the next event or a reconnect, so a full queue drops the write
+        // instead of running it on the committing thread or the scheduler
+        return boundedExecutor("notification-stream-", poolSize, queueCapacity, (task, executor) ->
+            log.warn("Notification stream task rejected, queue of {} is full", queueCapacity));
+    }
+
+    @Bean(name = "imageExecutor")
+    public ThreadPoolTaskExecutor imageExecutor(
+            @Value("${file.image.pool-size:2}") int poolSize,
+            @Value("${file.image.queue-capacity:100}") int queueCapacity) {
+        // Variants are optional, so a full queue drops the task instead of rendering on the upload thread;
+        // views fall back to the original until the variant exists
+        return boundedExecutor("image-", poolSize, queueCapacity, (task, executor) ->
+            log.warn("Image variant task rejected, queue of {} is full", queueCapacity));
+    }
+
+    @Bean(name = "storageExecutor")
+    public ThreadPoolTaskExecutor storageExecutor(
+            @Value("${aws.s3.upload-parallelism:4}") int poolSize,
+            @Value("${aws.s3.upload-queue-capacity:100}") int queueCapacity) {
+        return boundedExecutor("storage-", poolSize, queueCapacity);
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        return boundedExecutor(threadNamePrefix, poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(
+            String threadNamePrefix,
+            int poolSize,
+            int queueCapacity,
+            RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
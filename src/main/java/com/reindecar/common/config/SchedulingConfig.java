@@ -0,0 +1,19 @@
+package com.reindecar.common.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Turns on every {@code @Scheduled} job of the application, including the ones that existed
+ * before scheduling was enabled: the monthly leasing invoice run (02:00 on the 1st), the daily
+ * overdue invoice check (03:00) and the daily notification checks (08:00).
+ * The jobs share the scheduler pool sized by {@code spring.task.scheduling.pool.size}; with Boot's
+ * default of a single thread one long job would delay every other one.
+ * Set {@code scheduling.enabled=false} to run a node without any background jobs.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
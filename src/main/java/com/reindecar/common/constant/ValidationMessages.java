@@ -30,6 +30,9 @@ public final class ValidationMessages {
     public static final String RENTAL_DATE_INVALID = "Başlangıç tarihi bitiş tarihinden önce olmalıdır";
     public static final String DRIVER_ALREADY_IN_ACTIVE_RENTAL = "Sürücü zaten aktif bir kiralamada: %s";
     public static final String PERSONAL_CUSTOMER_RENTAL_LIMIT_EXCEEDED = "Bireysel müşteri aynı anda sadece bir kiralama yapabilir";
+    public static final String BULK_RENTAL_COMPANY_ONLY = "Toplu kiralama yalnızca kurumsal müşteriler için yapılabilir";
+    public static final String BULK_RENTAL_DUPLICATE_VEHICLE = "Araç istekte birden fazla kez yer alıyor: %s";
+    public static final String BULK_RENTAL_DRIVER_ALREADY_ASSIGNED = "Sürücü bu istekte başka bir araca atanmış: %s";
 
     public static final String EXTRA_ITEM_CODE_EXISTS = "Bu kod zaten kullanılıyor: %s";
     public static final String EXTRA_ITEM_NOT_FOUND = "Kalem türü bulunamadı: %s";
@@ -0,0 +1,61 @@
+package com.reindecar.common.monitoring;
+
+import com.reindecar.dto.monitoring.MethodTimingResponse;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-method latency histograms, keyed by layer and {@link Method} so that recording a call
+ * does not build strings.
+ */
+@Component
+public class MethodTimingRegistry {
+
+    public enum Layer { CONTROLLER, SERVICE }
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<Layer, Map<Method, LatencyHistogram>> histograms = Map.of(
+        Layer.CONTROLLER, new ConcurrentHashMap<>(),
+        Layer.SERVICE, new ConcurrentHashMap<>()
+    );
+
+    public void record(Layer layer, Method method, long micros) {
+        histograms.get(layer)
+            .computeIfAbsent(method, key -> new LatencyHistogram())
+            .record(micros);
+    }
+
+    public List<MethodTimingResponse> snapshot() {
+        return histograms.entrySet().stream()
+            .flatMap(layerEntry -> layerEntry.getValue().entrySet().stream()
+                .map(entry -> toResponse(layerEntry.getKey(), entry.getKey(), entry.getValue())))
+            .sorted(Comparator.comparingDouble(MethodTimingResponse::totalMs).reversed())
+            .toList();
+    }
+
+    public void reset() {
+        histograms.values().forEach(Map::clear);
+    }
+
+    private MethodTimingResponse toResponse(Layer layer, Method method, LatencyHistogram histogram) {
+        long count = histogram.getCount();
+        long totalMicros = histogram.getTotalMicros();
+        return new MethodTimingResponse(
+            layer.name(),
+            method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+            count,
+            totalMicros / MICROS_PER_MILLI,
+            count == 0 ? 0 : totalMicros / MICROS_PER_MILLI / count,
+            histogram.percentileMicros(50) / MICROS_PER_MILLI,
+            histogram.percentileMicros(95) / MICROS_PER_MILLI,
+            histogram.percentileMicros(99) / MICROS_PER_MILLI,
+            histogram.getMaxMicros() / MICROS_PER_MILLI
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.reindecar.common.scheduling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated scheduled method on at most one node of the cluster per trigger.
+ * Nodes that cannot take the job lock skip the invocation.
+ * Durations are ISO-8601 and may use property placeholders.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ClusterLocked {
+
+    /**
+     * Cluster-wide job name, also the key of the lock row.
+     */
+    String name();
+
+    /**
+     * Upper bound of the lease; a node that dies while running releases the job after this time.
+     */
+    String lockAtMostFor() default "PT30M";
+
+    /**
+     * Minimum time the lock is held even when the job finishes earlier, so nodes whose trigger
+     * fires slightly later because of clock skew do not run the job again.
+     */
+    String lockAtLeastFor() default "PT1M";
+}
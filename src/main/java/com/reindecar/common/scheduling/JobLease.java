@@ -0,0 +1,10 @@
+package com.reindecar.common.scheduling;
+
+import java.time.Instant;
+
+/**
+ * Lock held by this node; {@code lockedAt} identifies the lease so that a release never
+ * touches a lock another node has taken over in the meantime.
+ */
+public record JobLease(String name, String lockedBy, Instant lockedAt) {
+}
@@ -0,0 +1,111 @@
+package com.reindecar.common.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * DB-backed leases that keep scheduled jobs from running on several nodes at once.
+ * Works on the application datasource through the job_locks table; no node coordinates
+ * with another directly.
+ */
+@Service
+@Slf4j
+public class JobLockService {
+
+    private final JobLockWriter lockWriter;
+    private final String nodeId;
+
+    public JobLockService(JobLockWriter lockWriter, @Value("${scheduling.node-id:}") String nodeId) {
+        this.lockWriter = lockWriter;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public Optional<JobLease> tryAcquire(String name, Duration lockAtMostFor) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        try {
+            if (lockWriter.acquire(name, nodeId, now, now.plus(lockAtMostFor))) {
+                return Optional.of(new JobLease(name, nodeId, now));
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Job lock {} was created concurrently by another node", name);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Keeps the lock until {@code lockAtLeastFor} after acquisition has passed, then lets it expire.
+     */
+    public void release(JobLease lease, Duration lockAtLeastFor) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Instant earliestRelease = lease.lockedAt().plus(lockAtLeastFor);
+        lockWriter.release(lease, earliestRelease.isAfter(now) ? earliestRelease : now, now);
+    }
+
+    /**
+     * Runs the job when this node obtains its lock.
+     *
+     * @return whether the job ran on this node
+     */
+    public boolean runOnce(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable job) {
+        Optional<JobLease> lease = tryAcquire(name, lockAtMostFor);
+        if (lease.isEmpty()) {
+            log.debug("Job {} skipped, locked by another node", name);
+            return false;
+        }
+        try {
+            job.run();
+            return true;
+        } finally {
+            release(lease.get(), lockAtLeastFor);
+        }
+    }
+
+    /**
+     * Splits the job into {@code shardCount} id slices, each guarded by its own lock.
+     * Every node triggered at the same time works through the shards starting at a different offset
+     * and runs the ones it can lock, so the slices are spread over the live nodes and each runs once.
+     *
+     * @return number of shards this node processed
+     */
+    public int runSharded(String name, int shardCount, Duration lockAtMostFor, Duration lockAtLeastFor,
+                          Consumer<JobShard> job) {
+        if (shardCount <= 1) {
+            return runOnce(name, lockAtMostFor, lockAtLeastFor, () -> job.accept(JobShard.ALL)) ? 1 : 0;
+        }
+        int offset = Math.floorMod(nodeId.hashCode(), shardCount);
+        int processed = 0;
+        for (int i = 0; i < shardCount; i++) {
+            JobShard shard = new JobShard((offset + i) % shardCount, shardCount);
+            if (runOnce(shard.lockName(name), lockAtMostFor, lockAtLeastFor, () -> job.accept(shard))) {
+                processed++;
+            }
+        }
+        log.info("Job {}: processed {} of {} shards on node {}", name, processed, shardCount, nodeId);
+        return processed;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
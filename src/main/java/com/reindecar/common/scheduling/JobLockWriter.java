@@ -0,0 +1,41 @@
+package com.reindecar.common.scheduling;
+
+import com.reindecar.entity.scheduling.JobLock;
+import com.reindecar.repository.scheduling.JobLockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Changes lock rows in short, independent transactions so a lease is visible to other nodes
+ * as soon as it is taken, independently of any transaction the job itself opens.
+ */
+@Component
+@RequiredArgsConstructor
+class JobLockWriter {
+
+    private final JobLockRepository lockRepository;
+
+    /**
+     * @throws org.springframework.dao.DataIntegrityViolationException when another node created the lock row concurrently
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean acquire(String name, String nodeId, Instant now, Instant lockedUntil) {
+        if (lockRepository.acquireExpired(name, nodeId, now, lockedUntil) > 0) {
+            return true;
+        }
+        if (lockRepository.existsByName(name)) {
+            return false;
+        }
+        lockRepository.saveAndFlush(JobLock.acquire(name, nodeId, now, lockedUntil));
+        return true;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(JobLease lease, Instant lockedUntil, Instant now) {
+        lockRepository.release(lease.name(), lease.lockedBy(), lease.lockedAt(), lockedUntil, now);
+    }
+}
@@ -0,0 +1,13 @@
+package com.reindecar.common.scheduling;
+
+/**
+ * Slice of a sharded job: entities whose id satisfies {@code id % count == index}.
+ */
+public record JobShard(int index, int count) {
+
+    public static final JobShard ALL = new JobShard(0, 1);
+
+    public String lockName(String jobName) {
+        return count == 1 ? jobName : jobName + "#" + index + "/" + count;
+    }
+}
@@ -8,12 +8,21 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 @Slf4j
 @Transactional(readOnly = true)
 public abstract class BaseService<T, ID, R extends JpaRepository<T, ID>> {
 
+    protected static final int ID_BATCH_SIZE = 500;
+
     protected final R repository;
     protected final String entityName;
 
@@ -34,6 +43,13 @@ public abstract class BaseService<T, ID, R extends JpaRepository<T, ID>> {
         return mapper.apply(entity);
     }
 
+    public <D> List<D> findAllByIds(Collection<ID> ids, Function<T, D> mapper) {
+        log.info("Fetching {} {} by ids", ids.size(), entityName);
+        return findEntitiesByIds(ids).stream()
+            .map(mapper)
+            .toList();
+    }
+
     @Transactional
     public <D> D create(T entity, Function<T, D> mapper) {
         log.info("Creating new {}", entityName);
@@ -65,6 +81,23 @@ public abstract class BaseService<T, ID, R extends JpaRepository<T, ID>> {
             .orElseThrow(() -> createNotFoundException(id));
     }
 
+    /**
+     * Loads entities for the given IDs with {@code IN} queries of at most {@link #ID_BATCH_SIZE} IDs each.
+     * The result follows the order of the given IDs; duplicates are collapsed and missing IDs skipped.
+     */
+    protected List<T> findEntitiesByIds(Collection<ID> ids) {
+        List<ID> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<ID, T> entitiesById = new HashMap<>(distinctIds.size());
+        for (int from = 0; from < distinctIds.size(); from += ID_BATCH_SIZE) {
+            List<ID> chunk = distinctIds.subList(from, Math.min(from + ID_BATCH_SIZE, distinctIds.size()));
+            repository.findAllById(chunk).forEach(entity -> entitiesById.put(extractId(entity), entity));
+        }
+        return distinctIds.stream()
+            .map(entitiesById::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
     protected abstract EntityNotFoundException createNotFoundException(ID id);
     
     protected abstract ID extractId(T entity);
@@ -2,23 +2,25 @@ package com.reindecar.controller.file;
 
 import com.reindecar.common.dto.ApiResponse;
 import com.reindecar.dto.file.FileResponse;
+import com.reindecar.dto.file.StartUploadRequest;
 import com.reindecar.dto.file.UploadFileRequest;
+import com.reindecar.dto.file.UploadSessionResponse;
 import com.reindecar.entity.file.FileReferenceType;
+import com.reindecar.entity.file.FileVariantType;
 import com.reindecar.service.file.FileStorageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -28,6 +30,7 @@ import java.util.List;
 public class FileController {
 
     private final FileStorageService fileStorageService;
+    private final FileDownloadWriter fileDownloadWriter;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @ResponseStatus(HttpStatus.CREATED)
@@ -47,11 +50,54 @@ public class FileController {
             isPublic
         );
 
-        String uploadedBy = authentication != null ? authentication.getName() : "anonymous";
-        FileResponse response = fileStorageService.uploadFile(file, request, uploadedBy);
+        FileResponse response = fileStorageService.uploadFile(file, request, uploadedBy(authentication));
         return ApiResponse.success("File uploaded successfully", response);
     }
 
+    @PostMapping("/uploads")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Start resumable upload", description = "Starts a chunked upload for large files such as videos")
+    public ApiResponse<UploadSessionResponse> startUpload(
+            @Valid @RequestBody StartUploadRequest request,
+            Authentication authentication) {
+        UploadSessionResponse response = fileStorageService.startUpload(request, uploadedBy(authentication));
+        return ApiResponse.success("Upload started", response);
+    }
+
+    @GetMapping("/uploads/{uploadId}")
+    @Operation(summary = "Get upload status", description = "Returns the offset a resumed upload continues from")
+    public ApiResponse<UploadSessionResponse> getUpload(@PathVariable String uploadId, Authentication authentication) {
+        return ApiResponse.success(fileStorageService.getUpload(uploadId, uploadedBy(authentication)));
+    }
+
+    @PutMapping(value = "/uploads/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Upload chunk", description = "Appends raw bytes at the given offset")
+    public ApiResponse<UploadSessionResponse> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestParam("offset") long offset,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+        UploadSessionResponse response = fileStorageService.appendChunk(
+            uploadId, offset, request.getInputStream(), uploadedBy(authentication));
+        return ApiResponse.success(response);
+    }
+
+    @PostMapping("/uploads/{uploadId}/complete")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Complete resumable upload", description = "Stores the uploaded content and creates the file")
+    public ApiResponse<FileResponse> completeUpload(@PathVariable String uploadId, Authentication authentication) {
+        FileResponse response = fileStorageService.completeUpload(uploadId, uploadedBy(authentication));
+        return ApiResponse.success("File uploaded successfully", response);
+    }
+
+    @DeleteMapping("/uploads/{uploadId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Abort resumable upload", description = "Discards an unfinished upload")
+    public ApiResponse<Void> abortUpload(@PathVariable String uploadId, Authentication authentication) {
+        fileStorageService.abortUpload(uploadId, uploadedBy(authentication));
+        return ApiResponse.success("Upload aborted", null);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get file info", description = "Returns file metadata")
     public ApiResponse<FileResponse> getFileInfo(@PathVariable Long id) {
@@ -69,27 +115,21 @@ public class FileController {
     }
 
     @GetMapping("/{id}/download")
-    @Operation(summary = "Download file", description = "Downloads file content")
-    public ResponseEntity<InputStreamResource> downloadFile(@PathVariable Long id) throws IOException {
-        FileResponse fileInfo = fileStorageService.getById(id);
-        InputStream inputStream = fileStorageService.getFileContent(id);
-
-        return ResponseEntity.ok()
-            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileInfo.fileName() + "\"")
-            .contentType(MediaType.parseMediaType(fileInfo.contentType()))
-            .body(new InputStreamResource(inputStream));
+    @Operation(summary = "Download file", description = "Downloads file content; supports byte ranges and conditional requests")
+    public void downloadFile(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        fileDownloadWriter.write(fileStorageService.getStoredFile(id, null), false, request, response);
     }
 
     @GetMapping("/{id}/view")
-    @Operation(summary = "View file", description = "Views file inline")
-    public ResponseEntity<InputStreamResource> viewFile(@PathVariable Long id) throws IOException {
-        FileResponse fileInfo = fileStorageService.getById(id);
-        InputStream inputStream = fileStorageService.getFileContent(id);
-
-        return ResponseEntity.ok()
-            .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + fileInfo.fileName() + "\"")
-            .contentType(MediaType.parseMediaType(fileInfo.contentType()))
-            .body(new InputStreamResource(inputStream));
+    @Operation(summary = "View file",
+        description = "Views file inline; images can be requested as THUMBNAIL or PREVIEW. Supports byte ranges and conditional requests")
+    public void viewFile(
+            @PathVariable Long id,
+            @RequestParam(value = "size", required = false) FileVariantType size,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        fileDownloadWriter.write(fileStorageService.getStoredFile(id, size), true, request, response);
     }
 
     @DeleteMapping("/{id}")
@@ -99,4 +139,8 @@ public class FileController {
         fileStorageService.deleteFile(id);
         return ApiResponse.success("File deleted successfully", null);
     }
+
+    private String uploadedBy(Authentication authentication) {
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
 }
@@ -1,8 +1,10 @@
 package com.reindecar.controller.leasing;
 
 import com.reindecar.dto.leasing.GenerateInvoiceRequest;
+import com.reindecar.dto.leasing.InvoiceRunResponse;
 import com.reindecar.dto.leasing.LeasingInvoiceResponse;
 import com.reindecar.service.leasing.LeasingInvoiceService;
+import com.reindecar.service.leasing.MonthlyInvoiceRunService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -21,6 +23,7 @@ import java.util.List;
 public class LeasingInvoiceController {
 
     private final LeasingInvoiceService invoiceService;
+    private final MonthlyInvoiceRunService invoiceRunService;
 
     @PostMapping("/generate")
     @PreAuthorize("hasRole('ADMIN')")
@@ -30,6 +33,13 @@ public class LeasingInvoiceController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @GetMapping("/runs")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get recent monthly invoice runs with throughput and error statistics")
+    public ResponseEntity<List<InvoiceRunResponse>> getRuns() {
+        return ResponseEntity.ok(invoiceRunService.getRecentRuns());
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get invoice by ID")
     public ResponseEntity<LeasingInvoiceResponse> getById(@PathVariable Long id) {
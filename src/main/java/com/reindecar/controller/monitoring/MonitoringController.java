@@ -0,0 +1,44 @@
+package com.reindecar.controller.monitoring;
+
+import com.reindecar.common.dto.ApiResponse;
+import com.reindecar.common.monitoring.MethodTimingRegistry;
+import com.reindecar.dto.monitoring.MethodTimingResponse;
+import com.reindecar.service.rental.overdue.OverdueRentalSweeper;
+import com.reindecar.service.rental.overdue.OverdueSweepResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/monitoring")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Monitoring", description = "Runtime metrics endpoints")
+public class MonitoringController {
+
+    private final MethodTimingRegistry methodTimingRegistry;
+    private final OverdueRentalSweeper overdueRentalSweeper;
+
+    @GetMapping("/timings")
+    @Operation(summary = "Get method timings", description = "Returns latency histograms (count, p50, p95, p99) per controller and service method")
+    public ApiResponse<List<MethodTimingResponse>> getTimings() {
+        return ApiResponse.success(methodTimingRegistry.snapshot());
+    }
+
+    @DeleteMapping("/timings")
+    @Operation(summary = "Reset method timings", description = "Clears all collected method timings")
+    public ApiResponse<Void> resetTimings() {
+        methodTimingRegistry.reset();
+        return ApiResponse.success("Timings reset");
+    }
+
+    @GetMapping("/overdue-sweeps")
+    @Operation(summary = "Get overdue sweep runs", description = "Returns rows touched and duration of the most recent overdue rental sweeps")
+    public ApiResponse<List<OverdueSweepResult>> getOverdueSweeps() {
+        return ApiResponse.success(overdueRentalSweeper.getRecentRuns());
+    }
+}
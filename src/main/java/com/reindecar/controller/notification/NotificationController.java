@@ -4,6 +4,7 @@ import com.reindecar.common.dto.ApiResponse;
 import com.reindecar.dto.notification.NotificationCountResponse;
 import com.reindecar.dto.notification.NotificationResponse;
 import com.reindecar.service.notification.NotificationService;
+import com.reindecar.service.notification.NotificationStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +12,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -23,6 +26,7 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
 
     @GetMapping
     @Operation(summary = "Get notifications", description = "Returns user notifications")
@@ -50,6 +54,14 @@ public class NotificationController {
         return ApiResponse.success(count);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream notifications",
+        description = "Server-Sent Events stream of new notifications ('notification') and counter changes ('count')")
+    public SseEmitter streamNotifications(Authentication authentication) {
+        Long userId = getUserId(authentication);
+        return notificationStreamService.subscribe(userId);
+    }
+
     @PatchMapping("/{id}/read")
     @Operation(summary = "Mark as read", description = "Marks notification as read")
     public ApiResponse<Void> markAsRead(@PathVariable Long id) {
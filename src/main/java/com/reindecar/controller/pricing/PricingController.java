@@ -1,6 +1,7 @@
 package com.reindecar.controller.pricing;
 
 import com.reindecar.common.dto.ApiResponse;
+import com.reindecar.dto.pricing.BatchCalculatePriceRequest;
 import com.reindecar.dto.pricing.CalculatePriceRequest;
 import com.reindecar.dto.pricing.PriceCalculationResponse;
 import com.reindecar.service.pricing.PriceCalculationService;
@@ -10,6 +11,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/pricing")
 @RequiredArgsConstructor
@@ -24,4 +27,11 @@ public class PricingController {
         PriceCalculationResponse response = priceCalculationService.calculatePrice(request);
         return ApiResponse.success(response);
     }
+
+    @PostMapping("/calculate/batch")
+    @Operation(summary = "Calculate prices in batch", description = "Calculates rental prices for multiple vehicles with the same rental parameters")
+    public ApiResponse<List<PriceCalculationResponse>> calculatePrices(@Valid @RequestBody BatchCalculatePriceRequest request) {
+        List<PriceCalculationResponse> responses = priceCalculationService.calculatePrices(request);
+        return ApiResponse.success(responses);
+    }
 }
@@ -68,6 +68,17 @@ public class RentalController {
         return ApiResponse.success("Rental created successfully", rental);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Create rentals in bulk",
+               description = "Creates DRAFT rentals for several vehicles of a company customer and reports the result per vehicle")
+    public ApiResponse<BulkCreateRentalResponse> createRentalsBulk(
+            @Valid @RequestBody BulkCreateRentalRequest request,
+            Authentication authentication) {
+        String createdBy = authentication.getName();
+        BulkCreateRentalResponse response = rentalService.createRentalsBulk(request, createdBy);
+        return ApiResponse.success(response);
+    }
+
     @PostMapping("/{id}/reserve")
     @Operation(summary = "Reserve rental", description = "Changes status from DRAFT to RESERVED")
     public ApiResponse<RentalResponse> reserveRental(@PathVariable Long id) {
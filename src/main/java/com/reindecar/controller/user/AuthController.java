@@ -5,11 +5,13 @@ import com.reindecar.dto.user.LoginRequest;
 import com.reindecar.dto.user.LoginResponse;
 import com.reindecar.dto.user.RefreshTokenRequest;
 import com.reindecar.dto.user.UserResponse;
+import com.reindecar.security.TokenCacheStats;
 import com.reindecar.service.user.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
@@ -48,4 +50,11 @@ public class AuthController {
         UserResponse user = userService.getCurrentUser(username);
         return ApiResponse.success(user);
     }
+
+    @GetMapping("/token-cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get token cache statistics", description = "Returns hit/miss counters of the verified JWT claims cache")
+    public ApiResponse<TokenCacheStats> getTokenCacheStats() {
+        return ApiResponse.success(userService.getTokenCacheStats());
+    }
 }
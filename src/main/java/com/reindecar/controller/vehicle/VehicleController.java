@@ -7,11 +7,14 @@ import com.reindecar.dto.maintenance.VehicleMaintenanceMapResponse;
 import com.reindecar.dto.vehicle.CreateVehicleRequest;
 import com.reindecar.dto.vehicle.UpdateVehicleDetailsRequest;
 import com.reindecar.dto.vehicle.UpdateVehicleStatusRequest;
+import com.reindecar.dto.vehicle.VehicleAvailabilitySearchRequest;
 import com.reindecar.dto.vehicle.VehicleCombinedMapResponse;
 import com.reindecar.dto.vehicle.VehicleDetailsResponse;
 import com.reindecar.dto.vehicle.VehicleHistoryResponse;
+import com.reindecar.dto.vehicle.VehicleQuoteResponse;
 import com.reindecar.dto.vehicle.VehicleResponse;
 import com.reindecar.dto.vehicle.VehicleStatusHistoryResponse;
+import com.reindecar.entity.pricing.RentalType;
 import com.reindecar.service.damage.DamageService;
 import com.reindecar.service.maintenance.MaintenanceService;
 import com.reindecar.service.vehicle.VehicleCombinedMapService;
@@ -72,6 +75,24 @@ public class VehicleController {
         return ApiResponse.success(vehicles);
     }
 
+    @GetMapping("/available-with-prices")
+    @Operation(summary = "Search available vehicles with prices", description = "Returns vehicles available for the given period with their computed price, sortable by price")
+    public ApiResponse<PageResponse<VehicleQuoteResponse>> searchAvailableWithPrices(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam RentalType rentalType,
+            @RequestParam(required = false) Long branchId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long customerId,
+            @RequestParam(required = false) Integer termMonths,
+            @RequestParam(defaultValue = "ASC") Sort.Direction priceDirection,
+            @PageableDefault(size = 20) Pageable pageable) {
+        VehicleAvailabilitySearchRequest request = new VehicleAvailabilitySearchRequest(
+            startDate, endDate, rentalType, branchId, categoryId, customerId, termMonths, priceDirection);
+        PageResponse<VehicleQuoteResponse> vehicles = vehicleService.searchAvailableWithPrices(request, pageable);
+        return ApiResponse.success(vehicles);
+    }
+
     @GetMapping("/branch/{branchId}")
     @Operation(summary = "Get vehicles by branch", description = "Returns vehicles for specific branch")
     public ApiResponse<PageResponse<VehicleResponse>> getVehiclesByBranch(
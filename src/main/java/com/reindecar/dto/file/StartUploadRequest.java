@@ -0,0 +1,31 @@
+package com.reindecar.dto.file;
+
+import com.reindecar.entity.file.FileReferenceType;
+import com.reindecar.entity.file.FileUploadType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+public record StartUploadRequest(
+    @NotBlank(message = "File name is required")
+    @Size(max = 255, message = "File name must not exceed 255 characters")
+    String fileName,
+
+    @Size(max = 100, message = "Content type must not exceed 100 characters")
+    String contentType,
+
+    @NotNull(message = "Total size is required")
+    @Positive(message = "Total size must be positive")
+    Long totalSize,
+
+    @NotNull(message = "Reference type is required")
+    FileReferenceType referenceType,
+
+    Long referenceId,
+
+    @NotNull(message = "Upload type is required")
+    FileUploadType uploadType,
+
+    boolean isPublic
+) {}
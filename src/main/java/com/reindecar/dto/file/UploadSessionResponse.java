@@ -0,0 +1,25 @@
+package com.reindecar.dto.file;
+
+import com.reindecar.entity.file.UploadSession;
+
+import java.time.Instant;
+
+public record UploadSessionResponse(
+    String uploadId,
+    String fileName,
+    long totalSize,
+    long receivedBytes,
+    boolean complete,
+    Instant expiresAt
+) {
+    public static UploadSessionResponse from(UploadSession session) {
+        return new UploadSessionResponse(
+            session.getUploadId(),
+            session.getFileName(),
+            session.getTotalSize(),
+            session.getReceivedBytes(),
+            session.isComplete(),
+            session.getExpiresAt()
+        );
+    }
+}
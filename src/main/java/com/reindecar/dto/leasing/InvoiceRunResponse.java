@@ -0,0 +1,42 @@
+package com.reindecar.dto.leasing;
+
+import com.reindecar.entity.leasing.InvoiceRun;
+
+import java.time.Instant;
+
+public record InvoiceRunResponse(
+    Long id,
+    String period,
+    InvoiceRun.RunStatus status,
+    long lastRentalId,
+    int processedCount,
+    int createdCount,
+    int skippedCount,
+    int failedCount,
+    long processingMillis,
+    double rentalsPerSecond,
+    String lastError,
+    Instant startedAt,
+    Instant finishedAt
+) {
+    public static InvoiceRunResponse from(InvoiceRun run) {
+        double rentalsPerSecond = run.getProcessingMillis() > 0
+            ? run.getProcessedCount() * 1000.0 / run.getProcessingMillis()
+            : 0.0;
+        return new InvoiceRunResponse(
+            run.getId(),
+            run.getPeriod(),
+            run.getStatus(),
+            run.getLastRentalId(),
+            run.getProcessedCount(),
+            run.getCreatedCount(),
+            run.getSkippedCount(),
+            run.getFailedCount(),
+            run.getProcessingMillis(),
+            rentalsPerSecond,
+            run.getLastError(),
+            run.getStartedAt(),
+            run.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.reindecar.dto.monitoring;
+
+public record MethodTimingResponse(
+    String layer,
+    String method,
+    long count,
+    double totalMs,
+    double meanMs,
+    double p50Ms,
+    double p95Ms,
+    double p99Ms,
+    double maxMs
+) {}
@@ -0,0 +1,44 @@
+package com.reindecar.dto.pricing;
+
+import com.reindecar.entity.pricing.RentalType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "Toplu fiyat hesaplama isteği")
+public record BatchCalculatePriceRequest(
+    @NotEmpty(message = "Vehicle IDs are required")
+    @Size(max = 200, message = "At most 200 vehicles can be priced in one request")
+    @Schema(description = "Araç ID listesi", example = "[1, 2, 3]")
+    List<Long> vehicleIds,
+
+    @Schema(description = "Müşteri ID (özel fiyat için)", example = "1")
+    Long customerId,
+
+    @NotNull(message = "Rental type is required")
+    @Schema(description = "Kiralama tipi", example = "DAILY")
+    RentalType rentalType,
+
+    @NotNull(message = "Start date is required")
+    @Schema(description = "Kiralama başlangıç tarihi", example = "2026-01-15")
+    LocalDate startDate,
+
+    @NotNull(message = "End date is required")
+    @Schema(description = "Kiralama bitiş tarihi", example = "2026-01-20")
+    LocalDate endDate,
+
+    @Schema(description = "Vade süresi (ay) - Leasing için", example = "24")
+    Integer termMonths,
+
+    @Schema(description = "Km paketi ID (opsiyonel)", example = "1")
+    Long kmPackageId
+) {
+    public CalculatePriceRequest forVehicle(Long vehicleId) {
+        return new CalculatePriceRequest(
+            vehicleId, customerId, rentalType, startDate, endDate, termMonths, kmPackageId);
+    }
+}
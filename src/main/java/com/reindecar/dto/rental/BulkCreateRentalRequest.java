@@ -0,0 +1,69 @@
+package com.reindecar.dto.rental;
+
+import com.reindecar.entity.pricing.RentalType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "Request to create rentals for several vehicles of a company customer in one call")
+public record BulkCreateRentalRequest(
+    @NotNull(message = "Rental type is required")
+    @Schema(description = "Type of rental (DAILY, WEEKLY, MONTHLY, LEASING)")
+    RentalType rentalType,
+
+    @NotNull(message = "Customer ID is required")
+    @Schema(description = "ID of the company customer", example = "1")
+    Long customerId,
+
+    @Schema(description = "ID of contract signer", example = "1")
+    Long contractSignerId,
+
+    @Schema(description = "Name of contract signer")
+    String contractSignerName,
+
+    @NotNull(message = "Branch ID is required")
+    @Schema(description = "Pickup branch ID", example = "1")
+    Long branchId,
+
+    @Schema(description = "Return branch ID (optional, same as pickup if not specified)", example = "2")
+    Long returnBranchId,
+
+    @NotNull(message = "Start date is required")
+    @FutureOrPresent(message = "Start date cannot be in the past")
+    @Schema(description = "Rental start date", example = "2026-01-10")
+    LocalDate startDate,
+
+    @NotNull(message = "End date is required")
+    @Future(message = "End date must be in the future")
+    @Schema(description = "Rental end date", example = "2026-01-15")
+    LocalDate endDate,
+
+    @Schema(description = "Term months for LEASING rentals", example = "24")
+    Integer termMonths,
+
+    @Schema(description = "Kilometer package ID (optional)", example = "1")
+    Long kmPackageId,
+
+    @Schema(description = "Custom included KM (overrides package value)", example = "7500")
+    Integer customIncludedKm,
+
+    @Schema(description = "Custom extra KM price (overrides package value)", example = "0.75")
+    BigDecimal customExtraKmPrice,
+
+    @Schema(description = "Additional notes applied to every rental")
+    String notes,
+
+    @Valid
+    @NotEmpty(message = "At least one vehicle is required")
+    @Size(max = 200, message = "At most 200 vehicles can be booked in one request")
+    @Schema(description = "Vehicles to book with their drivers")
+    List<BulkRentalVehicleRequest> vehicles
+) {}
@@ -0,0 +1,18 @@
+package com.reindecar.dto.rental;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a bulk rental request, one result per requested vehicle")
+public record BulkCreateRentalResponse(
+    int requested,
+    int created,
+    int failed,
+    List<BulkRentalResult> results
+) {
+    public static BulkCreateRentalResponse of(List<BulkRentalResult> results) {
+        int created = (int) results.stream().filter(BulkRentalResult::success).count();
+        return new BulkCreateRentalResponse(results.size(), created, results.size() - created, results);
+    }
+}
@@ -0,0 +1,21 @@
+package com.reindecar.dto.rental;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result of a single vehicle in a bulk rental request")
+public record BulkRentalResult(
+    Long vehicleId,
+    boolean success,
+    Long rentalId,
+    String rentalNumber,
+    String errorCode,
+    String message
+) {
+    public static BulkRentalResult created(Long vehicleId, Long rentalId, String rentalNumber) {
+        return new BulkRentalResult(vehicleId, true, rentalId, rentalNumber, null, null);
+    }
+
+    public static BulkRentalResult failed(Long vehicleId, String errorCode, String message) {
+        return new BulkRentalResult(vehicleId, false, null, null, errorCode, message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.reindecar.dto.rental;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+@Schema(description = "Vehicle entry of a bulk rental request")
+public record BulkRentalVehicleRequest(
+    @NotNull(message = "Vehicle ID is required")
+    @Schema(description = "ID of the vehicle to rent", example = "1")
+    Long vehicleId,
+
+    @NotEmpty(message = "En az bir sürücü gereklidir")
+    @Schema(description = "List of driver IDs", requiredMode = Schema.RequiredMode.REQUIRED)
+    List<Long> driverIds,
+
+    @NotNull(message = "Ana sürücü belirtilmelidir")
+    @Schema(description = "Primary driver ID (must be in driverIds list)", requiredMode = Schema.RequiredMode.REQUIRED)
+    Long primaryDriverId
+) {}
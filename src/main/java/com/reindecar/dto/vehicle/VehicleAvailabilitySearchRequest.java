@@ -0,0 +1,17 @@
+package com.reindecar.dto.vehicle;
+
+import com.reindecar.entity.pricing.RentalType;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+
+public record VehicleAvailabilitySearchRequest(
+    LocalDate startDate,
+    LocalDate endDate,
+    RentalType rentalType,
+    Long branchId,
+    Long categoryId,
+    Long customerId,
+    Integer termMonths,
+    Sort.Direction priceDirection
+) {}
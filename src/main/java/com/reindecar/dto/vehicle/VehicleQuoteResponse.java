@@ -0,0 +1,17 @@
+package com.reindecar.dto.vehicle;
+
+import com.reindecar.entity.pricing.RentalType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record VehicleQuoteResponse(
+    VehicleResponse vehicle,
+    RentalType rentalType,
+    LocalDate startDate,
+    LocalDate endDate,
+    int totalDays,
+    BigDecimal unitPrice,
+    BigDecimal totalPrice,
+    String currency
+) {}
@@ -0,0 +1,46 @@
+package com.reindecar.entity.file;
+
+import com.reindecar.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Stored content shared by every {@link FileMetadata} with the same SHA-256 checksum.
+ * {@code referenceCount} is the number of metadata rows pointing at the blob. A blob whose last
+ * reference is gone stays as a tombstone until its object has been deleted; an upload of the same
+ * content before that revives it with a newly written object.
+ */
+@Entity
+@Table(name = "file_blobs", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_file_blob_hash", columnNames = "hash")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FileBlob extends BaseEntity {
+
+    @Column(nullable = false, length = 64)
+    private String hash;
+
+    @Column(nullable = false, length = 500)
+    private String path;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(name = "reference_count", nullable = false)
+    private int referenceCount;
+
+    public static FileBlob create(String hash, String path, long size) {
+        FileBlob blob = new FileBlob();
+        blob.hash = hash;
+        blob.path = path;
+        blob.size = size;
+        blob.referenceCount = 1;
+        return blob;
+    }
+}
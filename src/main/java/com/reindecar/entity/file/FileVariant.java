@@ -0,0 +1,67 @@
+package com.reindecar.entity.file;
+
+import com.reindecar.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Downscaled rendition of an image file. The content is a blob like any upload, so identical
+ * renditions share storage and are released together with the original file.
+ */
+@Entity
+@Table(name = "file_variants", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_file_variant", columnNames = {"file_id", "variant"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FileVariant extends BaseEntity {
+
+    @Column(name = "file_id", nullable = false)
+    private Long fileId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FileVariantType variant;
+
+    @Column(nullable = false, length = 500)
+    private String path;
+
+    @Column(nullable = false, length = 64)
+    private String checksum;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private int width;
+
+    @Column(nullable = false)
+    private int height;
+
+    public static FileVariant create(
+            Long fileId,
+            FileVariantType variant,
+            String path,
+            String checksum,
+            String contentType,
+            long size,
+            int width,
+            int height) {
+
+        FileVariant fileVariant = new FileVariant();
+        fileVariant.fileId = fileId;
+        fileVariant.variant = variant;
+        fileVariant.path = path;
+        fileVariant.checksum = checksum;
+        fileVariant.contentType = contentType;
+        fileVariant.size = size;
+        fileVariant.width = width;
+        fileVariant.height = height;
+        return fileVariant;
+    }
+}
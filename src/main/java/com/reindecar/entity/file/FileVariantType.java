@@ -0,0 +1,6 @@
+package com.reindecar.entity.file;
+
+public enum FileVariantType {
+    THUMBNAIL,
+    PREVIEW
+}
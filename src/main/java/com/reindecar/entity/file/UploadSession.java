@@ -0,0 +1,87 @@
+package com.reindecar.entity.file;
+
+import com.reindecar.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Resumable upload in progress. Chunks are appended to a part file on the node that received
+ * the session; {@code receivedBytes} is the offset the next chunk has to start at.
+ */
+@Entity
+@Table(name = "upload_sessions", indexes = {
+    @Index(name = "idx_upload_session_expires", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadSession extends BaseEntity {
+
+    @Column(name = "upload_id", nullable = false, unique = true, length = 36)
+    private String uploadId;
+
+    @Column(name = "file_name", nullable = false, length = 255)
+    private String fileName;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "total_size", nullable = false)
+    private long totalSize;
+
+    @Column(name = "received_bytes", nullable = false)
+    private long receivedBytes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reference_type", nullable = false, length = 20)
+    private FileReferenceType referenceType;
+
+    @Column(name = "reference_id")
+    private Long referenceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "upload_type", nullable = false, length = 30)
+    private FileUploadType uploadType;
+
+    @Column(name = "is_public", nullable = false)
+    private boolean isPublic;
+
+    @Column(name = "uploaded_by", length = 100)
+    private String uploadedBy;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public static UploadSession start(
+            String fileName,
+            String contentType,
+            long totalSize,
+            FileReferenceType referenceType,
+            Long referenceId,
+            FileUploadType uploadType,
+            boolean isPublic,
+            String uploadedBy,
+            Instant expiresAt) {
+
+        UploadSession session = new UploadSession();
+        session.uploadId = UUID.randomUUID().toString();
+        session.fileName = fileName;
+        session.contentType = contentType;
+        session.totalSize = totalSize;
+        session.referenceType = referenceType;
+        session.referenceId = referenceId;
+        session.uploadType = uploadType;
+        session.isPublic = isPublic;
+        session.uploadedBy = uploadedBy;
+        session.expiresAt = expiresAt;
+        return session;
+    }
+
+    public boolean isComplete() {
+        return receivedBytes == totalSize;
+    }
+}
@@ -0,0 +1,93 @@
+package com.reindecar.entity.leasing;
+
+import com.reindecar.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Progress of the monthly leasing invoice run for one billing period.
+ * {@code lastRentalId} is the checkpoint: rentals are processed in ascending id order, so a run
+ * that stopped midway continues with the first rental after it.
+ */
+@Entity
+@Table(name = "invoice_runs", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_invoice_run_period", columnNames = "period")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InvoiceRun extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Column(nullable = false, length = 7)
+    private String period;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RunStatus status;
+
+    @Column(name = "last_rental_id", nullable = false)
+    private long lastRentalId;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    @Column(name = "created_count", nullable = false)
+    private int createdCount;
+
+    @Column(name = "skipped_count", nullable = false)
+    private int skippedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    @Column(name = "processing_millis", nullable = false)
+    private long processingMillis;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public static InvoiceRun start(String period) {
+        InvoiceRun run = new InvoiceRun();
+        run.period = period;
+        run.status = RunStatus.RUNNING;
+        run.startedAt = Instant.now();
+        return run;
+    }
+
+    public void checkpoint(long lastRentalId, int created, int skipped, int failed, long elapsedMillis, String error) {
+        this.lastRentalId = lastRentalId;
+        this.processedCount += created + skipped + failed;
+        this.createdCount += created;
+        this.skippedCount += skipped;
+        this.failedCount += failed;
+        this.processingMillis += elapsedMillis;
+        if (error != null) {
+            this.lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        }
+    }
+
+    public void complete() {
+        this.status = RunStatus.COMPLETED;
+        this.finishedAt = Instant.now();
+    }
+
+    public boolean isCompleted() {
+        return status == RunStatus.COMPLETED;
+    }
+
+    public enum RunStatus {
+        RUNNING,
+        COMPLETED
+    }
+}
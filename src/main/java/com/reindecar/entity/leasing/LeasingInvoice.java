@@ -14,7 +14,9 @@ import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "leasing_invoices", indexes = {
+@Table(name = "leasing_invoices", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_leasing_invoice_rental_period", columnNames = {"rental_id", "period_start", "period_end"})
+}, indexes = {
     @Index(name = "idx_invoice_rental", columnList = "rental_id"),
     @Index(name = "idx_invoice_number", columnList = "invoice_number"),
     @Index(name = "idx_invoice_status", columnList = "status")
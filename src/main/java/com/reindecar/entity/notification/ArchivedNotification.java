@@ -0,0 +1,63 @@
+package com.reindecar.entity.notification;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Read or dismissed notification moved out of the notifications table by the retention job.
+ * Rows keep the id and timestamps of the original notification and are written only in bulk.
+ */
+@Entity
+@Table(name = "notification_archive", indexes = {
+    @Index(name = "idx_notification_archive_recipient", columnList = "recipient_user_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedNotification {
+
+    @Id
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private NotificationType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private NotificationPriority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 15)
+    private NotificationStatus status;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(length = 1000)
+    private String message;
+
+    @Column(length = 30)
+    private String referenceType;
+
+    @Column
+    private Long referenceId;
+
+    @Column
+    private Long recipientUserId;
+
+    @Column
+    private Instant readAt;
+
+    @Column
+    private Instant dismissedAt;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,55 @@
+package com.reindecar.entity.payment;
+
+import com.reindecar.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Pre-aggregated revenue of completed payments per calendar month and currency.
+ * {@code period} is stored as yyyyMM so month ranges can be read with a simple BETWEEN.
+ */
+@Entity
+@Table(name = "monthly_revenues", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_monthly_revenue_period_currency", columnNames = {"period", "currency"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MonthlyRevenue extends BaseEntity {
+
+    @Column(nullable = false)
+    private int period;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalAmount;
+
+    @Column(nullable = false)
+    private long paymentCount;
+
+    public static MonthlyRevenue create(int period, String currency, BigDecimal totalAmount, long paymentCount) {
+        MonthlyRevenue revenue = new MonthlyRevenue();
+        revenue.period = period;
+        revenue.currency = currency;
+        revenue.totalAmount = totalAmount;
+        revenue.paymentCount = paymentCount;
+        return revenue;
+    }
+
+    public static int periodOf(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public YearMonth getYearMonth() {
+        return YearMonth.of(period / 100, period % 100);
+    }
+}
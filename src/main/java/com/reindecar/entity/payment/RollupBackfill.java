@@ -0,0 +1,44 @@
+package com.reindecar.entity.payment;
+
+import com.reindecar.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Progress of the one-time backfill of a rollup.
+ * Months before {@code cutOverPeriod} (yyyyMM) are built from the source table; from the cut-over on
+ * the rollup is only maintained as records are written. The row stays once {@code completedAt} is set,
+ * so the backfill never runs again.
+ */
+@Entity
+@Table(name = "rollup_backfills")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RollupBackfill extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String name;
+
+    @Column(name = "cut_over_period", nullable = false)
+    private int cutOverPeriod;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    public static RollupBackfill start(String name, int cutOverPeriod) {
+        RollupBackfill backfill = new RollupBackfill();
+        backfill.name = name;
+        backfill.cutOverPeriod = cutOverPeriod;
+        return backfill;
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.reindecar.entity.scheduling;
+
+import com.reindecar.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Cluster-wide lease of a scheduled job or job shard.
+ * A node owns the lock while {@code lockedUntil} lies in the future; expired leases can be taken
+ * over by any node, so a crashed owner blocks the job at most until its lease runs out.
+ */
+@Entity
+@Table(name = "job_locks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLock extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String name;
+
+    @Column(name = "locked_by", nullable = false, length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_at", nullable = false)
+    private Instant lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private Instant lockedUntil;
+
+    public static JobLock acquire(String name, String lockedBy, Instant lockedAt, Instant lockedUntil) {
+        JobLock lock = new JobLock();
+        lock.name = name;
+        lock.lockedBy = lockedBy;
+        lock.lockedAt = lockedAt;
+        lock.lockedUntil = lockedUntil;
+        return lock;
+    }
+}
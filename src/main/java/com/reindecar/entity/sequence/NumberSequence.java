@@ -0,0 +1,33 @@
+package com.reindecar.entity.sequence;
+
+import com.reindecar.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Database-backed counter for human readable document numbers.
+ * One row exists per prefix and year; nodes reserve blocks of values by advancing {@code nextValue}.
+ */
+@Entity
+@Table(name = "number_sequences")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NumberSequence extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String sequenceKey;
+
+    @Column(nullable = false)
+    private long nextValue;
+
+    public static NumberSequence create(String sequenceKey, long nextValue) {
+        NumberSequence sequence = new NumberSequence();
+        sequence.sequenceKey = sequenceKey;
+        sequence.nextValue = nextValue;
+        return sequence;
+    }
+}
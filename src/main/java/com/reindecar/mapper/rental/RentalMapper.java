@@ -4,8 +4,15 @@ import com.reindecar.dto.rental.RentalResponse;
 import com.reindecar.entity.rental.Rental;
 import com.reindecar.entity.rental.RentalDriver;
 import com.reindecar.repository.rental.RentalDriverRepository;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 @Component
 public class RentalMapper {
 
@@ -16,6 +23,28 @@ public class RentalMapper {
     }
 
     public RentalResponse toResponse(Rental rental) {
+        return toResponse(rental, getPrimaryDriverId(rental));
+    }
+
+    /**
+     * Maps a page of rentals resolving all primary drivers with a single query.
+     */
+    public Page<RentalResponse> toResponsePage(Page<Rental> rentals) {
+        Map<Long, Long> primaryDrivers = getPrimaryDriverIds(rentals.getContent());
+        return rentals.map(rental -> toResponse(rental, primaryDrivers.get(rental.getId())));
+    }
+
+    /**
+     * Maps a list of rentals resolving all primary drivers with a single query.
+     */
+    public List<RentalResponse> toResponseList(List<Rental> rentals) {
+        Map<Long, Long> primaryDrivers = getPrimaryDriverIds(rentals);
+        return rentals.stream()
+            .map(rental -> toResponse(rental, primaryDrivers.get(rental.getId())))
+            .toList();
+    }
+
+    public RentalResponse toResponse(Rental rental, Long primaryDriverId) {
         if (rental == null) {
             return null;
         }
@@ -27,7 +56,7 @@ public class RentalMapper {
             rental.getStatus(),
             rental.getVehicleId(),
             rental.getCustomerId(),
-            getPrimaryDriverId(rental),
+            primaryDriverId,
             rental.getBranchId(),
             rental.getReturnBranchId(),
             rental.getStartDate(),
@@ -65,4 +94,16 @@ public class RentalMapper {
             .map(RentalDriver::getDriverId)
             .orElse(null);
     }
+
+    private Map<Long, Long> getPrimaryDriverIds(Collection<Rental> rentals) {
+        List<Long> rentalIds = rentals.stream()
+            .map(Rental::getId)
+            .filter(Objects::nonNull)
+            .toList();
+        if (rentalIds.isEmpty()) {
+            return Map.of();
+        }
+        return rentalDriverRepository.findByRentalIdInAndPrimaryTrue(rentalIds).stream()
+            .collect(Collectors.toMap(RentalDriver::getRentalId, RentalDriver::getDriverId, (first, second) -> first));
+    }
 }
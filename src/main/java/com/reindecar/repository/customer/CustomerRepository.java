@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -51,4 +52,8 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     long countByStatusAndDeletedFalse(CustomerStatus status);
 
     long countByBlacklistedTrueAndDeletedFalse();
+
+    @Query("SELECT c.status, c.blacklisted, COUNT(c) FROM Customer c WHERE c.deleted = false " +
+           "GROUP BY c.status, c.blacklisted")
+    List<Object[]> countGroupedByStatusAndBlacklisted();
 }
@@ -0,0 +1,45 @@
+package com.reindecar.repository.file;
+
+import com.reindecar.entity.file.FileBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, Long> {
+
+    Optional<FileBlob> findByHash(String hash);
+
+    @Query("SELECT b.referenceCount FROM FileBlob b WHERE b.hash = :hash")
+    Optional<Integer> findReferenceCount(String hash);
+
+    /**
+     * Adds a reference to a live blob; tombstones with no references are left alone.
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.referenceCount = b.referenceCount + 1, " +
+           "b.version = b.version + 1, b.updatedAt = :now WHERE b.hash = :hash AND b.referenceCount > 0")
+    int addReference(String hash, Instant now);
+
+    /**
+     * Points a tombstone at a newly written object and gives it its first reference.
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.referenceCount = 1, b.path = :path, b.size = :size, " +
+           "b.version = b.version + 1, b.updatedAt = :now " +
+           "WHERE b.hash = :hash AND b.path = :tombstonePath AND b.referenceCount = 0")
+    int revive(String hash, String tombstonePath, String path, long size, Instant now);
+
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.referenceCount = b.referenceCount - 1, " +
+           "b.version = b.version + 1, b.updatedAt = :now WHERE b.hash = :hash AND b.referenceCount > 0")
+    int removeReference(String hash, Instant now);
+
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.hash = :hash AND b.path = :path AND b.referenceCount = 0")
+    int deleteUnreferenced(String hash, String path);
+}
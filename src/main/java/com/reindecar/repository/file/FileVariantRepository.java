@@ -0,0 +1,25 @@
+package com.reindecar.repository.file;
+
+import com.reindecar.entity.file.FileVariant;
+import com.reindecar.entity.file.FileVariantType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FileVariantRepository extends JpaRepository<FileVariant, Long> {
+
+    Optional<FileVariant> findByFileIdAndVariant(Long fileId, FileVariantType variant);
+
+    List<FileVariant> findByFileId(Long fileId);
+
+    boolean existsByFileIdAndVariant(Long fileId, FileVariantType variant);
+
+    @Modifying
+    @Query("DELETE FROM FileVariant v WHERE v.fileId = :fileId")
+    int deleteByFileId(Long fileId);
+}
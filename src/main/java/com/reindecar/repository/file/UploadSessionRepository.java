@@ -0,0 +1,37 @@
+package com.reindecar.repository.file;
+
+import com.reindecar.entity.file.UploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, Long> {
+
+    Optional<UploadSession> findByUploadId(String uploadId);
+
+    /**
+     * Moves the session forward only if nobody else appended since {@code offset} was read.
+     */
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.receivedBytes = :receivedBytes, s.expiresAt = :expiresAt, " +
+           "s.version = s.version + 1, s.updatedAt = :now " +
+           "WHERE s.uploadId = :uploadId AND s.receivedBytes = :offset")
+    int advance(String uploadId, long offset, long receivedBytes, Instant expiresAt, Instant now);
+
+    @Query("SELECT s.uploadId FROM UploadSession s WHERE s.expiresAt < :now")
+    List<String> findExpiredUploadIds(Instant now);
+
+    @Modifying
+    @Query("DELETE FROM UploadSession s WHERE s.uploadId IN :uploadIds")
+    int deleteByUploadIds(List<String> uploadIds);
+
+    @Modifying
+    @Query("DELETE FROM UploadSession s WHERE s.uploadId = :uploadId")
+    int deleteByUploadId(String uploadId);
+}
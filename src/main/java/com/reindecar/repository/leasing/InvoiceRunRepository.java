@@ -0,0 +1,30 @@
+package com.reindecar.repository.leasing;
+
+import com.reindecar.entity.leasing.InvoiceRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface InvoiceRunRepository extends JpaRepository<InvoiceRun, Long> {
+
+    Optional<InvoiceRun> findByPeriod(String period);
+
+    List<InvoiceRun> findTop20ByOrderByStartedAtDesc();
+
+    @Query("SELECT r.period FROM InvoiceRun r WHERE r.status = :running AND r.updatedAt < :staleBefore ORDER BY r.period")
+    List<String> findStalledPeriods(InvoiceRun.RunStatus running, Instant staleBefore);
+
+    @Query("SELECT r.version FROM InvoiceRun r WHERE r.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InvoiceRun r SET r.version = r.version + 1, r.updatedAt = :now " +
+           "WHERE r.id = :id AND r.status = :running AND r.updatedAt < :staleBefore")
+    int claimStalled(Long id, InvoiceRun.RunStatus running, Instant staleBefore, Instant now);
+}
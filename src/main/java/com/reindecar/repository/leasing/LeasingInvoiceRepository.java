@@ -1,11 +1,15 @@
 package com.reindecar.repository.leasing;
 
 import com.reindecar.entity.leasing.LeasingInvoice;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,8 +26,19 @@ public interface LeasingInvoiceRepository extends JpaRepository<LeasingInvoice,
 
     boolean existsByRentalIdAndPeriodStartAndPeriodEnd(Long rentalId, LocalDate periodStart, LocalDate periodEnd);
 
-    @Query("SELECT i FROM LeasingInvoice i WHERE i.status = 'SENT' AND i.dueDate < :today")
-    List<LeasingInvoice> findOverdueInvoices(LocalDate today);
+    @Query("SELECT i.rentalId FROM LeasingInvoice i WHERE i.rentalId IN :rentalIds " +
+           "AND i.periodStart = :periodStart AND i.periodEnd = :periodEnd")
+    List<Long> findInvoicedRentalIds(Collection<Long> rentalIds, LocalDate periodStart, LocalDate periodEnd);
+
+    @Query("SELECT i.id FROM LeasingInvoice i WHERE i.status = :sent AND i.dueDate < :today " +
+           "AND i.id > :afterId ORDER BY i.id")
+    List<Long> findOverdueInvoiceIds(LeasingInvoice.InvoiceStatus sent, LocalDate today, long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE LeasingInvoice i SET i.status = :overdue, i.version = i.version + 1, i.updatedAt = :now " +
+           "WHERE i.id IN :ids AND i.status = :sent AND i.dueDate < :today")
+    int markOverdue(Collection<Long> ids, LeasingInvoice.InvoiceStatus sent, LeasingInvoice.InvoiceStatus overdue,
+                    LocalDate today, Instant now);
 
     @Query("SELECT i FROM LeasingInvoice i WHERE i.rentalId = :rentalId AND i.status != 'CANCELLED' AND i.status != 'PAID'")
     List<LeasingInvoice> findUnpaidByRentalId(Long rentalId);
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,8 @@ public interface LeasingKmRecordRepository extends JpaRepository<LeasingKmRecord
 
     Optional<LeasingKmRecord> findByRentalIdAndPeriodYearMonth(Long rentalId, String periodYearMonth);
 
+    List<LeasingKmRecord> findByRentalIdInAndPeriodYearMonth(Collection<Long> rentalIds, String periodYearMonth);
+
     @Query("SELECT SUM(r.excessKm) FROM LeasingKmRecord r WHERE r.rentalId = :rentalId")
     Integer getTotalExcessKm(Long rentalId);
 
@@ -0,0 +1,45 @@
+package com.reindecar.repository.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+
+/**
+ * Moves notifications into notification_archive with set-based statements.
+ * The rows are copied and deleted by id, so the caller decides the batch boundaries.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationArchiveRepository {
+
+    private static final String COPY_SQL =
+        "INSERT INTO notification_archive (id, type, priority, status, title, message, reference_type, " +
+        "reference_id, recipient_user_id, read_at, dismissed_at, created_at, archived_at) " +
+        "SELECT id, type, priority, status, title, message, reference_type, " +
+        "reference_id, recipient_user_id, read_at, dismissed_at, created_at, :archivedAt " +
+        "FROM notifications WHERE id IN (:ids)";
+
+    private static final String DELETE_SQL = "DELETE FROM notifications WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @return number of notifications removed from the notifications table
+     */
+    public int archive(Collection<Long> ids, Instant archivedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("archivedAt", OffsetDateTime.ofInstant(archivedAt, ZoneOffset.UTC));
+        jdbcTemplate.update(COPY_SQL, params);
+        return jdbcTemplate.update(DELETE_SQL, params);
+    }
+}
@@ -0,0 +1,45 @@
+package com.reindecar.repository.notification;
+
+import com.reindecar.entity.notification.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Inserts notifications as a single JDBC batch for jobs that raise many at once.
+ * The rows are not attached to the current persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO notifications (type, priority, status, title, message, reference_type, reference_id, " +
+        "recipient_user_id, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, notifications.size(), (ps, notification) -> {
+            OffsetDateTime createdAt = OffsetDateTime.ofInstant(notification.getCreatedAt(), ZoneOffset.UTC);
+            ps.setString(1, notification.getType().name());
+            ps.setString(2, notification.getPriority().name());
+            ps.setString(3, notification.getStatus().name());
+            ps.setString(4, notification.getTitle());
+            ps.setString(5, notification.getMessage());
+            ps.setString(6, notification.getReferenceType());
+            ps.setObject(7, notification.getReferenceId(), Types.BIGINT);
+            ps.setObject(8, notification.getRecipientUserId(), Types.BIGINT);
+            ps.setObject(9, createdAt);
+            ps.setObject(10, createdAt);
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.reindecar.repository.notification;
 
 import com.reindecar.entity.notification.Notification;
+import com.reindecar.entity.notification.NotificationPriority;
 import com.reindecar.entity.notification.NotificationStatus;
 import com.reindecar.entity.notification.NotificationType;
 import org.springframework.data.domain.Page;
@@ -11,6 +12,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 @Repository
@@ -21,8 +23,28 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByRecipientUserIdAndStatusInOrderByCreatedAtDesc(
         Long userId, List<NotificationStatus> statuses);
 
+    long countByRecipientUserId(Long userId);
+
     long countByRecipientUserIdAndStatusIn(Long userId, List<NotificationStatus> statuses);
 
+    long countByRecipientUserIdAndStatusInAndPriority(
+        Long userId, List<NotificationStatus> statuses, NotificationPriority priority);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = :read, n.readAt = :now, n.version = n.version + 1, n.updatedAt = :now " +
+           "WHERE n.recipientUserId = :userId AND n.status IN :statuses")
+    int markAllAsRead(@Param("userId") Long userId,
+                      @Param("statuses") List<NotificationStatus> statuses,
+                      @Param("read") NotificationStatus read,
+                      @Param("now") Instant now);
+
+    @Query("SELECT n.id FROM Notification n WHERE n.status IN :statuses AND n.createdAt < :cutoff " +
+           "AND n.id > :afterId ORDER BY n.id")
+    List<Long> findArchivableIds(@Param("statuses") List<NotificationStatus> statuses,
+                                 @Param("cutoff") Instant cutoff,
+                                 @Param("afterId") long afterId,
+                                 Pageable pageable);
+
     @Query("SELECT n FROM Notification n WHERE n.type = :type AND n.referenceType = :refType AND n.referenceId = :refId AND n.status IN :statuses")
     List<Notification> findActiveByTypeAndReference(
         @Param("type") NotificationType type, 
@@ -0,0 +1,37 @@
+package com.reindecar.repository.payment;
+
+import com.reindecar.entity.payment.MonthlyRevenue;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface MonthlyRevenueRepository extends JpaRepository<MonthlyRevenue, Long> {
+
+    @Modifying
+    @Query("UPDATE MonthlyRevenue m SET m.totalAmount = m.totalAmount + :amount, " +
+           "m.paymentCount = m.paymentCount + 1, m.updatedAt = :now " +
+           "WHERE m.period = :period AND m.currency = :currency")
+    int addPayment(int period, String currency, BigDecimal amount, Instant now);
+
+    @Modifying
+    @Query("UPDATE MonthlyRevenue m SET m.totalAmount = :totalAmount, m.paymentCount = :paymentCount, " +
+           "m.version = m.version + 1, m.updatedAt = :now " +
+           "WHERE m.period = :period AND m.currency = :currency")
+    int replaceTotals(int period, String currency, BigDecimal totalAmount, long paymentCount, Instant now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM MonthlyRevenue m WHERE m.period = :period ORDER BY m.currency")
+    List<MonthlyRevenue> lockByPeriod(int period);
+
+    boolean existsByPeriodAndCurrency(int period, String currency);
+
+    List<MonthlyRevenue> findByPeriodBetweenOrderByPeriodAsc(int startPeriod, int endPeriod);
+}
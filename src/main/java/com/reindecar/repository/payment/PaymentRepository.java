@@ -10,6 +10,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
@@ -27,5 +28,14 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
            "GROUP BY p.amount.currency")
     List<Object[]> sumCompletedAmountsByCurrency();
 
-    List<Payment> findByStatusAndPaidAtBetween(PaymentStatus status, Instant start, Instant end);
+    @Query("SELECT p.status, p.amount.currency, COUNT(p), COALESCE(SUM(p.amount.amount), 0) " +
+           "FROM Payment p GROUP BY p.status, p.amount.currency")
+    List<Object[]> summarizeByStatusAndCurrency();
+
+    @Query("SELECT p.amount.currency, COUNT(p), COALESCE(SUM(p.amount.amount), 0) " +
+           "FROM Payment p WHERE p.status = 'COMPLETED' AND p.paidAt >= :start AND p.paidAt < :end " +
+           "GROUP BY p.amount.currency")
+    List<Object[]> summarizeCompletedByCurrencyBetween(Instant start, Instant end);
+
+    Optional<Payment> findFirstByStatusOrderByPaidAtAsc(PaymentStatus status);
 }
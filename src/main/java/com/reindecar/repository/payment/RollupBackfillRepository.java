@@ -0,0 +1,21 @@
+package com.reindecar.repository.payment;
+
+import com.reindecar.entity.payment.RollupBackfill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface RollupBackfillRepository extends JpaRepository<RollupBackfill, Long> {
+
+    Optional<RollupBackfill> findByName(String name);
+
+    @Modifying
+    @Query("UPDATE RollupBackfill b SET b.completedAt = :now, b.version = b.version + 1, b.updatedAt = :now " +
+           "WHERE b.name = :name AND b.completedAt IS NULL")
+    int complete(String name, Instant now);
+}
@@ -14,6 +14,9 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
 
     List<Campaign> findByActiveTrue();
 
+    @Query("SELECT DISTINCT c FROM Campaign c LEFT JOIN FETCH c.applicableRentalTypes WHERE c.active = true")
+    List<Campaign> findActiveWithRentalTypes();
+
     @Query("SELECT c FROM Campaign c WHERE c.active = true " +
            "AND c.validFrom <= :date AND c.validTo >= :date")
     List<Campaign> findActiveCampaigns(LocalDate date);
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,8 @@ public interface CustomerContractRepository extends JpaRepository<CustomerContra
 
     Optional<CustomerContract> findByContractNumber(String contractNumber);
 
+    List<CustomerContract> findByStatus(CustomerContract.ContractStatus status);
+
     @Query("SELECT cc FROM CustomerContract cc WHERE cc.customerId = :customerId " +
            "AND cc.categoryId = :categoryId " +
            "AND cc.status = 'ACTIVE' " +
@@ -29,5 +32,11 @@ public interface CustomerContractRepository extends JpaRepository<CustomerContra
            "AND cc.startDate <= :date AND cc.endDate >= :date")
     List<CustomerContract> findActiveContractsByCustomer(Long customerId, LocalDate date);
 
+    @Query("SELECT cc FROM CustomerContract cc WHERE cc.customerId IN :customerIds " +
+           "AND cc.status = 'ACTIVE' " +
+           "AND cc.startDate <= :date AND cc.endDate >= :date " +
+           "ORDER BY cc.customerId, cc.id")
+    List<CustomerContract> findActiveContractsByCustomers(Collection<Long> customerIds, LocalDate date);
+
     boolean existsByContractNumber(String contractNumber);
 }
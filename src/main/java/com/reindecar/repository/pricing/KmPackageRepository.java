@@ -14,6 +14,9 @@ public interface KmPackageRepository extends JpaRepository<KmPackage, Long> {
     @Query("SELECT kp FROM KmPackage kp WHERE kp.active = true")
     List<KmPackage> findActivePackages();
 
+    @Query("SELECT DISTINCT kp FROM KmPackage kp LEFT JOIN FETCH kp.applicableTypes WHERE kp.active = true")
+    List<KmPackage> findActivePackagesWithTypes();
+
     @Query("SELECT kp FROM KmPackage kp WHERE kp.id = :id AND kp.active = true")
     Optional<KmPackage> findByIdAndActive(Long id);
 
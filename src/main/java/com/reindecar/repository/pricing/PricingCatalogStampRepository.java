@@ -0,0 +1,33 @@
+package com.reindecar.repository.pricing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Katalog tablolarının satır sayısı ve son güncelleme zamanından oluşan damgayı okur.
+ * Herhangi bir düğümde yapılan ekleme, güncelleme veya silme damgayı değiştirir; böylece
+ * diğer düğümler kataloğu yeniden yüklemeleri gerektiğini tek bir sorguyla anlar.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PricingCatalogStampRepository {
+
+    private static final List<String> CATALOG_TABLES = List.of(
+        "pricing_rules", "leasing_plans", "term_discount", "customer_contracts",
+        "km_packages", "seasons", "campaigns"
+    );
+
+    private static final String STAMP_SQL = String.join(" UNION ALL ", CATALOG_TABLES.stream()
+        .map(table -> "SELECT '" + table + "' AS source, COUNT(*) AS row_count, MAX(updated_at) AS last_update FROM " + table)
+        .toList());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public String currentStamp() {
+        return String.join(";", jdbcTemplate.query(STAMP_SQL, (rs, rowNum) ->
+            rs.getString("source") + ":" + rs.getLong("row_count") + ":" + rs.getTimestamp("last_update")));
+    }
+}
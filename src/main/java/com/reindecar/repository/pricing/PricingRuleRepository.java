@@ -12,6 +12,8 @@ import java.util.List;
 @Repository
 public interface PricingRuleRepository extends JpaRepository<PricingRule, Long> {
 
+    List<PricingRule> findByActiveTrue();
+
     @Query("SELECT pr FROM PricingRule pr WHERE pr.categoryId = :categoryId AND pr.rentalType = :rentalType AND pr.active = true")
     List<PricingRule> findByCategoryIdAndRentalTypeAndActive(Long categoryId, RentalType rentalType);
 
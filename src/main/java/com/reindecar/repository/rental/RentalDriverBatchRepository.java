@@ -0,0 +1,44 @@
+package com.reindecar.repository.rental;
+
+import com.reindecar.entity.rental.RentalDriver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Inserts rental driver links as a single JDBC batch.
+ * Hibernate cannot batch inserts with identity ids, so the rows are written with JdbcTemplate
+ * and are not attached to the current persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RentalDriverBatchRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO rental_drivers (rental_id, driver_id, is_primary, added_at, added_by, notes, " +
+        "created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<RentalDriver> rentalDrivers) {
+        if (rentalDrivers.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(INSERT_SQL, rentalDrivers, rentalDrivers.size(), (ps, rentalDriver) -> {
+            ps.setLong(1, rentalDriver.getRentalId());
+            ps.setLong(2, rentalDriver.getDriverId());
+            ps.setBoolean(3, rentalDriver.isPrimary());
+            ps.setObject(4, OffsetDateTime.ofInstant(rentalDriver.getAddedAt(), ZoneOffset.UTC));
+            ps.setString(5, rentalDriver.getAddedBy());
+            ps.setString(6, rentalDriver.getNotes());
+            ps.setObject(7, now);
+            ps.setObject(8, now);
+        });
+    }
+}
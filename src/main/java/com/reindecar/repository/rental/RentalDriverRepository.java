@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,8 @@ public interface RentalDriverRepository extends JpaRepository<RentalDriver, Long
 
     Optional<RentalDriver> findByRentalIdAndPrimaryTrue(Long rentalId);
 
+    List<RentalDriver> findByRentalIdInAndPrimaryTrue(Collection<Long> rentalIds);
+
     boolean existsByRentalIdAndDriverId(Long rentalId, Long driverId);
 
     void deleteByRentalIdAndDriverId(Long rentalId, Long driverId);
@@ -34,6 +37,12 @@ public interface RentalDriverRepository extends JpaRepository<RentalDriver, Long
            "AND r.status IN ('RESERVED', 'ACTIVE', 'OVERDUE')")
     boolean hasBlockingRental(Long driverId);
 
+    @Query("SELECT DISTINCT rd.driverId FROM RentalDriver rd " +
+           "JOIN Rental r ON rd.rentalId = r.id " +
+           "WHERE rd.driverId IN :driverIds " +
+           "AND r.status IN ('RESERVED', 'ACTIVE', 'OVERDUE')")
+    List<Long> findDriverIdsWithBlockingRental(Collection<Long> driverIds);
+
     @Query("SELECT rd FROM RentalDriver rd " +
            "JOIN Rental r ON rd.rentalId = r.id " +
            "WHERE rd.driverId = :driverId " +
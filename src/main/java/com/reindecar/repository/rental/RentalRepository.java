@@ -2,13 +2,18 @@ package com.reindecar.repository.rental;
 
 import com.reindecar.entity.rental.Rental;
 import com.reindecar.entity.rental.RentalStatus;
+import com.reindecar.service.rental.availability.RentalInterval;
+import com.reindecar.service.rental.overdue.OverdueRental;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +37,32 @@ public interface RentalRepository extends JpaRepository<Rental, Long> {
            "((r.startDate <= :endDate AND r.endDate >= :startDate))")
     List<Rental> findOverlappingRentals(Long vehicleId, LocalDate startDate, LocalDate endDate);
 
+    @Query("SELECT COUNT(r) > 0 FROM Rental r WHERE " +
+           "r.vehicleId = :vehicleId AND " +
+           "r.status NOT IN ('CLOSED', 'CANCELLED') AND " +
+           "r.startDate <= :endDate AND r.endDate >= :startDate")
+    boolean existsOverlappingRental(Long vehicleId, LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT DISTINCT r.vehicleId FROM Rental r WHERE " +
+           "r.vehicleId IN :vehicleIds AND " +
+           "r.status NOT IN ('CLOSED', 'CANCELLED') AND " +
+           "r.startDate <= :endDate AND r.endDate >= :startDate")
+    List<Long> findOverlappingVehicleIds(Collection<Long> vehicleIds, LocalDate startDate, LocalDate endDate);
+
+    @Modifying
+    @Query("UPDATE Rental r SET r.status = :overdue, r.updatedAt = :now, r.version = r.version + 1 " +
+           "WHERE r.status = :active AND r.endDate < :today")
+    int markOverdue(LocalDate today, Instant now, RentalStatus active, RentalStatus overdue);
+
+    @Query("SELECT new com.reindecar.service.rental.overdue.OverdueRental(" +
+           "r.id, r.rentalNumber, r.vehicleId, r.startDate, r.endDate) " +
+           "FROM Rental r WHERE r.status = :overdue AND r.updatedAt = :markedAt")
+    List<OverdueRental> findMarkedOverdue(Instant markedAt, RentalStatus overdue);
+
+    @Query("SELECT new com.reindecar.service.rental.availability.RentalInterval(r.id, r.vehicleId, r.startDate, r.endDate) " +
+           "FROM Rental r WHERE r.status NOT IN :releasedStatuses")
+    List<RentalInterval> findOccupancyIntervals(Collection<RentalStatus> releasedStatuses);
+
     @Query("SELECT r FROM Rental r WHERE r.customerId = :customerId ORDER BY r.startDate DESC")
     Page<Rental> findByCustomerId(Long customerId, Pageable pageable);
 
@@ -58,8 +89,16 @@ public interface RentalRepository extends JpaRepository<Rental, Long> {
 
     List<Rental> findByRentalTypeAndStatus(com.reindecar.entity.pricing.RentalType rentalType, RentalStatus status);
 
+    @Query("SELECT r FROM Rental r WHERE r.rentalType = :rentalType AND r.status = :status " +
+           "AND r.id > :afterId ORDER BY r.id")
+    List<Rental> findChunkByRentalTypeAndStatus(com.reindecar.entity.pricing.RentalType rentalType, RentalStatus status,
+                                                long afterId, Pageable pageable);
+
     long countByStatus(RentalStatus status);
 
+    @Query("SELECT r.status, COUNT(r) FROM Rental r GROUP BY r.status")
+    List<Object[]> countGroupedByStatus();
+
     @Query("SELECT r FROM Rental r WHERE r.status NOT IN ('CLOSED', 'CANCELLED') " +
            "AND r.endDate BETWEEN :startDate AND :endDate " +
            "ORDER BY r.endDate ASC")
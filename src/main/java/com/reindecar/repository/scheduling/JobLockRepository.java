@@ -0,0 +1,26 @@
+package com.reindecar.repository.scheduling;
+
+import com.reindecar.entity.scheduling.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, Long> {
+
+    boolean existsByName(String name);
+
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedBy = :lockedBy, l.lockedAt = :now, l.lockedUntil = :lockedUntil, " +
+           "l.version = l.version + 1, l.updatedAt = :now " +
+           "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquireExpired(String name, String lockedBy, Instant now, Instant lockedUntil);
+
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedUntil = :lockedUntil, l.version = l.version + 1, l.updatedAt = :now " +
+           "WHERE l.name = :name AND l.lockedBy = :lockedBy AND l.lockedAt = :lockedAt")
+    int release(String name, String lockedBy, Instant lockedAt, Instant lockedUntil, Instant now);
+}
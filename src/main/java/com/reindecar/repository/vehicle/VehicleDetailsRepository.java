@@ -1,11 +1,14 @@
 package com.reindecar.repository.vehicle;
 
+import com.reindecar.entity.notification.NotificationStatus;
+import com.reindecar.entity.notification.NotificationType;
 import com.reindecar.entity.vehicle.VehicleDetails;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,12 +17,27 @@ public interface VehicleDetailsRepository extends JpaRepository<VehicleDetails,
 
     Optional<VehicleDetails> findByVehicleId(Long vehicleId);
 
-    @Query("SELECT vd FROM VehicleDetails vd WHERE vd.nextServiceDate <= :date")
-    List<VehicleDetails> findWithServiceDueBefore(LocalDate date);
+    @Query("SELECT vd.vehicleId FROM VehicleDetails vd WHERE vd.nextServiceDate <= :date " +
+           "AND MOD(vd.vehicleId, :shardCount) = :shardIndex " +
+           "AND NOT EXISTS (SELECT 1 FROM Notification n WHERE n.type = :type " +
+           "AND n.referenceType = :referenceType AND n.referenceId = vd.vehicleId AND n.status IN :statuses) " +
+           "ORDER BY vd.vehicleId")
+    List<Long> findVehicleIdsWithServiceDueBefore(LocalDate date, int shardIndex, int shardCount, NotificationType type,
+                                                  String referenceType, Collection<NotificationStatus> statuses);
 
-    @Query("SELECT vd FROM VehicleDetails vd WHERE vd.mtvDate <= :date")
-    List<VehicleDetails> findWithMtvDueBefore(LocalDate date);
+    @Query("SELECT vd.vehicleId FROM VehicleDetails vd WHERE vd.mtvDate <= :date " +
+           "AND MOD(vd.vehicleId, :shardCount) = :shardIndex " +
+           "AND NOT EXISTS (SELECT 1 FROM Notification n WHERE n.type = :type " +
+           "AND n.referenceType = :referenceType AND n.referenceId = vd.vehicleId AND n.status IN :statuses) " +
+           "ORDER BY vd.vehicleId")
+    List<Long> findVehicleIdsWithMtvDueBefore(LocalDate date, int shardIndex, int shardCount, NotificationType type,
+                                              String referenceType, Collection<NotificationStatus> statuses);
 
-    @Query("SELECT vd FROM VehicleDetails vd WHERE vd.nextTireChangeDate <= :date")
-    List<VehicleDetails> findWithTireChangeDueBefore(LocalDate date);
+    @Query("SELECT vd.vehicleId FROM VehicleDetails vd WHERE vd.nextTireChangeDate <= :date " +
+           "AND MOD(vd.vehicleId, :shardCount) = :shardIndex " +
+           "AND NOT EXISTS (SELECT 1 FROM Notification n WHERE n.type = :type " +
+           "AND n.referenceType = :referenceType AND n.referenceId = vd.vehicleId AND n.status IN :statuses) " +
+           "ORDER BY vd.vehicleId")
+    List<Long> findVehicleIdsWithTireChangeDueBefore(LocalDate date, int shardIndex, int shardCount, NotificationType type,
+                                                     String referenceType, Collection<NotificationStatus> statuses);
 }
@@ -1,12 +1,16 @@
 package com.reindecar.repository.vehicle;
 
+import com.reindecar.entity.notification.NotificationStatus;
+import com.reindecar.entity.notification.NotificationType;
 import com.reindecar.entity.vehicle.InsuranceType;
 import com.reindecar.entity.vehicle.VehicleInsurance;
+import com.reindecar.service.notification.ExpiringInsurance;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,8 +22,14 @@ public interface VehicleInsuranceRepository extends JpaRepository<VehicleInsuran
     @Query("SELECT vi FROM VehicleInsurance vi WHERE vi.vehicleId = :vehicleId AND vi.insuranceType = :type AND vi.active = true")
     Optional<VehicleInsurance> findActiveByVehicleIdAndType(Long vehicleId, InsuranceType type);
 
-    @Query("SELECT vi FROM VehicleInsurance vi WHERE vi.endDate <= :date AND vi.active = true")
-    List<VehicleInsurance> findExpiringSoon(LocalDate date);
+    @Query("SELECT new com.reindecar.service.notification.ExpiringInsurance(vi.vehicleId, vi.insuranceType) " +
+           "FROM VehicleInsurance vi WHERE vi.endDate <= :date AND vi.active = true " +
+           "AND MOD(vi.vehicleId, :shardCount) = :shardIndex " +
+           "AND NOT EXISTS (SELECT 1 FROM Notification n WHERE n.type = :type " +
+           "AND n.referenceType = :referenceType AND n.referenceId = vi.vehicleId AND n.status IN :statuses) " +
+           "ORDER BY vi.vehicleId, vi.endDate")
+    List<ExpiringInsurance> findExpiringSoon(LocalDate date, int shardIndex, int shardCount, NotificationType type,
+                                             String referenceType, Collection<NotificationStatus> statuses);
 
     @Query("SELECT vi FROM VehicleInsurance vi WHERE vi.vehicleId = :vehicleId ORDER BY vi.endDate DESC")
     List<VehicleInsurance> findAllByVehicleIdOrderByEndDateDesc(Long vehicleId);
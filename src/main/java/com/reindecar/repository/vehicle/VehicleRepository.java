@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -47,7 +48,24 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
            ")")
     Page<Vehicle> findAvailableForPeriod(VehicleStatus status, java.time.LocalDate startDate, java.time.LocalDate endDate, Pageable pageable);
 
+    @Query("SELECT v FROM Vehicle v WHERE v.status = :status AND v.deleted = false AND v.id NOT IN :excludedIds")
+    Page<Vehicle> findByStatusExcludingIds(VehicleStatus status, java.util.Collection<Long> excludedIds, Pageable pageable);
+
+    @Query("SELECT v FROM Vehicle v " +
+           "LEFT JOIN com.reindecar.entity.rental.Rental r ON r.vehicleId = v.id " +
+           "   AND r.status NOT IN ('CLOSED', 'CANCELLED') " +
+           "   AND r.startDate <= :endDate AND r.endDate >= :startDate " +
+           "WHERE v.status = :status AND v.deleted = false " +
+           "AND (:branchId IS NULL OR v.branchId = :branchId) " +
+           "AND (:categoryId IS NULL OR v.categoryId = :categoryId) " +
+           "AND r.id IS NULL")
+    List<Vehicle> findAvailableCandidates(VehicleStatus status, java.time.LocalDate startDate, java.time.LocalDate endDate,
+                                          Long branchId, Long categoryId);
+
     long countByDeletedFalse();
 
     long countByStatusAndDeletedFalse(VehicleStatus status);
+
+    @Query("SELECT v.status, COUNT(v) FROM Vehicle v WHERE v.deleted = false GROUP BY v.status")
+    List<Object[]> countGroupedByStatus();
 }
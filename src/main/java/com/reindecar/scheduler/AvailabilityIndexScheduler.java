@@ -0,0 +1,24 @@
+package com.reindecar.scheduler;
+
+import com.reindecar.service.rental.availability.VehicleAvailabilityIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityIndexScheduler {
+
+    private final VehicleAvailabilityIndex availabilityIndex;
+
+    @Scheduled(
+        fixedDelayString = "${rental.availability.reconcile-interval:PT10M}",
+        initialDelayString = "${rental.availability.reconcile-interval:PT10M}")
+    public void reconcileAvailabilityIndex() {
+        log.info("Reconciling vehicle availability index...");
+        int corrected = availabilityIndex.reconcile();
+        log.info("Vehicle availability index reconciliation completed. Corrected vehicles: {}", corrected);
+    }
+}
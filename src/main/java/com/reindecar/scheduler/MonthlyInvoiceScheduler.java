@@ -1,16 +1,14 @@
 package com.reindecar.scheduler;
 
-import com.reindecar.dto.leasing.GenerateInvoiceRequest;
-import com.reindecar.entity.pricing.RentalType;
-import com.reindecar.entity.rental.Rental;
-import com.reindecar.repository.rental.RentalRepository;
+import com.reindecar.common.scheduling.ClusterLocked;
+import com.reindecar.dto.leasing.InvoiceRunResponse;
 import com.reindecar.service.leasing.LeasingInvoiceService;
+import com.reindecar.service.leasing.MonthlyInvoiceRunService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
 
@@ -20,45 +18,33 @@ import java.util.List;
 public class MonthlyInvoiceScheduler {
 
     private final LeasingInvoiceService invoiceService;
-    private final RentalRepository rentalRepository;
+    private final MonthlyInvoiceRunService invoiceRunService;
 
     @Scheduled(cron = "0 0 2 1 * ?")
+    @ClusterLocked(name = "monthly-invoice-run", lockAtMostFor = "PT2H", lockAtLeastFor = "PT5M")
     public void generateMonthlyInvoices() {
         log.info("Starting monthly invoice generation...");
-        
-        YearMonth previousMonth = YearMonth.now().minusMonths(1);
-        
-        List<Rental> activeLeasings = rentalRepository.findByRentalTypeAndStatus(
-            RentalType.LEASING, 
-            com.reindecar.entity.rental.RentalStatus.ACTIVE
-        );
-        
-        int successCount = 0;
-        int errorCount = 0;
-        
-        for (Rental rental : activeLeasings) {
-            try {
-                GenerateInvoiceRequest request = new GenerateInvoiceRequest(
-                    rental.getId(),
-                    previousMonth.getYear(),
-                    previousMonth.getMonthValue(),
-                    null,
-                    null
-                );
-                invoiceService.generateInvoice(request);
-                successCount++;
-            } catch (Exception e) {
-                log.error("Failed to generate invoice for rental {}: {}", rental.getId(), e.getMessage());
-                errorCount++;
-            }
+        invoiceRunService.run(YearMonth.now().minusMonths(1));
+    }
+
+    @Scheduled(
+        fixedDelayString = "${leasing.invoice-run.resume-interval:PT15M}",
+        initialDelayString = "${leasing.invoice-run.resume-initial-delay:PT2M}")
+    @ClusterLocked(name = "invoice-run-resume", lockAtMostFor = "PT2H", lockAtLeastFor = "PT10M")
+    public void resumeStalledInvoiceRuns() {
+        List<InvoiceRunResponse> resumed = invoiceRunService.resumeStalledRuns();
+        if (!resumed.isEmpty()) {
+            log.info("Resumed stalled invoice runs: {}", resumed.stream().map(InvoiceRunResponse::period).toList());
         }
-        
-        log.info("Monthly invoice generation completed. Success: {}, Errors: {}", successCount, errorCount);
     }
 
     @Scheduled(cron = "0 0 3 * * ?")
+    @ClusterLocked(name = "overdue-invoice-check", lockAtMostFor = "PT30M", lockAtLeastFor = "PT5M")
     public void checkOverdueInvoices() {
         log.info("Checking for overdue invoices...");
-        invoiceService.updateOverdueInvoices();
+        long started = System.currentTimeMillis();
+        int updated = invoiceService.updateOverdueInvoices();
+        log.info("Overdue invoice check completed. Marked: {}, Duration: {} ms",
+            updated, System.currentTimeMillis() - started);
     }
 }
@@ -0,0 +1,26 @@
+package com.reindecar.scheduler;
+
+import com.reindecar.common.scheduling.ClusterLocked;
+import com.reindecar.service.notification.NotificationRetentionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetentionScheduler {
+
+    private final NotificationRetentionService retentionService;
+
+    @Scheduled(cron = "${notification.retention.cron:0 30 4 * * ?}")
+    @ClusterLocked(name = "notification-retention", lockAtMostFor = "PT2H", lockAtLeastFor = "PT5M")
+    public void archiveNotifications() {
+        log.info("Archiving old notifications...");
+        long started = System.currentTimeMillis();
+        int archived = retentionService.archiveExpired();
+        log.info("Notification archiving completed. Archived: {}, Duration: {} ms",
+            archived, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,31 @@
+package com.reindecar.scheduler;
+
+import com.reindecar.common.scheduling.ClusterLocked;
+import com.reindecar.service.rental.overdue.OverdueRentalSweeper;
+import com.reindecar.service.rental.overdue.OverdueSweepResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OverdueRentalScheduler {
+
+    private final OverdueRentalSweeper overdueRentalSweeper;
+
+    @Scheduled(
+        fixedDelayString = "${rental.overdue.sweep-interval:PT1H}",
+        initialDelayString = "${rental.overdue.initial-delay:PT1M}")
+    @ClusterLocked(
+        name = "overdue-rental-sweep",
+        lockAtMostFor = "${rental.overdue.sweep-lock-at-most:PT55M}",
+        lockAtLeastFor = "${rental.overdue.sweep-lock-at-least:PT50M}")
+    public void markOverdueRentals() {
+        log.info("Sweeping overdue rentals...");
+        OverdueSweepResult result = overdueRentalSweeper.sweep();
+        log.info("Overdue rental sweep completed. Rentals: {}, Notifications: {}, Duration: {} ms",
+            result.rentalsUpdated(), result.notificationsCreated(), result.durationMs());
+    }
+}
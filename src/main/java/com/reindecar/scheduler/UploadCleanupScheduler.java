@@ -0,0 +1,28 @@
+package com.reindecar.scheduler;
+
+import com.reindecar.service.file.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Not cluster-locked: staged upload data lives on the node that received it, so every node
+ * cleans its own staging directory.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UploadCleanupScheduler {
+
+    private final FileStorageService fileStorageService;
+
+    @Scheduled(
+        fixedDelayString = "${file.resumable.cleanup-interval:PT1H}",
+        initialDelayString = "${file.resumable.cleanup-interval:PT1H}")
+    public void purgeExpiredUploads() {
+        log.info("Purging expired uploads...");
+        int purged = fileStorageService.purgeExpiredUploads();
+        log.info("Expired upload purge completed. Removed sessions: {}", purged);
+    }
+}
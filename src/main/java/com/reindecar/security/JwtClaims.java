@@ -0,0 +1,18 @@
+package com.reindecar.security;
+
+import java.time.Instant;
+
+/**
+ * Claims of a token whose signature and expiry have already been verified.
+ */
+public record JwtClaims(
+    String username,
+    Long userId,
+    String role,
+    Long branchId,
+    Instant expiresAt
+) {
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -1,6 +1,7 @@
 package com.reindecar.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -9,27 +10,44 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenValidityInSeconds;
     private final long refreshTokenValidityInSeconds;
+    private final int cacheMaxSize;
+
+    // Verified claims keyed by SHA-256 of the token; raw tokens are never kept in memory
+    private final Map<String, JwtClaims> verifiedClaimsCache = new ConcurrentHashMap<>();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
 
     public JwtTokenProvider(
             @Value("${jwt.secret:reindecar-secret-key-change-this-in-production-minimum-256-bits}") String secret,
             @Value("${jwt.access-token-validity:3600}") long accessTokenValidityInSeconds,
-            @Value("${jwt.refresh-token-validity:604800}") long refreshTokenValidityInSeconds) {
+            @Value("${jwt.refresh-token-validity:604800}") long refreshTokenValidityInSeconds,
+            @Value("${jwt.cache.max-size:10000}") int cacheMaxSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
         this.accessTokenValidityInSeconds = accessTokenValidityInSeconds;
         this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
+        this.cacheMaxSize = cacheMaxSize;
     }
 
     public String generateAccessToken(Long userId, String username, String role, Long branchId) {
@@ -62,45 +80,90 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.getSubject();
+    /**
+     * Verifies the token once and returns its claims. Tokens seen before are served from
+     * the cache until their expiry without repeating signature verification.
+     */
+    public Optional<JwtClaims> verify(String token) {
+        String cacheKey = hash(token);
+        Instant now = Instant.now();
+
+        JwtClaims cached = verifiedClaimsCache.get(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                cacheHits.incrementAndGet();
+                return Optional.of(cached);
+            }
+            verifiedClaimsCache.remove(cacheKey);
+            return Optional.empty();
+        }
+
+        cacheMisses.incrementAndGet();
+        try {
+            JwtClaims claims = toJwtClaims(jwtParser.parseSignedClaims(token).getPayload());
+            cache(cacheKey, claims, now);
+            return Optional.of(claims);
+        } catch (Exception e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
 
-    public Long getUserIdFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("userId", Long.class);
+    public TokenCacheStats getCacheStats() {
+        long hits = cacheHits.get();
+        long misses = cacheMisses.get();
+        long total = hits + misses;
+        return new TokenCacheStats(
+            hits,
+            misses,
+            verifiedClaimsCache.size(),
+            cacheMaxSize,
+            total == 0 ? 0.0 : (double) hits / total
+        );
     }
 
-    public String getRoleFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("role", String.class);
+    public long getAccessTokenValidityInSeconds() {
+        return accessTokenValidityInSeconds;
     }
 
-    public Long getBranchIdFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("branchId", Long.class);
+    private JwtClaims toJwtClaims(Claims claims) {
+        return new JwtClaims(
+            claims.getSubject(),
+            claims.get("userId", Long.class),
+            claims.get("role", String.class),
+            claims.get("branchId", Long.class),
+            claims.getExpiration().toInstant()
+        );
     }
 
-    public boolean validateToken(String token) {
-        try {
-            parseToken(token);
-            return true;
-        } catch (Exception e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+    private void cache(String cacheKey, JwtClaims claims, Instant now) {
+        if (verifiedClaimsCache.size() >= cacheMaxSize) {
+            evictExpired(now);
         }
+        if (verifiedClaimsCache.size() >= cacheMaxSize) {
+            evictOne();
+        }
+        verifiedClaimsCache.put(cacheKey, claims);
     }
 
-    private Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private void evictExpired(Instant now) {
+        verifiedClaimsCache.values().removeIf(claims -> claims.isExpired(now));
     }
 
-    public long getAccessTokenValidityInSeconds() {
-        return accessTokenValidityInSeconds;
+    private void evictOne() {
+        Iterator<String> keys = verifiedClaimsCache.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
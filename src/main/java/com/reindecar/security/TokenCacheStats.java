@@ -0,0 +1,9 @@
+package com.reindecar.security;
+
+public record TokenCacheStats(
+    long hits,
+    long misses,
+    int size,
+    int maxSize,
+    double hitRatio
+) {}
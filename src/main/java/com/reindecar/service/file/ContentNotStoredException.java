@@ -0,0 +1,12 @@
+package com.reindecar.service.file;
+
+/**
+ * Thrown by a registration attempted without writing the content when no live blob holds it,
+ * so the caller writes the staged content and registers again.
+ */
+class ContentNotStoredException extends RuntimeException {
+
+    ContentNotStoredException(String checksum) {
+        super("No live blob for " + checksum, null, false, false);
+    }
+}
@@ -0,0 +1,141 @@
+package com.reindecar.service.file;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the EXIF Orientation tag of a JPEG and turns the decoded pixels upright.
+ * Cameras store photos in sensor order and only record how they were held, so without this the
+ * variants of portrait photos come out sideways. Values follow the EXIF specification: 1 is
+ * upright, 2-4 mirror or turn the image half way, 5-8 swap width and height.
+ */
+final class ExifOrientation {
+
+    static final int UPRIGHT = 1;
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final String APP1_MARKER = "225";
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * @return the orientation recorded in the metadata, or {@link #UPRIGHT} when there is none
+     */
+    static int read(IIOMetadata metadata) {
+        if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+            return UPRIGHT;
+        }
+        Node markers = child(metadata.getAsTree(JPEG_METADATA_FORMAT), "markerSequence");
+        for (Node marker = markers != null ? markers.getFirstChild() : null; marker != null; marker = marker.getNextSibling()) {
+            if ("unknown".equals(marker.getNodeName())
+                    && APP1_MARKER.equals(((IIOMetadataNode) marker).getAttribute("MarkerTag"))
+                    && ((IIOMetadataNode) marker).getUserObject() instanceof byte[] data
+                    && startsWithExifHeader(data)) {
+                return fromTiff(ByteBuffer.wrap(data, EXIF_HEADER.length, data.length - EXIF_HEADER.length).slice());
+            }
+        }
+        return UPRIGHT;
+    }
+
+    static BufferedImage apply(BufferedImage image, int orientation) {
+        if (orientation <= UPRIGHT || orientation > 8) {
+            return image;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swapsSides = orientation >= 5;
+
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> {
+                transform.scale(-1, 1);
+                transform.translate(-width, 0);
+            }
+            case 3 -> {
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 4 -> {
+                transform.scale(1, -1);
+                transform.translate(0, -height);
+            }
+            case 5 -> {
+                transform.rotate(-Math.PI / 2);
+                transform.scale(-1, 1);
+            }
+            case 6 -> {
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 7 -> {
+                transform.scale(-1, 1);
+                transform.translate(-height, 0);
+                transform.translate(0, width);
+                transform.rotate(3 * Math.PI / 2);
+            }
+            default -> {
+                transform.translate(0, width);
+                transform.rotate(3 * Math.PI / 2);
+            }
+        }
+
+        int type = image.getType() != BufferedImage.TYPE_CUSTOM ? image.getType() : BufferedImage.TYPE_INT_ARGB;
+        BufferedImage upright = new BufferedImage(swapsSides ? height : width, swapsSides ? width : height, type);
+        Graphics2D graphics = upright.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return upright;
+    }
+
+    private static int fromTiff(ByteBuffer tiff) {
+        try {
+            tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            int directory = tiff.getInt(4);
+            int entries = Short.toUnsignedInt(tiff.getShort(directory));
+            for (int i = 0; i < entries; i++) {
+                int entry = directory + 2 + i * 12;
+                if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                    return Short.toUnsignedInt(tiff.getShort(entry + 8));
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            // truncated or malformed EXIF block, keep the image as stored
+        }
+        return UPRIGHT;
+    }
+
+    private static boolean startsWithExifHeader(byte[] data) {
+        if (data.length < EXIF_HEADER.length + 8) {
+            return false;
+        }
+        for (int i = 0; i < EXIF_HEADER.length; i++) {
+            if (data[i] != EXIF_HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Node child(Node node, String name) {
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (name.equals(child.getNodeName())) {
+                return child;
+            }
+        }
+        return null;
+    }
+}
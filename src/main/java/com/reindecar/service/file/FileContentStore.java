@@ -0,0 +1,134 @@
+package com.reindecar.service.file;
+
+import com.reindecar.entity.file.FileMetadata;
+import com.reindecar.entity.file.FileVariant;
+import com.reindecar.entity.file.FileVariantType;
+import com.reindecar.repository.file.FileBlobRepository;
+import com.reindecar.repository.file.FileVariantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Links file metadata to content-addressed blobs. Content held by a live blob only gains a
+ * reference. A blob that loses its last reference stays as a tombstone; after commit the tombstone
+ * is removed with a conditional delete and only then is its object deleted, so content that was
+ * registered again in the meantime is never removed.
+ * Registrations must be called outside a transaction. They first try to reference a live blob;
+ * when there is none, the staged content is written to the storage as a new object, so no database
+ * connection is held during the transfer, and only then are the rows written. When a concurrent
+ * upload of the same content inserts the blob first, that transaction is repeated once and then
+ * only adds a reference. An object whose registration fails or turns out redundant is deleted.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class FileContentStore {
+
+    private final FileBlobRepository blobRepository;
+    private final FileVariantRepository variantRepository;
+    private final FileContentWriter contentWriter;
+    private final StorageStrategy storageStrategy;
+    private final UploadStaging staging;
+    private final ApplicationEventPublisher eventPublisher;
+    @Qualifier("storageExecutor")
+    private final Executor storageExecutor;
+
+    public FileMetadata register(StagedContent staged, FileMetadata metadata, boolean isPublic) {
+        return registerContent(staged, content -> contentWriter.register(content, metadata, isPublic));
+    }
+
+    public FileMetadata registerUpload(String uploadId, StagedContent staged, FileMetadata metadata, boolean isPublic) {
+        return registerContent(staged, content -> contentWriter.registerUpload(uploadId, content, metadata, isPublic));
+    }
+
+    /**
+     * Stores a generated variant unless the file is gone or already has one of that type.
+     */
+    public void registerVariant(
+            Long fileId,
+            FileVariantType type,
+            StagedContent staged,
+            String contentType,
+            int width,
+            int height) {
+        registerContent(staged, content ->
+            contentWriter.registerVariant(fileId, type, content, contentType, width, height));
+    }
+
+    @Transactional
+    public void release(FileMetadata metadata) {
+        for (FileVariant variant : variantRepository.findByFileId(metadata.getId())) {
+            releaseBlob(variant.getChecksum(), variant.getPath());
+        }
+        variantRepository.deleteByFileId(metadata.getId());
+
+        if (metadata.getChecksum() == null) {
+            eventPublisher.publishEvent(new StoredContentReleasedEvent(null, metadata.getPath()));
+            return;
+        }
+        releaseBlob(metadata.getChecksum(), metadata.getPath());
+    }
+
+    /**
+     * Deletes released content on the storage pool after commit, so a rolled back delete keeps its
+     * content and the request does not wait for the storage.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContentReleased(StoredContentReleasedEvent event) {
+        storageExecutor.execute(() -> {
+            if (event.checksum() != null && !contentWriter.deleteTombstone(event.checksum(), event.path())) {
+                log.info("Content {} was stored again, keeping it", event.checksum());
+                return;
+            }
+            storageStrategy.delete(event.path());
+        });
+    }
+
+    private void releaseBlob(String checksum, String path) {
+        blobRepository.removeReference(checksum, Instant.now());
+        if (blobRepository.findReferenceCount(checksum).filter(count -> count == 0).isPresent()) {
+            eventPublisher.publishEvent(new StoredContentReleasedEvent(checksum, path));
+        }
+    }
+
+    private <T> T registerContent(StagedContent staged, Function<StoredContent, T> registration) {
+        try {
+            T registered = registration.apply(StoredContent.unstored(staged));
+            staging.discard(staged.path());
+            return registered;
+        } catch (ContentNotStoredException e) {
+            log.debug("No live blob for {}, writing the content", staged.checksum());
+        }
+
+        String path = storageStrategy.storeContent(staged.path(), staged.checksum());
+        StoredContent content = new StoredContent(staged.checksum(), path, staged.size());
+        try {
+            return retryOnConcurrentBlob(content, () -> registration.apply(content));
+        } catch (RuntimeException e) {
+            storageStrategy.delete(path);
+            throw e;
+        }
+    }
+
+    private <T> T retryOnConcurrentBlob(StoredContent content, Supplier<T> registration) {
+        try {
+            return registration.get();
+        } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+            log.debug("Content {} was stored concurrently, registering again", content.checksum());
+            return registration.get();
+        }
+    }
+}
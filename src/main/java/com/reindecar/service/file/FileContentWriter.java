@@ -0,0 +1,139 @@
+package com.reindecar.service.file;
+
+import com.reindecar.common.exception.BusinessException;
+import com.reindecar.common.exception.ErrorCode;
+import com.reindecar.entity.file.FileBlob;
+import com.reindecar.entity.file.FileMetadata;
+import com.reindecar.entity.file.FileVariant;
+import com.reindecar.entity.file.FileVariantType;
+import com.reindecar.repository.file.FileBlobRepository;
+import com.reindecar.repository.file.FileMetadataRepository;
+import com.reindecar.repository.file.FileVariantRepository;
+import com.reindecar.repository.file.UploadSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Writes the rows that link a file to its blob in one transaction. Only a live blob is trusted to
+ * hold the content; otherwise the caller must have written the content first, and the blob row is
+ * inserted, or revived from its tombstone, pointing at that new object. The blob row is written
+ * before anything else, so when a concurrent upload of the same content wins the unique hash the
+ * whole registration rolls back and can be repeated in a fresh transaction.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class FileContentWriter {
+
+    private final FileMetadataRepository fileMetadataRepository;
+    private final FileBlobRepository blobRepository;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final FileVariantRepository variantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @throws ContentNotStoredException when the content was not written and no live blob holds it
+     * @throws org.springframework.dao.DataIntegrityViolationException when the blob was registered concurrently
+     */
+    @Transactional
+    public FileMetadata register(StoredContent content, FileMetadata metadata, boolean isPublic) {
+        metadata.setPath(acquireBlob(content));
+        metadata.setChecksum(content.checksum());
+        if (isPublic) {
+            metadata.makePublic();
+        }
+        FileMetadata saved = fileMetadataRepository.save(metadata);
+        eventPublisher.publishEvent(new FileStoredEvent(saved.getId(), saved.getExtension()));
+        return saved;
+    }
+
+    /**
+     * Removes the upload session in the same transaction as the registration, so an upload can be
+     * completed only once.
+     *
+     * @throws ContentNotStoredException when the content was not written and no live blob holds it
+     * @throws org.springframework.dao.DataIntegrityViolationException when the blob was registered concurrently
+     */
+    @Transactional
+    public FileMetadata registerUpload(String uploadId, StoredContent content, FileMetadata metadata, boolean isPublic) {
+        if (uploadSessionRepository.deleteByUploadId(uploadId) == 0) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND, "Upload not found: " + uploadId);
+        }
+        return register(content, metadata, isPublic);
+    }
+
+    /**
+     * @return false when the file is gone or already has a variant of that type
+     * @throws ContentNotStoredException when the content was not written and no live blob holds it
+     * @throws org.springframework.dao.DataIntegrityViolationException when the blob was registered concurrently
+     */
+    @Transactional
+    public boolean registerVariant(
+            Long fileId,
+            FileVariantType type,
+            StoredContent content,
+            String contentType,
+            int width,
+            int height) {
+
+        if (!fileMetadataRepository.existsById(fileId) || variantRepository.existsByFileIdAndVariant(fileId, type)) {
+            if (content.isStored()) {
+                eventPublisher.publishEvent(new StoredContentReleasedEvent(null, content.path()));
+            }
+            return false;
+        }
+        String path = acquireBlob(content);
+        variantRepository.save(FileVariant.create(
+            fileId, type, path, content.checksum(), contentType, content.size(), width, height));
+        return true;
+    }
+
+    /**
+     * Removes the tombstone of released content when it still points at {@code path}.
+     *
+     * @return whether the object at {@code path} may be deleted
+     */
+    @Transactional
+    public boolean deleteTombstone(String checksum, String path) {
+        return blobRepository.deleteUnreferenced(checksum, path) > 0;
+    }
+
+    private String acquireBlob(StoredContent content) {
+        Instant now = Instant.now();
+        if (blobRepository.addReference(content.checksum(), now) > 0) {
+            log.info("Upload matches stored content {}, storing a reference only", content.checksum());
+            if (content.isStored()) {
+                eventPublisher.publishEvent(new StoredContentReleasedEvent(null, content.path()));
+            }
+            return storedPath(content.checksum());
+        }
+        if (!content.isStored()) {
+            throw new ContentNotStoredException(content.checksum());
+        }
+
+        Optional<FileBlob> tombstone = blobRepository.findByHash(content.checksum());
+        if (tombstone.isEmpty()) {
+            blobRepository.saveAndFlush(FileBlob.create(content.checksum(), content.path(), content.size()));
+            return content.path();
+        }
+        String tombstonePath = tombstone.get().getPath();
+        if (blobRepository.revive(content.checksum(), tombstonePath, content.path(), content.size(), now) == 0) {
+            throw new OptimisticLockingFailureException("Blob " + content.checksum() + " changed concurrently");
+        }
+        eventPublisher.publishEvent(new StoredContentReleasedEvent(null, tombstonePath));
+        return content.path();
+    }
+
+    private String storedPath(String checksum) {
+        return blobRepository.findByHash(checksum)
+            .map(FileBlob::getPath)
+            .orElseThrow(() -> new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "Stored content disappeared: " + checksum));
+    }
+}
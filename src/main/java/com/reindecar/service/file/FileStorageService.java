@@ -1,21 +1,33 @@
 package com.reindecar.service.file;
 
 import com.reindecar.dto.file.FileResponse;
+import com.reindecar.dto.file.StartUploadRequest;
 import com.reindecar.dto.file.UploadFileRequest;
+import com.reindecar.dto.file.UploadSessionResponse;
 import com.reindecar.entity.file.FileMetadata;
 import com.reindecar.entity.file.FileReferenceType;
+import com.reindecar.entity.file.FileVariant;
+import com.reindecar.entity.file.FileVariantType;
+import com.reindecar.entity.file.UploadSession;
 import com.reindecar.repository.file.FileMetadataRepository;
+import com.reindecar.repository.file.FileVariantRepository;
+import com.reindecar.repository.file.UploadSessionRepository;
 import com.reindecar.common.exception.BusinessException;
 import com.reindecar.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -26,42 +38,158 @@ import java.util.stream.Collectors;
 public class FileStorageService {
 
     private final FileMetadataRepository fileMetadataRepository;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final FileVariantRepository variantRepository;
     private final StorageStrategy storageStrategy;
+    private final UploadStaging staging;
+    private final FileContentStore contentStore;
+    private final UploadSessionWriter uploadSessionWriter;
 
     @Value("${file.max-size:5242880}")
     private long maxFileSize;
 
+    @Value("${file.resumable.max-size:2147483648}")
+    private long maxResumableSize;
+
+    @Value("${file.resumable.expire-after:PT24H}")
+    private Duration uploadExpiry;
+
     private static final Set<String> ALLOWED_EXTENSIONS = Set.of(
         "jpg", "jpeg", "png", "gif", "pdf", "doc", "docx", "mp4", "webm"
     );
 
-    @Transactional
+    /**
+     * Stages and hashes the upload before any transaction is opened; content that is already
+     * stored is not written again.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public FileResponse uploadFile(MultipartFile file, UploadFileRequest request, String uploadedBy) {
         validateFile(file);
 
+        StagedContent content;
+        try (InputStream inputStream = file.getInputStream()) {
+            content = staging.stage(inputStream);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "Failed to read upload: " + e.getMessage());
+        }
+
         FileMetadata metadata = FileMetadata.create(
             file.getOriginalFilename(),
             file.getContentType(),
-            file.getSize(),
+            content.size(),
             request.referenceType(),
             request.referenceId(),
             request.uploadType(),
             uploadedBy
         );
 
-        String filePath = storageStrategy.store(file, metadata.getStoredName());
-        metadata.setPath(filePath);
+        FileMetadata saved;
+        try {
+            saved = contentStore.register(content, metadata, request.isPublic());
+        } catch (RuntimeException e) {
+            staging.discard(content.path());
+            throw e;
+        }
+        log.info("File uploaded: {} -> {}", file.getOriginalFilename(), saved.getStoredName());
 
-        if (request.isPublic()) {
-            metadata.makePublic();
+        return toResponse(saved);
+    }
+
+    @Transactional
+    public UploadSessionResponse startUpload(StartUploadRequest request, String uploadedBy) {
+        validateExtension(request.fileName());
+        if (request.totalSize() > maxResumableSize) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "File size exceeds maximum allowed size");
         }
 
-        FileMetadata saved = fileMetadataRepository.save(metadata);
-        log.info("File uploaded: {} -> {}", file.getOriginalFilename(), saved.getStoredName());
+        UploadSession session = uploadSessionRepository.save(UploadSession.start(
+            request.fileName(),
+            request.contentType(),
+            request.totalSize(),
+            request.referenceType(),
+            request.referenceId(),
+            request.uploadType(),
+            request.isPublic(),
+            uploadedBy,
+            Instant.now().plus(uploadExpiry)
+        ));
+        log.info("Resumable upload started: {} ({} bytes) -> {}", request.fileName(), request.totalSize(), session.getUploadId());
+        return UploadSessionResponse.from(session);
+    }
 
+    public UploadSessionResponse getUpload(String uploadId, String requestedBy) {
+        return UploadSessionResponse.from(findUpload(uploadId, requestedBy));
+    }
+
+    /**
+     * Appends a chunk at {@code offset}, which must equal the bytes received so far; a client that
+     * lost its connection asks for the session and continues from {@code receivedBytes}.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UploadSessionResponse appendChunk(String uploadId, long offset, InputStream chunk, String requestedBy) {
+        UploadSession session = findUpload(uploadId, requestedBy);
+        if (offset != session.getReceivedBytes()) {
+            throw new BusinessException(ErrorCode.INVALID_OPERATION,
+                "Upload offset mismatch, expected " + session.getReceivedBytes());
+        }
+
+        long written = staging.append(uploadId, offset, session.getTotalSize() - offset, chunk);
+        return uploadSessionWriter.advance(uploadId, offset, offset + written, Instant.now().plus(uploadExpiry))
+            .map(UploadSessionResponse::from)
+            .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_OPERATION,
+                "Upload was modified concurrently: " + uploadId));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FileResponse completeUpload(String uploadId, String requestedBy) {
+        UploadSession session = findUpload(uploadId, requestedBy);
+        if (!session.isComplete()) {
+            throw new BusinessException(ErrorCode.INVALID_OPERATION,
+                "Upload is incomplete: " + session.getReceivedBytes() + " of " + session.getTotalSize() + " bytes received");
+        }
+
+        StagedContent content = staging.digestPart(uploadId, session.getTotalSize());
+        FileMetadata metadata = FileMetadata.create(
+            session.getFileName(),
+            session.getContentType(),
+            session.getTotalSize(),
+            session.getReferenceType(),
+            session.getReferenceId(),
+            session.getUploadType(),
+            session.getUploadedBy()
+        );
+
+        FileMetadata saved = contentStore.registerUpload(uploadId, content, metadata, session.isPublic());
+        log.info("Resumable upload completed: {} -> {}", session.getFileName(), saved.getStoredName());
         return toResponse(saved);
     }
 
+    @Transactional
+    public void abortUpload(String uploadId, String requestedBy) {
+        UploadSession session = findUpload(uploadId, requestedBy);
+        uploadSessionRepository.delete(session);
+        staging.discardPart(uploadId);
+        log.info("Resumable upload aborted: {}", uploadId);
+    }
+
+    /**
+     * @return number of expired upload sessions removed
+     */
+    @Transactional
+    public int purgeExpiredUploads() {
+        Instant now = Instant.now();
+        List<String> expired = uploadSessionRepository.findExpiredUploadIds(now);
+        if (!expired.isEmpty()) {
+            uploadSessionRepository.deleteByUploadIds(expired);
+            expired.forEach(staging::discardPart);
+        }
+        int orphaned = staging.purgeOlderThan(now.minus(uploadExpiry));
+        if (orphaned > 0) {
+            log.info("Removed {} orphaned staged files", orphaned);
+        }
+        return expired.size();
+    }
+
     public FileResponse getById(Long id) {
         FileMetadata metadata = fileMetadataRepository.findById(id)
             .orElseThrow(() -> new BusinessException(ErrorCode.FILE_NOT_FOUND, "File not found"));
@@ -81,13 +209,47 @@ public class FileStorageService {
         return storageStrategy.retrieve(metadata.getPath());
     }
 
+    /**
+     * Metadata needed to serve the file over HTTP, including its local path when the storage has one.
+     * A requested variant that has not been generated yet falls back to the original.
+     */
+    public StoredFile getStoredFile(Long id, FileVariantType variantType) {
+        FileMetadata metadata = fileMetadataRepository.findById(id)
+            .orElseThrow(() -> new BusinessException(ErrorCode.FILE_NOT_FOUND, "File not found"));
+        if (variantType != null) {
+            Optional<FileVariant> variant = variantRepository.findByFileIdAndVariant(id, variantType);
+            if (variant.isPresent()) {
+                return toStoredFile(metadata, variant.get());
+            }
+        }
+        String etagValue = metadata.getChecksum() != null
+            ? metadata.getChecksum()
+            : metadata.getStoredName() + "-" + metadata.getSize();
+        return new StoredFile(
+            metadata.getId(),
+            metadata.getFileName(),
+            metadata.getContentType(),
+            metadata.getSize(),
+            "\"" + etagValue + "\"",
+            metadata.getUploadedAt(),
+            metadata.getPath(),
+            storageStrategy.resolveLocalPath(metadata.getPath()).orElse(null)
+        );
+    }
+
+    public InputStream openStream(StoredFile file, long start, long length) {
+        return start == 0 && length == file.size()
+            ? storageStrategy.retrieve(file.storagePath())
+            : storageStrategy.retrieveRange(file.storagePath(), start, length);
+    }
+
     @Transactional
     public void deleteFile(Long id) {
         FileMetadata metadata = fileMetadataRepository.findById(id)
             .orElseThrow(() -> new BusinessException(ErrorCode.FILE_NOT_FOUND, "File not found"));
 
-        storageStrategy.delete(metadata.getPath());
         fileMetadataRepository.delete(metadata);
+        contentStore.release(metadata);
         log.info("File deleted: {}", metadata.getStoredName());
     }
 
@@ -97,6 +259,28 @@ public class FileStorageService {
         return storageStrategy.getPublicUrl(metadata.getPath());
     }
 
+    private StoredFile toStoredFile(FileMetadata metadata, FileVariant variant) {
+        String baseName = metadata.getFileName().contains(".")
+            ? metadata.getFileName().substring(0, metadata.getFileName().lastIndexOf('.'))
+            : metadata.getFileName();
+        return new StoredFile(
+            metadata.getId(),
+            baseName + "-" + variant.getVariant().name().toLowerCase() + ".jpg",
+            variant.getContentType(),
+            variant.getSize(),
+            "\"" + variant.getChecksum() + "\"",
+            variant.getCreatedAt(),
+            variant.getPath(),
+            storageStrategy.resolveLocalPath(variant.getPath()).orElse(null)
+        );
+    }
+
+    private UploadSession findUpload(String uploadId, String requestedBy) {
+        return uploadSessionRepository.findByUploadId(uploadId)
+            .filter(session -> session.getUploadedBy() == null || session.getUploadedBy().equals(requestedBy))
+            .orElseThrow(() -> new BusinessException(ErrorCode.FILE_NOT_FOUND, "Upload not found: " + uploadId));
+    }
+
     private void validateFile(MultipartFile file) {
         if (file.isEmpty()) {
             throw new BusinessException(ErrorCode.INVALID_PARAMETER, "File is empty");
@@ -106,7 +290,11 @@ public class FileStorageService {
             throw new BusinessException(ErrorCode.INVALID_PARAMETER, "File size exceeds maximum allowed size");
         }
 
-        String extension = extractExtension(file.getOriginalFilename());
+        validateExtension(file.getOriginalFilename());
+    }
+
+    private void validateExtension(String fileName) {
+        String extension = extractExtension(fileName);
         if (extension == null || !ALLOWED_EXTENSIONS.contains(extension.toLowerCase())) {
             throw new BusinessException(ErrorCode.FILE_TYPE_NOT_ALLOWED, "File type not allowed");
         }
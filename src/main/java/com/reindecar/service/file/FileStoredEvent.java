@@ -0,0 +1,7 @@
+package com.reindecar.service.file;
+
+/**
+ * Published when the content of a new file has been registered.
+ */
+public record FileStoredEvent(Long fileId, String extension) {
+}
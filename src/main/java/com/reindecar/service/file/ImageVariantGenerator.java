@@ -0,0 +1,171 @@
+package com.reindecar.service.file;
+
+import com.reindecar.entity.file.FileMetadata;
+import com.reindecar.entity.file.FileVariantType;
+import com.reindecar.repository.file.FileMetadataRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * Renders thumbnail and preview variants of uploaded images on the image pool once the upload
+ * has committed. The source is decoded with subsampling close to the preview size, so large
+ * photos never have to be held in memory at full resolution.
+ */
+@Component
+@Slf4j
+class ImageVariantGenerator {
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif");
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final FileMetadataRepository fileMetadataRepository;
+    private final StorageStrategy storageStrategy;
+    private final UploadStaging staging;
+    private final FileContentStore contentStore;
+    private final Executor imageExecutor;
+    private final boolean enabled;
+    private final int thumbnailSize;
+    private final int previewSize;
+    private final float jpegQuality;
+
+    ImageVariantGenerator(
+            FileMetadataRepository fileMetadataRepository,
+            StorageStrategy storageStrategy,
+            UploadStaging staging,
+            FileContentStore contentStore,
+            @Qualifier("imageExecutor") Executor imageExecutor,
+            @Value("${file.image.variants-enabled:true}") boolean enabled,
+            @Value("${file.image.thumbnail-size:240}") int thumbnailSize,
+            @Value("${file.image.preview-size:1280}") int previewSize,
+            @Value("${file.image.jpeg-quality:0.8}") float jpegQuality) {
+        this.fileMetadataRepository = fileMetadataRepository;
+        this.storageStrategy = storageStrategy;
+        this.staging = staging;
+        this.contentStore = contentStore;
+        this.imageExecutor = imageExecutor;
+        this.enabled = enabled;
+        this.thumbnailSize = thumbnailSize;
+        this.previewSize = previewSize;
+        this.jpegQuality = jpegQuality;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFileStored(FileStoredEvent event) {
+        if (enabled && event.extension() != null && IMAGE_EXTENSIONS.contains(event.extension())) {
+            imageExecutor.execute(() -> generate(event.fileId()));
+        }
+    }
+
+    void generate(Long fileId) {
+        FileMetadata metadata = fileMetadataRepository.findById(fileId).orElse(null);
+        if (metadata == null) {
+            return;
+        }
+        try {
+            BufferedImage source = decode(metadata.getPath());
+            if (source == null) {
+                log.debug("No image reader for file {}, skipping variants", fileId);
+                return;
+            }
+            BufferedImage preview = scale(source, previewSize);
+            store(fileId, FileVariantType.PREVIEW, preview);
+            store(fileId, FileVariantType.THUMBNAIL, scale(preview, thumbnailSize));
+            log.info("Image variants generated for file {}", fileId);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate image variants for file {}: {}", fileId, e.getMessage());
+        }
+    }
+
+    /**
+     * Decodes the image subsampled to about twice the preview size and turned upright according
+     * to its EXIF orientation.
+     */
+    private BufferedImage decode(String path) throws IOException {
+        try (InputStream inputStream = storageStrategy.retrieve(path);
+             ImageInputStream imageInput = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInput != null ? ImageIO.getImageReaders(imageInput) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, false);
+                int longestSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longestSide / (previewSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage image = reader.read(0, param);
+                return ExifOrientation.apply(image, ExifOrientation.read(reader.getImageMetadata(0)));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Fits the image into a {@code maxSide} square, keeping the aspect ratio and flattening
+     * transparency onto white since variants are stored as JPEG.
+     */
+    private BufferedImage scale(BufferedImage image, int maxSide) {
+        double ratio = Math.min(1.0, (double) maxSide / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private void store(Long fileId, FileVariantType type, BufferedImage image) throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(encoded)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        StagedContent content = staging.stage(new ByteArrayInputStream(encoded.toByteArray()));
+        try {
+            contentStore.registerVariant(fileId, type, content, VARIANT_CONTENT_TYPE, image.getWidth(), image.getHeight());
+        } catch (RuntimeException e) {
+            staging.discard(content.path());
+            throw e;
+        }
+    }
+}
@@ -6,20 +6,24 @@ import com.reindecar.common.exception.ErrorCode;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 @ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
 @Slf4j
 public class LocalStorageStrategy implements StorageStrategy {
 
+    private static final String BLOB_DIRECTORY = "blobs";
+
     @Value("${file.upload.path:uploads}")
     private String uploadPath;
 
@@ -27,16 +31,15 @@ public class LocalStorageStrategy implements StorageStrategy {
     private String baseUrl;
 
     @Override
-    public String store(MultipartFile file, String storedName) {
+    public String storeContent(Path source, String checksum) {
         try {
-            Path uploadDir = Paths.get(uploadPath);
-            if (!Files.exists(uploadDir)) {
-                Files.createDirectories(uploadDir);
-            }
-
-            Path targetPath = uploadDir.resolve(storedName);
-            try (InputStream inputStream = file.getInputStream()) {
-                Files.copy(inputStream, targetPath, StandardCopyOption.REPLACE_EXISTING);
+            Path targetPath = Paths.get(uploadPath, BLOB_DIRECTORY, checksum.substring(0, 2),
+                checksum + "-" + UUID.randomUUID());
+            Files.createDirectories(targetPath.getParent());
+            try {
+                Files.move(source, targetPath, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(source, targetPath);
             }
 
             log.info("File stored locally: {}", targetPath);
@@ -55,6 +58,15 @@ public class LocalStorageStrategy implements StorageStrategy {
         }
     }
 
+    @Override
+    public InputStream retrieveRange(String path, long start, long length) {
+        try {
+            return new FileRangeInputStream(Paths.get(path), start, length);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND, "Failed to retrieve file: " + e.getMessage());
+        }
+    }
+
     @Override
     public void delete(String path) {
         try {
@@ -65,6 +77,12 @@ public class LocalStorageStrategy implements StorageStrategy {
         }
     }
 
+    @Override
+    public Optional<Path> resolveLocalPath(String path) {
+        Path file = Paths.get(path);
+        return Files.isReadable(file) ? Optional.of(file) : Optional.empty();
+    }
+
     @Override
     public String getPublicUrl(String path) {
         return baseUrl + "/api/v1/files/view/" + Paths.get(path).getFileName();
@@ -1,52 +1,306 @@
 package com.reindecar.service.file;
 
+import com.reindecar.common.exception.BusinessException;
+import com.reindecar.common.exception.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+/**
+ * Stores files in S3 or any S3-compatible server over its REST API, signed with Signature V4.
+ * Objects above {@code aws.s3.multipart-threshold} are sent as a multipart upload whose parts are
+ * streamed from the staged file in parallel on the storage pool; reads are streamed and ranged,
+ * so no object is ever held in memory as a whole.
+ */
 @Component
 @ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
 @Slf4j
 public class S3StorageStrategy implements StorageStrategy {
 
-    @Value("${aws.s3.bucket:reindecar-files}")
-    private String bucketName;
+    private static final String BLOB_PREFIX = "blobs/";
+    private static final Pattern UPLOAD_ID = Pattern.compile("<UploadId>(.+?)</UploadId>");
+    private static final int MAX_ERROR_BODY = 500;
 
-    @Value("${aws.s3.region:eu-central-1}")
-    private String region;
+    private final String bucketName;
+    private final String region;
+    private final String cloudfrontUrl;
+    private final URI endpoint;
+    private final boolean pathStyleAccess;
+    private final long multipartThreshold;
+    private final long partSize;
+    private final Duration requestTimeout;
+    private final Executor storageExecutor;
+    private final S3RequestSigner signer;
+    private final HttpClient httpClient;
 
-    @Value("${aws.cloudfront.url:}")
-    private String cloudfrontUrl;
+    public S3StorageStrategy(
+            @Value("${aws.s3.bucket:reindecar-files}") String bucketName,
+            @Value("${aws.s3.region:eu-central-1}") String region,
+            @Value("${aws.cloudfront.url:}") String cloudfrontUrl,
+            @Value("${aws.s3.endpoint:}") String endpoint,
+            @Value("${aws.s3.path-style-access:false}") boolean pathStyleAccess,
+            @Value("${aws.s3.access-key:}") String accessKey,
+            @Value("${aws.s3.secret-key:}") String secretKey,
+            @Value("${aws.s3.multipart-threshold:16777216}") long multipartThreshold,
+            @Value("${aws.s3.part-size:8388608}") long partSize,
+            @Value("${aws.s3.connect-timeout:PT5S}") Duration connectTimeout,
+            @Value("${aws.s3.request-timeout:PT2M}") Duration requestTimeout,
+            @Qualifier("storageExecutor") Executor storageExecutor) {
+        this.bucketName = bucketName;
+        this.region = region;
+        this.cloudfrontUrl = cloudfrontUrl;
+        this.endpoint = URI.create(endpoint.isBlank() ? "https://s3." + region + ".amazonaws.com" : endpoint);
+        this.pathStyleAccess = pathStyleAccess;
+        this.multipartThreshold = multipartThreshold;
+        this.partSize = partSize;
+        this.requestTimeout = requestTimeout;
+        this.storageExecutor = storageExecutor;
+        this.signer = new S3RequestSigner(accessKey, secretKey, region);
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(connectTimeout)
+            .build();
+    }
 
     @Override
-    public String store(MultipartFile file, String storedName) {
-        log.info("S3 Storage: Would upload {} to bucket {}", storedName, bucketName);
-        return "s3://" + bucketName + "/" + storedName;
+    public String storeContent(Path source, String checksum) {
+        String key = BLOB_PREFIX + checksum + "-" + UUID.randomUUID();
+        try {
+            long size = Files.size(source);
+            if (size < multipartThreshold) {
+                putObject(key, source, checksum);
+            } else {
+                multipartUpload(key, source, size);
+            }
+            log.info("S3 Storage: uploaded {} ({} bytes) to bucket {}", key, size, bucketName);
+            Files.deleteIfExists(source);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "Failed to read staged file: " + e.getMessage());
+        }
+        return "s3://" + bucketName + "/" + key;
     }
 
     @Override
     public InputStream retrieve(String path) {
-        log.info("S3 Storage: Would retrieve {}", path);
-        return new ByteArrayInputStream(new byte[0]);
+        HttpResponse<InputStream> response = send("GET", objectUri(keyOf(path), null),
+            HttpRequest.BodyPublishers.noBody(), S3RequestSigner.EMPTY_PAYLOAD_HASH, Map.of());
+        if (response.statusCode() != 200) {
+            throw failure(response, "GET " + path);
+        }
+        return response.body();
+    }
+
+    @Override
+    public InputStream retrieveRange(String path, long start, long length) {
+        HttpResponse<InputStream> response = send("GET", objectUri(keyOf(path), null),
+            HttpRequest.BodyPublishers.noBody(), S3RequestSigner.EMPTY_PAYLOAD_HASH,
+            Map.of("Range", "bytes=" + start + "-" + (start + length - 1)));
+        if (response.statusCode() != 206) {
+            throw failure(response, "Ranged GET " + path);
+        }
+        return response.body();
     }
 
     @Override
     public void delete(String path) {
-        log.info("S3 Storage: Would delete {}", path);
+        HttpResponse<InputStream> response = send("DELETE", objectUri(keyOf(path), null),
+            HttpRequest.BodyPublishers.noBody(), S3RequestSigner.EMPTY_PAYLOAD_HASH, Map.of());
+        if (response.statusCode() == 204 || response.statusCode() == 200 || response.statusCode() == 404) {
+            close(response);
+            log.info("S3 Storage: deleted {}", path);
+        } else {
+            log.error("Failed to delete file: {}", path, failure(response, "DELETE " + path));
+        }
     }
 
     @Override
     public String getPublicUrl(String path) {
         if (cloudfrontUrl != null && !cloudfrontUrl.isEmpty()) {
-            String fileName = path.replace("s3://" + bucketName + "/", "");
-            return cloudfrontUrl + "/" + fileName;
+            return cloudfrontUrl + "/" + keyOf(path);
+        }
+        return "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + keyOf(path);
+    }
+
+    /**
+     * The checksum is the SHA-256 of the content, so it doubles as the signed payload hash and
+     * S3 rejects the upload if the bytes were altered on the way.
+     */
+    private void putObject(String key, Path source, String checksum) throws IOException {
+        HttpResponse<InputStream> response = send("PUT", objectUri(key, null),
+            HttpRequest.BodyPublishers.ofFile(source), checksum, Map.of());
+        if (response.statusCode() != 200) {
+            throw failure(response, "PUT " + key);
+        }
+        close(response);
+    }
+
+    private void multipartUpload(String key, Path source, long size) {
+        String uploadId = createMultipartUpload(key);
+        try {
+            int partCount = (int) ((size + partSize - 1) / partSize);
+            List<CompletableFuture<String>> parts = new ArrayList<>(partCount);
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                int part = partNumber;
+                long offset = (part - 1) * partSize;
+                long length = Math.min(partSize, size - offset);
+                parts.add(CompletableFuture.supplyAsync(
+                    () -> uploadPart(key, uploadId, part, source, offset, length), storageExecutor));
+            }
+            List<String> etags = parts.stream().map(CompletableFuture::join).toList();
+            completeMultipartUpload(key, uploadId, etags);
+        } catch (RuntimeException e) {
+            abortMultipartUpload(key, uploadId);
+            throw e instanceof CompletionException && e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private String createMultipartUpload(String key) {
+        HttpResponse<InputStream> response = send("POST", objectUri(key, "uploads="),
+            HttpRequest.BodyPublishers.noBody(), S3RequestSigner.EMPTY_PAYLOAD_HASH, Map.of());
+        String body = readBody(response);
+        Matcher matcher = UPLOAD_ID.matcher(body);
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new BusinessException(ErrorCode.EXTERNAL_SERVICE_ERROR,
+                "S3 multipart upload could not be started for " + key + ": " + abbreviate(body));
+        }
+        return matcher.group(1);
+    }
+
+    private String uploadPart(String key, String uploadId, int partNumber, Path source, long offset, long length) {
+        HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.fromPublisher(
+            HttpRequest.BodyPublishers.ofInputStream(() -> {
+                try {
+                    return new FileRangeInputStream(source, offset, length);
+                } catch (IOException e) {
+                    throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "Failed to read staged file: " + e.getMessage());
+                }
+            }), length);
+        HttpResponse<InputStream> response = send("PUT",
+            objectUri(key, "partNumber=" + partNumber + "&uploadId=" + S3RequestSigner.encode(uploadId)),
+            body, S3RequestSigner.UNSIGNED_PAYLOAD, Map.of());
+        if (response.statusCode() != 200) {
+            throw failure(response, "Upload of part " + partNumber + " of " + key);
+        }
+        close(response);
+        return response.headers().firstValue("ETag")
+            .orElseThrow(() -> new BusinessException(ErrorCode.EXTERNAL_SERVICE_ERROR,
+                "S3 returned no ETag for part " + partNumber + " of " + key));
+    }
+
+    private void completeMultipartUpload(String key, String uploadId, List<String> etags) {
+        StringBuilder xml = new StringBuilder("<CompleteMultipartUpload>");
+        for (int i = 0; i < etags.size(); i++) {
+            xml.append("<Part><PartNumber>").append(i + 1).append("</PartNumber><ETag>")
+                .append(etags.get(i).replace("\"", "&quot;")).append("</ETag></Part>");
         }
-        return "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + 
-               path.replace("s3://" + bucketName + "/", "");
+        byte[] body = xml.append("</CompleteMultipartUpload>").toString().getBytes(StandardCharsets.UTF_8);
+
+        HttpResponse<InputStream> response = send("POST",
+            objectUri(key, "uploadId=" + S3RequestSigner.encode(uploadId)),
+            HttpRequest.BodyPublishers.ofByteArray(body), S3RequestSigner.sha256Hex(body), Map.of());
+        String responseBody = readBody(response);
+        // S3 may report a failed completion with status 200 and an error document
+        if (response.statusCode() != 200 || responseBody.contains("<Error>")) {
+            throw new BusinessException(ErrorCode.EXTERNAL_SERVICE_ERROR,
+                "S3 multipart upload could not be completed for " + key + ": " + abbreviate(responseBody));
+        }
+    }
+
+    private void abortMultipartUpload(String key, String uploadId) {
+        try {
+            close(send("DELETE", objectUri(key, "uploadId=" + S3RequestSigner.encode(uploadId)),
+                HttpRequest.BodyPublishers.noBody(), S3RequestSigner.EMPTY_PAYLOAD_HASH, Map.of()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to abort multipart upload {} of {}", uploadId, key, e);
+        }
+    }
+
+    private HttpResponse<InputStream> send(
+            String method,
+            URI uri,
+            HttpRequest.BodyPublisher body,
+            String payloadHash,
+            Map<String, String> headers) {
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+            .timeout(requestTimeout)
+            .method(method, body);
+        signer.sign(method, uri, payloadHash).forEach(request::header);
+        headers.forEach(request::header);
+        try {
+            return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.EXTERNAL_SERVICE_ERROR, "S3 request failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.EXTERNAL_SERVICE_ERROR, "S3 request interrupted");
+        }
+    }
+
+    private URI objectUri(String key, String query) {
+        String encodedKey = Arrays.stream(key.split("/"))
+            .map(S3RequestSigner::encode)
+            .collect(Collectors.joining("/"));
+        String base = pathStyleAccess
+            ? endpoint + "/" + bucketName
+            : endpoint.getScheme() + "://" + bucketName + "." + endpoint.getRawAuthority();
+        return URI.create(base + "/" + encodedKey + (query != null ? "?" + query : ""));
+    }
+
+    private String keyOf(String path) {
+        return path.replace("s3://" + bucketName + "/", "");
+    }
+
+    private BusinessException failure(HttpResponse<InputStream> response, String action) {
+        String body = readBody(response);
+        if (response.statusCode() == 404) {
+            return new BusinessException(ErrorCode.FILE_NOT_FOUND, action + " returned 404");
+        }
+        return new BusinessException(ErrorCode.EXTERNAL_SERVICE_ERROR,
+            action + " failed with status " + response.statusCode() + ": " + abbreviate(body));
+    }
+
+    private static String readBody(HttpResponse<InputStream> response) {
+        try (InputStream body = response.body()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static void close(HttpResponse<InputStream> response) {
+        try {
+            response.body().close();
+        } catch (IOException e) {
+            log.debug("Failed to close S3 response body", e);
+        }
+    }
+
+    private static String abbreviate(String body) {
+        return body.length() > MAX_ERROR_BODY ? body.substring(0, MAX_ERROR_BODY) : body;
     }
 }
@@ -0,0 +1,9 @@
+package com.reindecar.service.file;
+
+import java.nio.file.Path;
+
+/**
+ * Upload content written to the staging directory, together with its SHA-256 checksum.
+ */
+record StagedContent(Path path, String checksum, long size) {
+}
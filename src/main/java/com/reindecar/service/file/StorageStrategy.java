@@ -1,16 +1,35 @@
 package com.reindecar.service.file;
 
-import org.springframework.web.multipart.MultipartFile;
-
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
 
 public interface StorageStrategy {
 
-    String store(MultipartFile file, String storedName);
+    /**
+     * Moves the staged {@code source} into the storage as a new object named after its content
+     * checksum and returns the stored path. Every call creates a distinct object, so an object
+     * written for a blob is never shared with an older generation of the same content that may be
+     * about to be deleted.
+     */
+    String storeContent(Path source, String checksum);
 
     InputStream retrieve(String path);
 
+    /**
+     * Streams {@code length} bytes of the stored object starting at {@code start}.
+     */
+    InputStream retrieveRange(String path, long start, long length);
+
     void delete(String path);
 
     String getPublicUrl(String path);
+
+    /**
+     * Returns the file on the local file system when the strategy keeps one, so it can be served
+     * directly from disk instead of through {@link #retrieve(String)}.
+     */
+    default Optional<Path> resolveLocalPath(String path) {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,16 @@
+package com.reindecar.service.file;
+
+/**
+ * Content addressed by its SHA-256 checksum; {@code path} is null while it has not been written
+ * to the storage yet.
+ */
+record StoredContent(String checksum, String path, long size) {
+
+    static StoredContent unstored(StagedContent staged) {
+        return new StoredContent(staged.checksum(), null, staged.size());
+    }
+
+    boolean isStored() {
+        return path != null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.reindecar.service.file;
+
+/**
+ * Published when stored content lost its last reference. With a {@code checksum} the object is
+ * deleted only if the blob's tombstone still points at {@code path}; without one, {@code path} is
+ * no longer referenced by any row and is deleted outright.
+ */
+record StoredContentReleasedEvent(String checksum, String path) {
+}
@@ -0,0 +1,22 @@
+package com.reindecar.service.file;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * @param localPath file on local disk, or null when the storage only provides a stream
+ */
+public record StoredFile(
+    Long id,
+    String fileName,
+    String contentType,
+    long size,
+    String etag,
+    Instant lastModified,
+    String storagePath,
+    Path localPath
+) {
+    public boolean isLocal() {
+        return localPath != null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.reindecar.service.file;
+
+import com.reindecar.entity.file.UploadSession;
+import com.reindecar.repository.file.UploadSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Records upload progress in short transactions; chunk data itself is written outside of them.
+ */
+@Component
+@RequiredArgsConstructor
+class UploadSessionWriter {
+
+    private final UploadSessionRepository uploadSessionRepository;
+
+    /**
+     * @return the updated session, or empty when another chunk moved the session first
+     */
+    @Transactional
+    public Optional<UploadSession> advance(String uploadId, long offset, long receivedBytes, Instant expiresAt) {
+        if (uploadSessionRepository.advance(uploadId, offset, receivedBytes, expiresAt, Instant.now()) == 0) {
+            return Optional.empty();
+        }
+        return uploadSessionRepository.findByUploadId(uploadId);
+    }
+}
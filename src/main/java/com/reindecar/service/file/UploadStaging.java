@@ -0,0 +1,181 @@
+package com.reindecar.service.file;
+
+import com.reindecar.common.exception.BusinessException;
+import com.reindecar.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Node-local directory that uploads are written to before they are moved into the storage.
+ * Content is hashed while it is copied, so the checksum is known without reading it again.
+ * The {@code .part} file of a resumable upload lives here, so with several nodes every request of
+ * one upload ({@code /api/v1/files/uploads/{uploadId}/**}) must reach the node that started it:
+ * route those paths sticky by upload id at the load balancer, or point {@code file.upload.staging-path}
+ * at a volume shared by all nodes whose file system supports {@link FileLock}. A chunk that reaches
+ * a node without the earlier data is rejected.
+ */
+@Component
+@Slf4j
+class UploadStaging {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path stagingDirectory;
+
+    UploadStaging(@Value("${file.upload.staging-path:${file.upload.path:uploads}/.staging}") String stagingPath) {
+        this.stagingDirectory = Paths.get(stagingPath);
+    }
+
+    StagedContent stage(InputStream inputStream) {
+        Path target = stagingDirectory.resolve(UUID.randomUUID() + ".tmp");
+        MessageDigest digest = newDigest();
+        long size = 0;
+        try {
+            Files.createDirectories(stagingDirectory);
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    channel.write(ByteBuffer.wrap(buffer, 0, read));
+                    size += read;
+                }
+            }
+        } catch (IOException e) {
+            discard(target);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "Failed to stage file: " + e.getMessage());
+        }
+        return new StagedContent(target, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    /**
+     * Writes a chunk of a resumable upload at {@code offset}, dropping anything a previously
+     * interrupted chunk left behind it.
+     *
+     * @return number of bytes written
+     */
+    long append(String uploadId, long offset, long maxBytes, InputStream inputStream) {
+        Path partFile = partFile(uploadId);
+        long written = 0;
+        try {
+            Files.createDirectories(stagingDirectory);
+            try (FileChannel channel = FileChannel.open(partFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock lock = tryLock(channel, uploadId)) {
+                if (channel.size() < offset) {
+                    throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "Upload data is missing on this node: " + uploadId);
+                }
+                channel.truncate(offset);
+                channel.position(offset);
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    if (written + read > maxBytes) {
+                        channel.truncate(offset);
+                        throw new BusinessException(ErrorCode.INVALID_PARAMETER, "Chunk exceeds the declared file size");
+                    }
+                    channel.write(ByteBuffer.wrap(buffer, 0, read));
+                    written += read;
+                }
+            }
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "Failed to write chunk: " + e.getMessage());
+        }
+        return written;
+    }
+
+    private static FileLock tryLock(FileChannel channel, String uploadId) throws IOException {
+        try {
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                return lock;
+            }
+        } catch (OverlappingFileLockException e) {
+            // another request of this JVM is writing the same upload
+        }
+        throw new BusinessException(ErrorCode.INVALID_OPERATION, "Another chunk of this upload is being written: " + uploadId);
+    }
+
+    StagedContent digestPart(String uploadId, long size) {
+        Path partFile = partFile(uploadId);
+        MessageDigest digest = newDigest();
+        try (FileChannel channel = FileChannel.open(partFile, StandardOpenOption.READ)) {
+            if (channel.size() != size) {
+                throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "Upload data is incomplete: " + uploadId);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "Failed to read upload data: " + e.getMessage());
+        }
+        return new StagedContent(partFile, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    void discardPart(String uploadId) {
+        discard(partFile(uploadId));
+    }
+
+    void discard(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete staged file: {}", path, e);
+        }
+    }
+
+    /**
+     * Removes staged files left behind by uploads that were abandoned or interrupted by a restart.
+     *
+     * @return number of files removed
+     */
+    int purgeOlderThan(Instant cutoff) {
+        if (!Files.isDirectory(stagingDirectory)) {
+            return 0;
+        }
+        int removed = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(stagingDirectory)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to purge staging directory: {}", stagingDirectory, e);
+        }
+        return removed;
+    }
+
+    private Path partFile(String uploadId) {
+        return stagingDirectory.resolve(uploadId + ".part");
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not available", e);
+        }
+    }
+}
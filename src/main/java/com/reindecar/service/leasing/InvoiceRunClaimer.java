@@ -0,0 +1,42 @@
+package com.reindecar.service.leasing;
+
+import com.reindecar.entity.leasing.InvoiceRun;
+import com.reindecar.entity.leasing.InvoiceRun.RunStatus;
+import com.reindecar.repository.leasing.InvoiceRunRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Takes ownership of the invoice run of a period in a short, independent transaction.
+ * A new period gets a fresh run; an unfinished run is taken over only when its last checkpoint
+ * is older than the stale threshold, so a run still making progress on another node is left alone.
+ */
+@Component
+@RequiredArgsConstructor
+class InvoiceRunClaimer {
+
+    private final InvoiceRunRepository runRepository;
+
+    /**
+     * @return the claimed run, or empty when the period is completed or owned by a live run
+     * @throws org.springframework.dao.DataIntegrityViolationException when another node created the run concurrently
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<InvoiceRun> claim(String period, Instant staleBefore) {
+        Optional<InvoiceRun> existing = runRepository.findByPeriod(period);
+        if (existing.isEmpty()) {
+            return Optional.of(runRepository.saveAndFlush(InvoiceRun.start(period)));
+        }
+        InvoiceRun run = existing.get();
+        if (run.isCompleted()
+                || runRepository.claimStalled(run.getId(), RunStatus.RUNNING, staleBefore, Instant.now()) == 0) {
+            return Optional.empty();
+        }
+        return runRepository.findById(run.getId());
+    }
+}
@@ -13,8 +13,10 @@ import com.reindecar.repository.leasing.LeasingInvoiceRepository;
 import com.reindecar.repository.leasing.LeasingKmRecordRepository;
 import com.reindecar.repository.pricing.CustomerContractRepository;
 import com.reindecar.repository.rental.RentalRepository;
+import com.reindecar.service.sequence.NumberAllocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,12 +33,18 @@ import java.util.Optional;
 public class LeasingInvoiceService {
 
     private static final String INVOICE_PREFIX = "INV-";
+    private static final String INVOICE_SEQUENCE = "LINV-";
     private static final BigDecimal DEFAULT_EXCESS_KM_PRICE = new BigDecimal("0.50");
 
     private final LeasingInvoiceRepository invoiceRepository;
     private final RentalRepository rentalRepository;
     private final CustomerContractRepository contractRepository;
     private final LeasingKmRecordRepository kmRecordRepository;
+    private final NumberAllocationService numberAllocationService;
+    private final OverdueInvoiceChunkWriter overdueInvoiceChunkWriter;
+
+    @Value("${leasing.invoice.overdue-chunk-size:500}")
+    private int overdueChunkSize;
 
     @Transactional
     public LeasingInvoiceResponse generateInvoice(GenerateInvoiceRequest request) {
@@ -53,48 +61,35 @@ public class LeasingInvoiceService {
         }
         
         Optional<CustomerContract> contractOpt = findActiveContract(rental.getCustomerId());
-        Money monthlyRent = contractOpt
-            .map(c -> c.getNegotiatedMonthlyPrice())
-            .orElse(Money.of(new BigDecimal("5000"), Money.DEFAULT_CURRENCY));
-        
         Optional<LeasingKmRecord> kmRecord = kmRecordRepository
             .findByRentalIdAndPeriodYearMonth(request.rentalId(), period.toString());
-        
-        int excessKm = kmRecord.map(LeasingKmRecord::getExcessKm).orElse(0);
-        BigDecimal excessKmPrice = contractOpt
-            .map(c -> c.getExtraKmPrice() != null ? c.getExtraKmPrice().getAmount() : DEFAULT_EXCESS_KM_PRICE)
-            .orElse(DEFAULT_EXCESS_KM_PRICE);
-        
-        Money excessKmCharge = excessKm > 0 
-            ? Money.of(excessKmPrice.multiply(BigDecimal.valueOf(excessKm)), monthlyRent.getCurrency())
-            : null;
-        
-        Money additionalCharges = request.additionalCharges() != null 
-            ? Money.of(request.additionalCharges(), monthlyRent.getCurrency())
-            : null;
-        
-        String invoiceNumber = generateInvoiceNumber();
-        
-        LeasingInvoice invoice = LeasingInvoice.create(
-            invoiceNumber,
-            request.rentalId(),
-            contractOpt.map(CustomerContract::getId).orElse(null),
-            rental.getCustomerId(),
-            periodStart,
-            periodEnd,
-            monthlyRent,
-            excessKm,
-            excessKmCharge,
-            additionalCharges,
-            request.additionalChargesNote()
-        );
-        
-        LeasingInvoice saved = invoiceRepository.save(invoice);
-        log.info("Invoice generated: {} for rental {}", invoiceNumber, request.rentalId());
-        
+
+        LeasingInvoice saved = createInvoice(
+            rental, period, contractOpt, kmRecord, request.additionalCharges(), request.additionalChargesNote());
         return toResponse(saved);
     }
 
+    /**
+     * Creates the invoice of one rental for a billing period from data the caller already loaded.
+     * Used by the monthly run, which prefetches contracts, KM records and existing invoices per chunk.
+     * The period is checked again inside the transaction because a run taken over by another node
+     * may reach the same rental; the unique (rental, period) constraint backs this check.
+     *
+     * @return the created invoice, or empty when the rental was already invoiced for the period
+     */
+    @Transactional
+    public Optional<LeasingInvoiceResponse> generateMonthlyInvoice(
+            Rental rental,
+            YearMonth period,
+            Optional<CustomerContract> contract,
+            Optional<LeasingKmRecord> kmRecord) {
+        if (invoiceRepository.existsByRentalIdAndPeriodStartAndPeriodEnd(
+                rental.getId(), period.atDay(1), period.atEndOfMonth())) {
+            return Optional.empty();
+        }
+        return Optional.of(toResponse(createInvoice(rental, period, contract, kmRecord, null, null)));
+    }
+
     @Transactional(readOnly = true)
     public List<LeasingInvoiceResponse> getInvoicesByRental(Long rentalId) {
         getRentalOrThrow(rentalId);
@@ -141,14 +136,71 @@ public class LeasingInvoiceService {
         log.info("Invoice cancelled: {}", invoice.getInvoiceNumber());
     }
 
-    @Transactional
-    public void updateOverdueInvoices() {
-        List<LeasingInvoice> overdueInvoices = invoiceRepository.findOverdueInvoices(LocalDate.now());
-        for (LeasingInvoice invoice : overdueInvoices) {
-            invoice.markAsOverdue();
-            invoiceRepository.save(invoice);
-            log.info("Invoice marked as overdue: {}", invoice.getInvoiceNumber());
-        }
+    /**
+     * Moves SENT invoices past their due date to OVERDUE in chunks of {@code leasing.invoice.overdue-chunk-size},
+     * each chunk a single conditional UPDATE in its own transaction.
+     *
+     * @return number of invoices marked overdue
+     */
+    public int updateOverdueInvoices() {
+        LocalDate today = LocalDate.now();
+        long afterId = 0;
+        int total = 0;
+        OverdueInvoiceChunkWriter.ChunkResult chunk;
+        do {
+            chunk = overdueInvoiceChunkWriter.markNextChunk(today, afterId, overdueChunkSize);
+            afterId = chunk.lastId();
+            total += chunk.updated();
+        } while (!chunk.last());
+
+        log.info("Invoices marked as overdue: {}", total);
+        return total;
+    }
+
+    private LeasingInvoice createInvoice(
+            Rental rental,
+            YearMonth period,
+            Optional<CustomerContract> contractOpt,
+            Optional<LeasingKmRecord> kmRecord,
+            BigDecimal additionalAmount,
+            String additionalChargesNote) {
+
+        Money monthlyRent = contractOpt
+            .map(c -> c.getNegotiatedMonthlyPrice())
+            .orElse(Money.of(new BigDecimal("5000"), Money.DEFAULT_CURRENCY));
+        
+        int excessKm = kmRecord.map(LeasingKmRecord::getExcessKm).orElse(0);
+        BigDecimal excessKmPrice = contractOpt
+            .map(c -> c.getExtraKmPrice() != null ? c.getExtraKmPrice().getAmount() : DEFAULT_EXCESS_KM_PRICE)
+            .orElse(DEFAULT_EXCESS_KM_PRICE);
+        
+        Money excessKmCharge = excessKm > 0 
+            ? Money.of(excessKmPrice.multiply(BigDecimal.valueOf(excessKm)), monthlyRent.getCurrency())
+            : null;
+        
+        Money additionalCharges = additionalAmount != null 
+            ? Money.of(additionalAmount, monthlyRent.getCurrency())
+            : null;
+        
+        String invoiceNumber = generateInvoiceNumber();
+        
+        LeasingInvoice invoice = LeasingInvoice.create(
+            invoiceNumber,
+            rental.getId(),
+            contractOpt.map(CustomerContract::getId).orElse(null),
+            rental.getCustomerId(),
+            period.atDay(1),
+            period.atEndOfMonth(),
+            monthlyRent,
+            excessKm,
+            excessKmCharge,
+            additionalCharges,
+            additionalChargesNote
+        );
+        
+        LeasingInvoice saved = invoiceRepository.save(invoice);
+        log.info("Invoice generated: {} for rental {}", invoiceNumber, rental.getId());
+        return saved;
     }
 
     private Rental getRentalOrThrow(Long rentalId) {
@@ -168,9 +220,9 @@ public class LeasingInvoiceService {
     }
 
     private String generateInvoiceNumber() {
-        String prefix = INVOICE_PREFIX + Year.now().getValue() + "-";
-        long count = invoiceRepository.count();
-        return String.format("%s%06d", prefix, count + 1);
+        int year = Year.now().getValue();
+        long number = numberAllocationService.nextValue(INVOICE_SEQUENCE, year, invoiceRepository::count);
+        return String.format("%s%d-%06d", INVOICE_PREFIX, year, number);
     }
 
     private LeasingInvoiceResponse toResponse(LeasingInvoice invoice) {
@@ -0,0 +1,220 @@
+package com.reindecar.service.leasing;
+
+import com.reindecar.dto.leasing.InvoiceRunResponse;
+import com.reindecar.entity.leasing.InvoiceRun;
+import com.reindecar.entity.leasing.LeasingKmRecord;
+import com.reindecar.entity.pricing.CustomerContract;
+import com.reindecar.entity.pricing.RentalType;
+import com.reindecar.entity.rental.Rental;
+import com.reindecar.entity.rental.RentalStatus;
+import com.reindecar.repository.leasing.InvoiceRunRepository;
+import com.reindecar.repository.leasing.LeasingInvoiceRepository;
+import com.reindecar.repository.leasing.LeasingKmRecordRepository;
+import com.reindecar.repository.pricing.CustomerContractRepository;
+import com.reindecar.repository.rental.RentalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the monthly invoices of all active leasing rentals as a resumable batch job.
+ * Rentals are read in id-ordered chunks; contracts, KM records and already issued invoices are
+ * loaded once per chunk and the invoices of a chunk are created in parallel on the invoice executor,
+ * each in its own transaction. The run is checkpointed after every chunk, so a run that stopped
+ * (crash, redeploy) is picked up after the last completed chunk once it is considered stale.
+ * Taking a run over bumps its version; the previous owner compares the version before every chunk
+ * and stops once it no longer owns the run.
+ * Rentals that fail are counted and logged; they can be invoiced individually afterwards.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MonthlyInvoiceRunService {
+
+    private final RentalRepository rentalRepository;
+    private final CustomerContractRepository contractRepository;
+    private final LeasingKmRecordRepository kmRecordRepository;
+    private final LeasingInvoiceRepository invoiceRepository;
+    private final InvoiceRunRepository runRepository;
+    private final InvoiceRunClaimer runClaimer;
+    private final LeasingInvoiceService invoiceService;
+    @Qualifier("invoiceExecutor")
+    private final Executor invoiceExecutor;
+
+    @Value("${leasing.invoice-run.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${leasing.invoice-run.stale-after:PT10M}")
+    private Duration staleAfter;
+
+    /**
+     * Runs or resumes the invoice run of the given period.
+     *
+     * @return statistics of the finished run, or empty when the period was already completed
+     *         or is being processed elsewhere
+     */
+    public Optional<InvoiceRunResponse> run(YearMonth period) {
+        Optional<InvoiceRun> claimed = claim(period);
+        if (claimed.isEmpty()) {
+            log.info("Invoice run for {} skipped: already completed or in progress", period);
+            return Optional.empty();
+        }
+
+        InvoiceRun run = claimed.get();
+        if (run.getLastRentalId() > 0) {
+            log.info("Resuming invoice run for {} after rental {}", period, run.getLastRentalId());
+        }
+
+        InvoiceRunResponse result;
+        try {
+            List<Rental> chunk;
+            do {
+                if (!ownsRun(run)) {
+                    log.warn("Invoice run for {} was taken over by another node, stopping", period);
+                    return Optional.empty();
+                }
+                chunk = rentalRepository.findChunkByRentalTypeAndStatus(
+                    RentalType.LEASING, RentalStatus.ACTIVE, run.getLastRentalId(), PageRequest.ofSize(chunkSize));
+                if (!chunk.isEmpty()) {
+                    run = processChunk(run, period, chunk);
+                }
+            } while (chunk.size() == chunkSize);
+
+            run.complete();
+            result = InvoiceRunResponse.from(runRepository.save(run));
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Invoice run for {} was taken over by another node while checkpointing, stopping", period);
+            return Optional.empty();
+        }
+        log.info("Invoice run for {} completed. Processed: {}, Created: {}, Skipped: {}, Failed: {}, " +
+                "Throughput: {} rentals/s",
+            period, result.processedCount(), result.createdCount(), result.skippedCount(),
+            result.failedCount(), String.format("%.1f", result.rentalsPerSecond()));
+        return Optional.of(result);
+    }
+
+    /**
+     * Resumes every unfinished run whose last checkpoint is older than {@code leasing.invoice-run.stale-after}.
+     */
+    public List<InvoiceRunResponse> resumeStalledRuns() {
+        return runRepository.findStalledPeriods(InvoiceRun.RunStatus.RUNNING, staleBefore()).stream()
+            .map(period -> run(YearMonth.parse(period)))
+            .flatMap(Optional::stream)
+            .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<InvoiceRunResponse> getRecentRuns() {
+        return runRepository.findTop20ByOrderByStartedAtDesc().stream()
+            .map(InvoiceRunResponse::from)
+            .toList();
+    }
+
+    private Optional<InvoiceRun> claim(YearMonth period) {
+        try {
+            return runClaimer.claim(period.toString(), staleBefore());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Invoice run for {} was started concurrently", period);
+            return Optional.empty();
+        }
+    }
+
+    private boolean ownsRun(InvoiceRun run) {
+        return runRepository.findVersionById(run.getId())
+            .map(version -> version.equals(run.getVersion()))
+            .orElse(false);
+    }
+
+    private InvoiceRun processChunk(InvoiceRun run, YearMonth period, List<Rental> rentals) {
+        long started = System.nanoTime();
+        List<Long> rentalIds = rentals.stream().map(Rental::getId).toList();
+
+        Set<Long> invoicedRentalIds = new HashSet<>(invoiceRepository.findInvoicedRentalIds(
+            rentalIds, period.atDay(1), period.atEndOfMonth()));
+        Map<Long, CustomerContract> contractsByCustomer = findActiveContracts(rentals);
+        Map<Long, LeasingKmRecord> kmRecordsByRental = kmRecordRepository
+            .findByRentalIdInAndPeriodYearMonth(rentalIds, period.toString()).stream()
+            .collect(Collectors.toMap(LeasingKmRecord::getRentalId, Function.identity(), (first, second) -> first));
+
+        List<CompletableFuture<InvoiceOutcome>> results = rentals.stream()
+            .filter(rental -> !invoicedRentalIds.contains(rental.getId()))
+            .map(rental -> CompletableFuture.supplyAsync(() -> generateInvoice(
+                rental,
+                period,
+                Optional.ofNullable(contractsByCustomer.get(rental.getCustomerId())),
+                Optional.ofNullable(kmRecordsByRental.get(rental.getId()))), invoiceExecutor))
+            .toList();
+
+        int created = 0;
+        int failed = 0;
+        String lastError = null;
+        for (CompletableFuture<InvoiceOutcome> result : results) {
+            InvoiceOutcome outcome = result.join();
+            if (outcome.error() != null) {
+                failed++;
+                lastError = outcome.error();
+            } else if (outcome.created()) {
+                created++;
+            }
+        }
+        int skipped = rentals.size() - created - failed;
+
+        run.checkpoint(rentalIds.get(rentalIds.size() - 1), created, skipped, failed,
+            (System.nanoTime() - started) / 1_000_000, lastError);
+        return runRepository.save(run);
+    }
+
+    private InvoiceOutcome generateInvoice(
+            Rental rental,
+            YearMonth period,
+            Optional<CustomerContract> contract,
+            Optional<LeasingKmRecord> kmRecord) {
+        try {
+            boolean created = invoiceService.generateMonthlyInvoice(rental, period, contract, kmRecord).isPresent();
+            return new InvoiceOutcome(created, null);
+        } catch (RuntimeException e) {
+            log.error("Failed to generate invoice for rental {}: {}", rental.getId(), e.getMessage());
+            return new InvoiceOutcome(false, "Rental " + rental.getId() + ": " + e.getMessage());
+        }
+    }
+
+    private Map<Long, CustomerContract> findActiveContracts(List<Rental> rentals) {
+        Set<Long> customerIds = rentals.stream().map(Rental::getCustomerId).collect(Collectors.toSet());
+        Map<Long, CustomerContract> contractsByCustomer = new HashMap<>();
+        for (CustomerContract contract : contractRepository.findActiveContractsByCustomers(customerIds, LocalDate.now())) {
+            contractsByCustomer.putIfAbsent(contract.getCustomerId(), contract);
+        }
+        return contractsByCustomer;
+    }
+
+    private Instant staleBefore() {
+        return Instant.now().minus(staleAfter);
+    }
+
+    /**
+     * @param error null on success, otherwise the error recorded on the run
+     */
+    private record InvoiceOutcome(boolean created, String error) {
+    }
+}
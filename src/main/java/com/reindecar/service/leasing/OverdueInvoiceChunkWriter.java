@@ -0,0 +1,42 @@
+package com.reindecar.service.leasing;
+
+import com.reindecar.entity.leasing.LeasingInvoice.InvoiceStatus;
+import com.reindecar.repository.leasing.LeasingInvoiceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Marks one chunk of overdue invoices per transaction so that locks and the persistence
+ * context stay small regardless of how many invoices fall due at once.
+ */
+@Component
+@RequiredArgsConstructor
+class OverdueInvoiceChunkWriter {
+
+    private final LeasingInvoiceRepository invoiceRepository;
+
+    /**
+     * @return last examined id, rows updated and whether no further chunk remains
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ChunkResult markNextChunk(LocalDate today, long afterId, int chunkSize) {
+        List<Long> ids = invoiceRepository.findOverdueInvoiceIds(
+            InvoiceStatus.SENT, today, afterId, PageRequest.ofSize(chunkSize));
+        if (ids.isEmpty()) {
+            return new ChunkResult(afterId, 0, true);
+        }
+        int updated = invoiceRepository.markOverdue(
+            ids, InvoiceStatus.SENT, InvoiceStatus.OVERDUE, today, Instant.now());
+        return new ChunkResult(ids.get(ids.size() - 1), updated, ids.size() < chunkSize);
+    }
+
+    record ChunkResult(long lastId, int updated, boolean last) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.reindecar.service.notification;
+
+import com.reindecar.entity.vehicle.InsuranceType;
+
+public record ExpiringInsurance(Long vehicleId, InsuranceType insuranceType) {
+}
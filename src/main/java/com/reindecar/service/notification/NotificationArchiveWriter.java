@@ -0,0 +1,45 @@
+package com.reindecar.service.notification;
+
+import com.reindecar.entity.notification.NotificationStatus;
+import com.reindecar.repository.notification.NotificationArchiveRepository;
+import com.reindecar.repository.notification.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Archives one batch of notifications per transaction so that locks, undo and the size of
+ * each statement stay bounded however many notifications are due.
+ */
+@Component
+@RequiredArgsConstructor
+class NotificationArchiveWriter {
+
+    private static final List<NotificationStatus> ARCHIVABLE_STATUSES =
+        List.of(NotificationStatus.READ, NotificationStatus.DISMISSED);
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationArchiveRepository archiveRepository;
+
+    /**
+     * @return last examined id, rows archived and whether no further batch remains
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public BatchResult archiveNextBatch(Instant cutoff, long afterId, int batchSize) {
+        List<Long> ids = notificationRepository.findArchivableIds(
+            ARCHIVABLE_STATUSES, cutoff, afterId, PageRequest.ofSize(batchSize));
+        if (ids.isEmpty()) {
+            return new BatchResult(afterId, 0, true);
+        }
+        int archived = archiveRepository.archive(ids, Instant.now());
+        return new BatchResult(ids.get(ids.size() - 1), archived, ids.size() < batchSize);
+    }
+
+    record BatchResult(long lastId, int archived, boolean last) {
+    }
+}
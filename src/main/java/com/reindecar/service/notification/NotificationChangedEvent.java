@@ -0,0 +1,28 @@
+package com.reindecar.service.notification;
+
+import com.reindecar.dto.notification.NotificationResponse;
+
+/**
+ * Change to a user's notification counters, published after notifications are created or read.
+ * {@code created} carries the new notification when it was stored individually; notifications
+ * stored in a batch only report their counter deltas.
+ */
+public record NotificationChangedEvent(
+    Long recipientUserId,
+    int totalDelta,
+    int unreadDelta,
+    int urgentDelta,
+    NotificationResponse created
+) {
+    public static NotificationChangedEvent created(Long recipientUserId, NotificationResponse notification) {
+        return new NotificationChangedEvent(recipientUserId, 1, 1, notification.isUrgent() ? 1 : 0, notification);
+    }
+
+    public static NotificationChangedEvent createdInBatch(Long recipientUserId, int count, int urgentCount) {
+        return new NotificationChangedEvent(recipientUserId, count, count, urgentCount, null);
+    }
+
+    public static NotificationChangedEvent cleared(Long recipientUserId, int count, int urgentCount) {
+        return new NotificationChangedEvent(recipientUserId, 0, -count, -urgentCount, null);
+    }
+}
@@ -0,0 +1,56 @@
+package com.reindecar.service.notification;
+
+import com.reindecar.dto.notification.NotificationCountResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Per-user notification counters kept in memory.
+ * Counters are loaded on first use and then adjusted by {@link NotificationChangedEvent}s of this node.
+ * Entries are reloaded after a TTL so changes made on other nodes are picked up as well.
+ */
+@Component
+public class NotificationCounterCache {
+
+    private final Duration ttl;
+    private final Map<Long, Entry> counters = new ConcurrentHashMap<>();
+
+    public NotificationCounterCache(@Value("${notification.counter.ttl:PT5M}") Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public NotificationCountResponse get(Long userId, Function<Long, NotificationCountResponse> loader) {
+        Entry entry = counters.get(userId);
+        if (isFresh(entry)) {
+            return entry.counts();
+        }
+        return counters.compute(userId, (id, current) ->
+            isFresh(current) ? current : new Entry(loader.apply(id), Instant.now())
+        ).counts();
+    }
+
+    /**
+     * Applies the deltas of the event to a loaded counter; counters not in memory are left to the next load.
+     */
+    public void apply(NotificationChangedEvent event) {
+        counters.computeIfPresent(event.recipientUserId(), (id, entry) -> new Entry(
+            new NotificationCountResponse(
+                Math.max(0, entry.counts().total() + event.totalDelta()),
+                Math.max(0, entry.counts().unread() + event.unreadDelta()),
+                Math.max(0, entry.counts().urgent() + event.urgentDelta())),
+            entry.loadedAt()));
+    }
+
+    private boolean isFresh(Entry entry) {
+        return entry != null && entry.loadedAt().plus(ttl).isAfter(Instant.now());
+    }
+
+    private record Entry(NotificationCountResponse counts, Instant loadedAt) {
+    }
+}
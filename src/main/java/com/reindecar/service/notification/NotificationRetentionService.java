@@ -0,0 +1,46 @@
+package com.reindecar.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Keeps the notifications table small by moving read and dismissed notifications older than
+ * {@code notification.retention.age} into notification_archive, {@code notification.retention.batch-size}
+ * rows per transaction. Unread notifications are never archived.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetentionService {
+
+    private final NotificationArchiveWriter archiveWriter;
+
+    @Value("${notification.retention.age:P90D}")
+    private Duration retentionAge;
+
+    @Value("${notification.retention.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * @return number of notifications archived
+     */
+    public int archiveExpired() {
+        Instant cutoff = Instant.now().minus(retentionAge);
+        long afterId = 0;
+        int total = 0;
+        NotificationArchiveWriter.BatchResult batch;
+        do {
+            batch = archiveWriter.archiveNextBatch(cutoff, afterId, batchSize);
+            afterId = batch.lastId();
+            total += batch.archived();
+        } while (!batch.last());
+
+        log.info("Notifications archived: {} (created before {})", total, cutoff);
+        return total;
+    }
+}
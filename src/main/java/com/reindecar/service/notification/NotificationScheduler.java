@@ -1,19 +1,34 @@
 package com.reindecar.service.notification;
 
+import com.reindecar.common.scheduling.JobLockService;
+import com.reindecar.common.scheduling.JobShard;
+import com.reindecar.entity.notification.Notification;
 import com.reindecar.entity.notification.NotificationPriority;
 import com.reindecar.entity.notification.NotificationType;
-import com.reindecar.entity.vehicle.VehicleDetails;
-import com.reindecar.entity.vehicle.VehicleInsurance;
 import com.reindecar.repository.vehicle.VehicleDetailsRepository;
 import com.reindecar.repository.vehicle.VehicleInsuranceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
+/**
+ * Daily due-date sweep over the fleet.
+ * Every check asks the database only for vehicles that are due and have no unread notification of that
+ * type yet (NOT EXISTS anti-join), so no per-vehicle duplicate lookups are needed. The four checks run
+ * concurrently and their notifications are stored together in one JDBC batch.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -22,96 +37,129 @@ public class NotificationScheduler {
     private final NotificationService notificationService;
     private final VehicleDetailsRepository vehicleDetailsRepository;
     private final VehicleInsuranceRepository vehicleInsuranceRepository;
+    private final JobLockService jobLockService;
+    @Qualifier("notificationExecutor")
+    private final Executor notificationExecutor;
 
     private static final int DAYS_BEFORE_DUE = 7;
     private static final Long ADMIN_USER_ID = 1L;
+    private static final String REFERENCE_TYPE_VEHICLE = "VEHICLE";
+    private static final String JOB_NAME = "notification-daily-checks";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
 
+    @Value("${notification.daily-checks.shards:1}")
+    private int shardCount;
+
+    /**
+     * Runs once per cluster; with {@code notification.daily-checks.shards} above one the vehicles are
+     * split by id into shards that the triggered nodes process in parallel.
+     */
     @Scheduled(cron = "0 0 8 * * *")
     public void runDailyChecks() {
-        log.info("Starting daily notification checks...");
-        
-        checkServiceDueDates();
-        checkMtvDueDates();
-        checkTireChangeDueDates();
-        checkInsuranceExpiry();
-        
-        log.info("Daily notification checks completed");
+        jobLockService.runSharded(JOB_NAME, shardCount, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, this::runChecks);
     }
 
     public void triggerManualCheck() {
         log.info("Manual notification check triggered");
-        runDailyChecks();
+        runChecks(JobShard.ALL);
     }
 
-    private void checkServiceDueDates() {
+    private void runChecks(JobShard shard) {
+        log.info("Starting daily notification checks (shard {}/{})...", shard.index() + 1, shard.count());
+        long started = System.currentTimeMillis();
         LocalDate threshold = LocalDate.now().plusDays(DAYS_BEFORE_DUE);
-        List<VehicleDetails> dueSoon = vehicleDetailsRepository.findWithServiceDueBefore(threshold);
-        
-        for (VehicleDetails details : dueSoon) {
-            notificationService.createNotification(
+
+        List<CompletableFuture<List<Notification>>> checks = List.of(
+            runAsync(() -> checkServiceDueDates(threshold, shard)),
+            runAsync(() -> checkMtvDueDates(threshold, shard)),
+            runAsync(() -> checkTireChangeDueDates(threshold, shard)),
+            runAsync(() -> checkInsuranceExpiry(threshold, shard))
+        );
+        List<Notification> notifications = checks.stream()
+            .map(CompletableFuture::join)
+            .flatMap(List::stream)
+            .toList();
+
+        int created = notifications.isEmpty() ? 0 : notificationService.createNotifications(notifications);
+        log.info("Daily notification checks completed (shard {}/{}). Notifications: {}, Duration: {} ms",
+            shard.index() + 1, shard.count(), created, System.currentTimeMillis() - started);
+    }
+
+    private CompletableFuture<List<Notification>> runAsync(Supplier<List<Notification>> check) {
+        return CompletableFuture.supplyAsync(check, notificationExecutor);
+    }
+
+    private List<Notification> checkServiceDueDates(LocalDate threshold, JobShard shard) {
+        List<Long> vehicleIds = vehicleDetailsRepository.findVehicleIdsWithServiceDueBefore(
+            threshold, shard.index(), shard.count(),
+            NotificationType.SERVICE_DUE, REFERENCE_TYPE_VEHICLE, NotificationService.UNREAD_STATUSES);
+        log.debug("Service due check: {} vehicles", vehicleIds.size());
+        return vehicleIds.stream()
+            .map(vehicleId -> vehicleNotification(
                 NotificationType.SERVICE_DUE,
                 NotificationPriority.HIGH,
                 "Servis Zamanı Yaklaşıyor",
                 "Araç servis tarihi yaklaşıyor. Lütfen kontrol edin.",
-                "VEHICLE",
-                details.getVehicleId(),
-                ADMIN_USER_ID
-            );
-        }
-        log.debug("Service due check: {} notifications created", dueSoon.size());
+                vehicleId))
+            .toList();
     }
 
-    private void checkMtvDueDates() {
-        LocalDate threshold = LocalDate.now().plusDays(DAYS_BEFORE_DUE);
-        List<VehicleDetails> dueSoon = vehicleDetailsRepository.findWithMtvDueBefore(threshold);
-        
-        for (VehicleDetails details : dueSoon) {
-            notificationService.createNotification(
+    private List<Notification> checkMtvDueDates(LocalDate threshold, JobShard shard) {
+        List<Long> vehicleIds = vehicleDetailsRepository.findVehicleIdsWithMtvDueBefore(
+            threshold, shard.index(), shard.count(),
+            NotificationType.MTV_DUE, REFERENCE_TYPE_VEHICLE, NotificationService.UNREAD_STATUSES);
+        log.debug("MTV due check: {} vehicles", vehicleIds.size());
+        return vehicleIds.stream()
+            .map(vehicleId -> vehicleNotification(
                 NotificationType.MTV_DUE,
                 NotificationPriority.HIGH,
                 "MTV Tarihi Yaklaşıyor",
                 "Araç MTV ödeme tarihi yaklaşıyor.",
-                "VEHICLE",
-                details.getVehicleId(),
-                ADMIN_USER_ID
-            );
-        }
-        log.debug("MTV due check: {} notifications created", dueSoon.size());
+                vehicleId))
+            .toList();
     }
 
-    private void checkTireChangeDueDates() {
-        LocalDate threshold = LocalDate.now().plusDays(DAYS_BEFORE_DUE);
-        List<VehicleDetails> dueSoon = vehicleDetailsRepository.findWithTireChangeDueBefore(threshold);
-        
-        for (VehicleDetails details : dueSoon) {
-            notificationService.createNotification(
+    private List<Notification> checkTireChangeDueDates(LocalDate threshold, JobShard shard) {
+        List<Long> vehicleIds = vehicleDetailsRepository.findVehicleIdsWithTireChangeDueBefore(
+            threshold, shard.index(), shard.count(),
+            NotificationType.TIRE_CHANGE_DUE, REFERENCE_TYPE_VEHICLE, NotificationService.UNREAD_STATUSES);
+        log.debug("Tire change due check: {} vehicles", vehicleIds.size());
+        return vehicleIds.stream()
+            .map(vehicleId -> vehicleNotification(
                 NotificationType.TIRE_CHANGE_DUE,
                 NotificationPriority.NORMAL,
                 "Lastik Değişim Zamanı",
                 "Araç lastik değişim tarihi yaklaşıyor.",
-                "VEHICLE",
-                details.getVehicleId(),
-                ADMIN_USER_ID
-            );
-        }
-        log.debug("Tire change due check: {} notifications created", dueSoon.size());
+                vehicleId))
+            .toList();
     }
 
-    private void checkInsuranceExpiry() {
-        LocalDate threshold = LocalDate.now().plusDays(DAYS_BEFORE_DUE);
-        List<VehicleInsurance> expiringSoon = vehicleInsuranceRepository.findExpiringSoon(threshold);
-        
-        for (VehicleInsurance insurance : expiringSoon) {
-            notificationService.createNotification(
+    private List<Notification> checkInsuranceExpiry(LocalDate threshold, JobShard shard) {
+        List<ExpiringInsurance> expiringSoon = vehicleInsuranceRepository.findExpiringSoon(
+            threshold, shard.index(), shard.count(),
+            NotificationType.INSURANCE_EXPIRING, REFERENCE_TYPE_VEHICLE, NotificationService.UNREAD_STATUSES);
+        log.debug("Insurance expiry check: {} policies", expiringSoon.size());
+
+        // One notification per vehicle, for its earliest expiring policy
+        Map<Long, Notification> notificationsByVehicle = new LinkedHashMap<>();
+        for (ExpiringInsurance insurance : expiringSoon) {
+            notificationsByVehicle.computeIfAbsent(insurance.vehicleId(), vehicleId -> vehicleNotification(
                 NotificationType.INSURANCE_EXPIRING,
                 NotificationPriority.URGENT,
                 "Sigorta Süresi Doluyor",
-                insurance.getInsuranceType().name() + " poliçesi süresi doluyor.",
-                "VEHICLE",
-                insurance.getVehicleId(),
-                ADMIN_USER_ID
-            );
+                insurance.insuranceType().name() + " poliçesi süresi doluyor.",
+                vehicleId));
         }
-        log.debug("Insurance expiry check: {} notifications created", expiringSoon.size());
+        return List.copyOf(notificationsByVehicle.values());
+    }
+
+    private Notification vehicleNotification(
+            NotificationType type,
+            NotificationPriority priority,
+            String title,
+            String message,
+            Long vehicleId) {
+        return Notification.create(type, priority, title, message, REFERENCE_TYPE_VEHICLE, vehicleId, ADMIN_USER_ID);
     }
 }
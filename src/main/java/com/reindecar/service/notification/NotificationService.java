@@ -6,15 +6,19 @@ import com.reindecar.entity.notification.Notification;
 import com.reindecar.entity.notification.NotificationPriority;
 import com.reindecar.entity.notification.NotificationStatus;
 import com.reindecar.entity.notification.NotificationType;
+import com.reindecar.repository.notification.NotificationBatchRepository;
 import com.reindecar.repository.notification.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,8 +28,11 @@ import java.util.stream.Collectors;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final NotificationCounterCache counterCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private static final List<NotificationStatus> UNREAD_STATUSES = 
+    static final List<NotificationStatus> UNREAD_STATUSES = 
         List.of(NotificationStatus.PENDING, NotificationStatus.SENT);
 
     public Page<NotificationResponse> getByUserId(Long userId, Pageable pageable) {
@@ -40,10 +47,12 @@ public class NotificationService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Served from the in-memory counters; the database is only consulted when the user's counters
+     * are not loaded or have expired.
+     */
     public NotificationCountResponse getCountByUserId(Long userId) {
-        long total = notificationRepository.count();
-        long unread = notificationRepository.countByRecipientUserIdAndStatusIn(userId, UNREAD_STATUSES);
-        return new NotificationCountResponse(total, unread, 0L);
+        return counterCache.get(userId, this::loadCounts);
     }
 
     @Transactional
@@ -64,33 +73,89 @@ public class NotificationService {
         Notification notification = Notification.create(
             type, priority, title, message, referenceType, referenceId, recipientUserId
         );
-        notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
         log.info("Notification created: type={}, title={}", type, title);
+        if (recipientUserId != null) {
+            eventPublisher.publishEvent(NotificationChangedEvent.created(recipientUserId, toResponse(saved)));
+        }
+    }
+
+    /**
+     * Stores notifications raised by a batch job in one JDBC batch.
+     * Unlike {@link #createNotification}, duplicates are not checked here; the caller filters them beforehand.
+     */
+    @Transactional
+    public int createNotifications(List<Notification> notifications) {
+        notificationBatchRepository.insertAll(notifications);
+        log.info("Notifications created: {}", notifications.size());
+
+        Map<Long, List<Notification>> byRecipient = notifications.stream()
+            .filter(n -> n.getRecipientUserId() != null)
+            .collect(Collectors.groupingBy(Notification::getRecipientUserId));
+        byRecipient.forEach((userId, created) -> eventPublisher.publishEvent(
+            NotificationChangedEvent.createdInBatch(userId, created.size(), countUrgent(created))));
+        return notifications.size();
     }
 
     @Transactional
     public void markAsRead(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
             .orElseThrow(() -> new IllegalArgumentException("Notification not found"));
+        boolean wasUnread = isUnread(notification);
         notification.markAsRead();
         notificationRepository.save(notification);
+        if (wasUnread) {
+            publishCleared(notification.getRecipientUserId(), List.of(notification));
+        }
     }
 
     @Transactional
     public void dismiss(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
             .orElseThrow(() -> new IllegalArgumentException("Notification not found"));
+        boolean wasUnread = isUnread(notification);
         notification.dismiss();
         notificationRepository.save(notification);
+        if (wasUnread) {
+            publishCleared(notification.getRecipientUserId(), List.of(notification));
+        }
     }
 
     @Transactional
     public int markAllAsRead(Long userId) {
-        List<Notification> notifications = notificationRepository
-            .findByRecipientUserIdAndStatusInOrderByCreatedAtDesc(userId, UNREAD_STATUSES);
-        notifications.forEach(Notification::markAsRead);
-        notificationRepository.saveAll(notifications);
-        return notifications.size();
+        long urgent = notificationRepository.countByRecipientUserIdAndStatusInAndPriority(
+            userId, UNREAD_STATUSES, NotificationPriority.URGENT);
+        int updated = notificationRepository.markAllAsRead(
+            userId, UNREAD_STATUSES, NotificationStatus.READ, Instant.now());
+        if (updated > 0) {
+            eventPublisher.publishEvent(
+                NotificationChangedEvent.cleared(userId, updated, (int) Math.min(urgent, updated)));
+        }
+        return updated;
+    }
+
+    private NotificationCountResponse loadCounts(Long userId) {
+        return new NotificationCountResponse(
+            notificationRepository.countByRecipientUserId(userId),
+            notificationRepository.countByRecipientUserIdAndStatusIn(userId, UNREAD_STATUSES),
+            notificationRepository.countByRecipientUserIdAndStatusInAndPriority(
+                userId, UNREAD_STATUSES, NotificationPriority.URGENT)
+        );
+    }
+
+    private void publishCleared(Long userId, List<Notification> notifications) {
+        if (userId != null && !notifications.isEmpty()) {
+            eventPublisher.publishEvent(
+                NotificationChangedEvent.cleared(userId, notifications.size(), countUrgent(notifications)));
+        }
+    }
+
+    private static boolean isUnread(Notification notification) {
+        return UNREAD_STATUSES.contains(notification.getStatus());
+    }
+
+    private static int countUrgent(List<Notification> notifications) {
+        return (int) notifications.stream().filter(Notification::isUrgent).count();
     }
 
     private boolean isDuplicate(NotificationType type, String referenceType, Long referenceId) {
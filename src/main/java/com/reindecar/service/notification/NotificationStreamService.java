@@ -0,0 +1,135 @@
+package com.reindecar.service.notification;
+
+import com.reindecar.dto.notification.NotificationCountResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * Pushes notifications and counter changes to connected clients over Server-Sent Events.
+ * Emitters are held per user on the node the client is connected to; each committed
+ * {@link NotificationChangedEvent} updates the in-memory counters and is sent to that user's streams.
+ * Writes are handed to the stream executor, one task per event and one per heartbeat round,
+ * so a slow client does not hold up the committing thread or the heartbeat scheduler. When its
+ * queue is full an event is dropped; the next event or the client's reconnect brings the counters
+ * up to date.
+ * A user keeps at most {@code notification.stream.max-per-user} streams; opening another one closes the oldest.
+ */
+@Service
+@Slf4j
+public class NotificationStreamService {
+
+    private static final String EVENT_NOTIFICATION = "notification";
+    private static final String EVENT_COUNT = "count";
+
+    private final NotificationService notificationService;
+    private final NotificationCounterCache counterCache;
+    private final Executor notificationStreamExecutor;
+    private final Duration streamTimeout;
+    private final int maxStreamsPerUser;
+    private final Map<Long, List<SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+
+    public NotificationStreamService(
+            NotificationService notificationService,
+            NotificationCounterCache counterCache,
+            @Qualifier("notificationStreamExecutor") Executor notificationStreamExecutor,
+            @Value("${notification.stream.timeout:PT30M}") Duration streamTimeout,
+            @Value("${notification.stream.max-per-user:5}") int maxStreamsPerUser) {
+        this.notificationService = notificationService;
+        this.counterCache = counterCache;
+        this.notificationStreamExecutor = notificationStreamExecutor;
+        this.streamTimeout = streamTimeout;
+        this.maxStreamsPerUser = maxStreamsPerUser;
+    }
+
+    /**
+     * Opens a stream for the user and sends the current counters as the first event.
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        List<SseEmitter> evicted = new ArrayList<>();
+        emittersByUser.compute(userId, (id, emitters) -> {
+            List<SseEmitter> userEmitters = emitters != null ? emitters : new CopyOnWriteArrayList<>();
+            userEmitters.add(emitter);
+            while (userEmitters.size() > maxStreamsPerUser) {
+                evicted.add(userEmitters.remove(0));
+            }
+            return userEmitters;
+        });
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+        if (!evicted.isEmpty()) {
+            log.debug("Closing {} oldest notification streams of user {}", evicted.size(), userId);
+            evicted.forEach(SseEmitter::complete);
+        }
+
+        send(userId, emitter, SseEmitter.event().name(EVENT_COUNT).data(notificationService.getCountByUserId(userId)));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationChanged(NotificationChangedEvent event) {
+        if (event.recipientUserId() == null) {
+            return;
+        }
+        counterCache.apply(event);
+
+        List<SseEmitter> emitters = emittersByUser.get(event.recipientUserId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        NotificationCountResponse counts = notificationService.getCountByUserId(event.recipientUserId());
+        notificationStreamExecutor.execute(() -> {
+            for (SseEmitter emitter : emitters) {
+                if (event.created() != null) {
+                    send(event.recipientUserId(), emitter, SseEmitter.event().name(EVENT_NOTIFICATION).data(event.created()));
+                }
+                send(event.recipientUserId(), emitter, SseEmitter.event().name(EVENT_COUNT).data(counts));
+            }
+        });
+    }
+
+    /**
+     * Keeps idle streams open through proxies and drops the ones whose client went away.
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-interval:PT30S}")
+    public void sendHeartbeats() {
+        notificationStreamExecutor.execute(() -> emittersByUser.forEach((userId, emitters) -> emitters.forEach(emitter ->
+            send(userId, emitter, SseEmitter.event().comment("heartbeat")))));
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException e) {
+            log.debug("Notification stream of user {} broken: {}", userId, e.getMessage());
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+        } catch (IllegalStateException e) {
+            log.debug("Notification stream of user {} closed: {}", userId, e.getMessage());
+            remove(userId, emitter);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emittersByUser.computeIfPresent(userId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.reindecar.service.payment;
+
+import com.reindecar.entity.payment.MonthlyRevenue;
+import com.reindecar.entity.payment.RollupBackfill;
+import com.reindecar.repository.payment.MonthlyRevenueRepository;
+import com.reindecar.repository.payment.PaymentRepository;
+import com.reindecar.repository.payment.RollupBackfillRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Rebuilds one month of the rollup per transaction.
+ * The month's rows are locked before the payments are summed, so a payment being recorded either
+ * committed before the sum and is part of it, or adds onto the rebuilt row after this commits.
+ */
+@Component
+@RequiredArgsConstructor
+class MonthlyRevenueBackfillWriter {
+
+    private final MonthlyRevenueRepository revenueRepository;
+    private final PaymentRepository paymentRepository;
+    private final RollupBackfillRepository backfillRepository;
+
+    /**
+     * Returns the backfill of the rollup, recording {@code cutOverPeriod} on the first run.
+     */
+    @Transactional
+    public RollupBackfill startOrResume(String name, int cutOverPeriod) {
+        return backfillRepository.findByName(name)
+            .orElseGet(() -> backfillRepository.saveAndFlush(RollupBackfill.start(name, cutOverPeriod)));
+    }
+
+    /**
+     * Replaces the totals of the month's existing rows with the sums of its completed payments.
+     *
+     * @return number of rows rebuilt
+     */
+    @Transactional
+    public int rebuildMonth(YearMonth month, ZoneId zone) {
+        int period = MonthlyRevenue.periodOf(month);
+        Set<String> lockedCurrencies = revenueRepository.lockByPeriod(period).stream()
+            .map(MonthlyRevenue::getCurrency)
+            .collect(Collectors.toSet());
+
+        Instant start = month.atDay(1).atStartOfDay(zone).toInstant();
+        Instant end = month.plusMonths(1).atDay(1).atStartOfDay(zone).toInstant();
+        int rows = 0;
+        for (Object[] row : paymentRepository.summarizeCompletedByCurrencyBetween(start, end)) {
+            String currency = (String) row[0];
+            if (lockedCurrencies.contains(currency)) {
+                revenueRepository.replaceTotals(period, currency, (BigDecimal) row[2], (Long) row[1], Instant.now());
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    @Transactional
+    public void complete(String name) {
+        backfillRepository.complete(name, Instant.now());
+    }
+}
@@ -0,0 +1,28 @@
+package com.reindecar.service.payment;
+
+import com.reindecar.entity.payment.MonthlyRevenue;
+import com.reindecar.repository.payment.MonthlyRevenueRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+/**
+ * Creates empty rollup rows in their own transaction so that a concurrent insert of the same
+ * month and currency fails fast without rolling back the payment being recorded.
+ */
+@Component
+@RequiredArgsConstructor
+class MonthlyRevenueRowInitializer {
+
+    private final MonthlyRevenueRepository revenueRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createIfAbsent(int period, String currency) {
+        if (!revenueRepository.existsByPeriodAndCurrency(period, currency)) {
+            revenueRepository.saveAndFlush(MonthlyRevenue.create(period, currency, BigDecimal.ZERO, 0));
+        }
+    }
+}
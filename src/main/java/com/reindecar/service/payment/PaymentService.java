@@ -22,6 +22,7 @@ import java.util.List;
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
+    private final RevenueRollupService revenueRollupService;
 
     @Transactional
     public Payment recordPayment(Long rentalId, RecordPaymentRequest request, String createdBy) {
@@ -39,7 +40,9 @@ public class PaymentService {
             createdBy
         );
 
-        return paymentRepository.save(payment);
+        Payment saved = paymentRepository.save(payment);
+        revenueRollupService.addPayment(saved);
+        return saved;
     }
 
     public List<Payment> getPaymentsByRentalId(Long rentalId) {
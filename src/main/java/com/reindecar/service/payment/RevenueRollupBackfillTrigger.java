@@ -0,0 +1,30 @@
+package com.reindecar.service.payment;
+
+import com.reindecar.common.scheduling.JobLockService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Starts the rollup backfill once the application is ready.
+ * The backfill runs under a job lock, so nodes starting together do not rebuild the same months;
+ * a node that starts later finds the backfill recorded as complete and skips it.
+ */
+@Component
+@RequiredArgsConstructor
+class RevenueRollupBackfillTrigger {
+
+    private static final String JOB_NAME = "revenue-rollup-backfill";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(30);
+
+    private final JobLockService jobLockService;
+    private final RevenueRollupService revenueRollupService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        jobLockService.runOnce(JOB_NAME, LOCK_AT_MOST_FOR, Duration.ZERO, revenueRollupService::backfill);
+    }
+}
@@ -0,0 +1,111 @@
+package com.reindecar.service.payment;
+
+import com.reindecar.entity.payment.MonthlyRevenue;
+import com.reindecar.entity.payment.Payment;
+import com.reindecar.entity.payment.PaymentStatus;
+import com.reindecar.entity.payment.RollupBackfill;
+import com.reindecar.repository.payment.MonthlyRevenueRepository;
+import com.reindecar.repository.payment.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Maintains the monthly revenue rollup of completed payments.
+ * Rows are updated in the same transaction as the payment, so reports always match the payments table.
+ * Months are cut in the system time zone, as in the reporting endpoints.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class RevenueRollupService {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final String BACKFILL_NAME = "monthly-revenue";
+
+    private final MonthlyRevenueRepository revenueRepository;
+    private final PaymentRepository paymentRepository;
+    private final MonthlyRevenueRowInitializer rowInitializer;
+    private final MonthlyRevenueBackfillWriter backfillWriter;
+
+    @Transactional
+    public void addPayment(Payment payment) {
+        if (!payment.isCompleted()) {
+            return;
+        }
+        int period = MonthlyRevenue.periodOf(YearMonth.from(payment.getPaidAt().atZone(ZONE)));
+        String currency = payment.getAmount().getCurrency();
+        BigDecimal amount = payment.getAmount().getAmount();
+
+        if (revenueRepository.addPayment(period, currency, amount, Instant.now()) == 0) {
+            createRow(period, currency);
+            revenueRepository.addPayment(period, currency, amount, Instant.now());
+        }
+    }
+
+    public List<MonthlyRevenue> findBetween(YearMonth startMonth, YearMonth endMonth) {
+        return revenueRepository.findByPeriodBetweenOrderByPeriodAsc(
+            MonthlyRevenue.periodOf(startMonth), MonthlyRevenue.periodOf(endMonth));
+    }
+
+    /**
+     * Builds the rollup from the payments table for every month before the cut-over, once.
+     * The first run records the month after the current one as the cut-over, so the month in which
+     * the rollup went live is rebuilt too and later months are only maintained by {@link #addPayment}.
+     * Each month is rebuilt in its own transaction; an interrupted backfill is repeated on the next
+     * startup until it is recorded as complete.
+     * Started by {@link RevenueRollupBackfillTrigger} under a cluster-wide job lock.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfill() {
+        RollupBackfill backfill = backfillWriter.startOrResume(
+            BACKFILL_NAME, MonthlyRevenue.periodOf(YearMonth.now(ZONE).plusMonths(1)));
+        if (backfill.isCompleted()) {
+            return;
+        }
+
+        Optional<Payment> first = paymentRepository.findFirstByStatusOrderByPaidAtAsc(PaymentStatus.COMPLETED);
+        YearMonth cutOver = YearMonth.of(backfill.getCutOverPeriod() / 100, backfill.getCutOverPeriod() % 100);
+        int rows = 0;
+        if (first.isPresent()) {
+            for (YearMonth month = YearMonth.from(first.get().getPaidAt().atZone(ZONE));
+                 month.isBefore(cutOver); month = month.plusMonths(1)) {
+                rows += backfillMonth(month);
+            }
+        }
+        backfillWriter.complete(BACKFILL_NAME);
+        log.info("Monthly revenue rollup backfilled up to {}: {} rows", cutOver, rows);
+    }
+
+    private int backfillMonth(YearMonth month) {
+        Instant start = month.atDay(1).atStartOfDay(ZONE).toInstant();
+        Instant end = month.plusMonths(1).atDay(1).atStartOfDay(ZONE).toInstant();
+        List<Object[]> currencies = paymentRepository.summarizeCompletedByCurrencyBetween(start, end);
+        if (currencies.isEmpty()) {
+            return 0;
+        }
+        for (Object[] row : currencies) {
+            createRow(MonthlyRevenue.periodOf(month), (String) row[0]);
+        }
+        return backfillWriter.rebuildMonth(month, ZONE);
+    }
+
+    private void createRow(int period, String currency) {
+        try {
+            rowInitializer.createIfAbsent(period, currency);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Monthly revenue row {} {} created concurrently", period, currency);
+        }
+    }
+}
@@ -7,8 +7,10 @@ import com.reindecar.dto.pricing.CreateCampaignRequest;
 import com.reindecar.entity.pricing.Campaign;
 import com.reindecar.entity.pricing.RentalType;
 import com.reindecar.repository.pricing.CampaignRepository;
+import com.reindecar.service.pricing.catalog.PricingCatalogChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ import java.util.List;
 public class CampaignService {
 
     private final CampaignRepository campaignRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CampaignResponse create(CreateCampaignRequest request) {
@@ -44,6 +47,7 @@ public class CampaignService {
         }
 
         Campaign saved = campaignRepository.save(campaign);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("Campaign"));
         log.info("Campaign created: {}", saved.getName());
         return toResponse(saved);
     }
@@ -84,6 +88,7 @@ public class CampaignService {
         Campaign campaign = getCampaignOrThrow(id);
         campaign.activate();
         campaignRepository.save(campaign);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("Campaign"));
         log.info("Campaign activated: {}", campaign.getName());
     }
 
@@ -92,6 +97,7 @@ public class CampaignService {
         Campaign campaign = getCampaignOrThrow(id);
         campaign.deactivate();
         campaignRepository.save(campaign);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("Campaign"));
         log.info("Campaign deactivated: {}", campaign.getName());
     }
 
@@ -99,6 +105,7 @@ public class CampaignService {
     public void delete(Long id) {
         Campaign campaign = getCampaignOrThrow(id);
         campaignRepository.delete(campaign);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("Campaign"));
         log.info("Campaign deleted: {}", campaign.getName());
     }
 
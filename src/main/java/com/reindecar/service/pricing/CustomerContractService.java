@@ -7,8 +7,10 @@ import com.reindecar.dto.pricing.CreateCustomerContractRequest;
 import com.reindecar.dto.pricing.CustomerContractResponse;
 import com.reindecar.entity.pricing.CustomerContract;
 import com.reindecar.repository.pricing.CustomerContractRepository;
+import com.reindecar.service.pricing.catalog.PricingCatalogChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class CustomerContractService {
     private static final String CONTRACT_PREFIX = "CC-";
     
     private final CustomerContractRepository customerContractRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CustomerContractResponse create(CreateCustomerContractRequest request) {
@@ -46,6 +49,7 @@ public class CustomerContractService {
         );
 
         CustomerContract saved = customerContractRepository.save(contract);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("CustomerContract"));
         log.info("Customer contract created: {}", contractNumber);
         return toResponse(saved);
     }
@@ -88,6 +92,7 @@ public class CustomerContractService {
         CustomerContract contract = getContractOrThrow(id);
         contract.activate();
         customerContractRepository.save(contract);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("CustomerContract"));
         log.info("Contract activated: {}", contract.getContractNumber());
     }
 
@@ -96,6 +101,7 @@ public class CustomerContractService {
         CustomerContract contract = getContractOrThrow(id);
         contract.suspend();
         customerContractRepository.save(contract);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("CustomerContract"));
         log.info("Contract suspended: {}", contract.getContractNumber());
     }
 
@@ -104,6 +110,7 @@ public class CustomerContractService {
         CustomerContract contract = getContractOrThrow(id);
         contract.terminate();
         customerContractRepository.save(contract);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("CustomerContract"));
         log.info("Contract terminated: {}", contract.getContractNumber());
     }
 
@@ -112,6 +119,7 @@ public class CustomerContractService {
         CustomerContract contract = getContractOrThrow(id);
         contract.complete();
         customerContractRepository.save(contract);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("CustomerContract"));
         log.info("Contract completed: {}", contract.getContractNumber());
     }
 
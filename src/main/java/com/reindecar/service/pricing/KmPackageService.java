@@ -11,8 +11,10 @@ import com.reindecar.entity.vehicle.VehicleCategory;
 import com.reindecar.mapper.pricing.KmPackageMapper;
 import com.reindecar.repository.pricing.KmPackageRepository;
 import com.reindecar.repository.vehicle.VehicleCategoryRepository;
+import com.reindecar.service.pricing.catalog.PricingCatalogChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ public class KmPackageService {
     private final KmPackageRepository kmPackageRepository;
     private final KmPackageMapper kmPackageMapper;
     private final VehicleCategoryRepository vehicleCategoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<KmPackageResponse> getAllPackages() {
@@ -87,6 +90,7 @@ public class KmPackageService {
         
         KmPackage kmPackage = kmPackageMapper.toEntity(request);
         KmPackage savedPackage = kmPackageRepository.save(kmPackage);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("KmPackage"));
         
         log.info("KM package created with ID: {}", savedPackage.getId());
         return toResponseWithCategoryName(savedPackage);
@@ -118,6 +122,7 @@ public class KmPackageService {
         );
 
         KmPackage updatedPackage = kmPackageRepository.save(kmPackage);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("KmPackage"));
         log.info("KM package updated: {}", id);
         
         return toResponseWithCategoryName(updatedPackage);
@@ -132,6 +137,7 @@ public class KmPackageService {
         
         kmPackage.deactivate();
         kmPackageRepository.save(kmPackage);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("KmPackage"));
         
         log.info("KM package deactivated: {}", id);
     }
@@ -145,6 +151,7 @@ public class KmPackageService {
         
         kmPackage.activate();
         kmPackageRepository.save(kmPackage);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("KmPackage"));
         
         log.info("KM package activated: {}", id);
     }
@@ -9,8 +9,10 @@ import com.reindecar.entity.pricing.LeasingPlan;
 import com.reindecar.entity.vehicle.VehicleCategory;
 import com.reindecar.repository.pricing.LeasingPlanRepository;
 import com.reindecar.repository.vehicle.VehicleCategoryRepository;
+import com.reindecar.service.pricing.catalog.PricingCatalogChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +27,7 @@ public class LeasingPlanService {
     private final LeasingPlanRepository leasingPlanRepository;
     private final VehicleCategoryRepository vehicleCategoryRepository;
     private final com.reindecar.mapper.pricing.LeasingPlanMapper leasingPlanMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<LeasingPlanResponse> getAllPlans() {
         return leasingPlanRepository.findByActiveTrue().stream()
@@ -67,6 +70,7 @@ public class LeasingPlanService {
         }
 
         LeasingPlan saved = leasingPlanRepository.save(plan);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("LeasingPlan"));
         log.info("Leasing plan created with id: {}", saved.getId());
 
         return toResponse(saved);
@@ -83,6 +87,7 @@ public class LeasingPlanService {
         // Note: manual update of currency/price IF specialized logic needed, but mapper handles it via updateEntity logic
 
         LeasingPlan saved = leasingPlanRepository.save(plan);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("LeasingPlan"));
         return toResponse(saved);
     }
 
@@ -92,6 +97,7 @@ public class LeasingPlanService {
             .orElseThrow(() -> new EntityNotFoundException("LeasingPlan", id));
         plan.activate();
         leasingPlanRepository.save(plan);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("LeasingPlan"));
     }
 
     @Transactional
@@ -100,6 +106,7 @@ public class LeasingPlanService {
             .orElseThrow(() -> new EntityNotFoundException("LeasingPlan", id));
         plan.deactivate();
         leasingPlanRepository.save(plan);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("LeasingPlan"));
     }
 
     private void validateCategoryExists(Long categoryId) {
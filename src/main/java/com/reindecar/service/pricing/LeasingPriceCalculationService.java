@@ -10,11 +10,13 @@ import com.reindecar.dto.pricing.*;
 import com.reindecar.entity.pricing.*;
 import com.reindecar.entity.vehicle.Vehicle;
 import com.reindecar.entity.vehicle.VehicleCategory;
-import com.reindecar.repository.pricing.*;
 import com.reindecar.repository.vehicle.VehicleCategoryRepository;
 import com.reindecar.repository.vehicle.VehicleRepository;
+import com.reindecar.service.pricing.catalog.PricingCatalog;
+import com.reindecar.service.pricing.catalog.PricingCatalogProvider;
 import com.reindecar.service.pricing.strategy.PriceCalculationContext;
-import com.reindecar.service.pricing.strategy.PriceCalculationStrategy;
+import com.reindecar.service.pricing.strategy.PricingPipeline;
+import com.reindecar.service.pricing.strategy.PricingResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,9 +26,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -37,13 +37,10 @@ public class LeasingPriceCalculationService {
     private static final int DAYS_PER_MONTH = 30;
     private static final int DECIMAL_SCALE = 2;
 
-    private final List<PriceCalculationStrategy> strategies;
+    private final PricingPipeline pricingPipeline;
     private final VehicleRepository vehicleRepository;
     private final VehicleCategoryRepository vehicleCategoryRepository;
-    private final LeasingPlanRepository leasingPlanRepository;
-    private final CustomerContractRepository customerContractRepository;
-    private final CampaignRepository campaignRepository;
-    private final KmPackageRepository kmPackageRepository;
+    private final PricingCatalogProvider pricingCatalogProvider;
 
     public LeasingPriceCalculationResponse calculateLeasingPrice(CalculateLeasingPriceRequest request) {
         log.info("Calculating leasing price for vehicle: {}, term: {} months", 
@@ -55,10 +52,11 @@ public class LeasingPriceCalculationService {
         LocalDate startDate = request.startDate();
         LocalDate endDate = startDate.plusMonths(request.termMonths());
 
-        PriceCalculationContext context = buildPriceContext(request, vehicle, category, startDate, endDate);
+        PricingCatalog catalog = pricingCatalogProvider.current();
+        PriceCalculationContext context = buildPriceContext(request, vehicle, category, startDate, endDate, catalog);
 
         LeasingPriceComponents priceComponents = calculatePriceComponents(context, vehicle, startDate, request.termMonths());
-        KmPackageResponse kmPackageResponse = buildKmPackageResponse(request.kmPackageId());
+        KmPackageResponse kmPackageResponse = buildKmPackageResponse(catalog, request.kmPackageId());
 
         return buildResponse(request, vehicle, startDate, endDate, priceComponents, kmPackageResponse);
     }
@@ -76,7 +74,8 @@ public class LeasingPriceCalculationService {
     }
 
     private PriceCalculationContext buildPriceContext(CalculateLeasingPriceRequest request, Vehicle vehicle, 
-                                                       VehicleCategory category, LocalDate startDate, LocalDate endDate) {
+                                                       VehicleCategory category, LocalDate startDate, LocalDate endDate,
+                                                       PricingCatalog catalog) {
         return PriceCalculationContext.builder()
             .vehicleId(request.vehicleId())
             .categoryId(vehicle.getCategoryId())
@@ -91,28 +90,32 @@ public class LeasingPriceCalculationService {
             .weeklyPrice(vehicle.getWeeklyPrice())
             .monthlyPrice(vehicle.getMonthlyPrice())
             .categoryDefaultPrice(category.getDefaultDailyPrice())
+            .pricingCatalog(catalog)
             .build();
     }
 
     private LeasingPriceComponents calculatePriceComponents(PriceCalculationContext context, Vehicle vehicle, 
                                                             LocalDate startDate, int termMonths) {
-        Money basePrice = calculateBasePrice(context);
-        String pricingSource = determinePricingSource(context, startDate);
+        PricingResult pricingResult = pricingPipeline.execute(context);
+        Money basePrice = pricingResult != null ? pricingResult.price() : calculateFallbackPrice(context);
+        String pricingSource = pricingResult != null
+            ? pricingResult.priceSource()
+            : DomainConstants.PRICE_SOURCE_CATEGORY_DEFAULT;
         int includedKmPerMonth = getIncludedKmPerMonth(context, startDate);
 
         List<LeasingPriceCalculationResponse.AppliedDiscount> appliedDiscounts = new ArrayList<>();
-        Money totalDiscount = calculateCampaignDiscounts(vehicle, startDate, termMonths, basePrice, appliedDiscounts);
+        Money totalDiscount = calculateCampaignDiscounts(context, startDate, termMonths, basePrice, appliedDiscounts);
         Money netPrice = basePrice.subtract(totalDiscount);
 
         return new LeasingPriceComponents(basePrice, totalDiscount, netPrice, includedKmPerMonth, pricingSource, appliedDiscounts);
     }
 
-    private Money calculateCampaignDiscounts(Vehicle vehicle, LocalDate startDate, int termMonths, 
+    private Money calculateCampaignDiscounts(PriceCalculationContext context, LocalDate startDate, int termMonths, 
                                              Money basePrice, List<LeasingPriceCalculationResponse.AppliedDiscount> appliedDiscounts) {
         Money totalDiscount = Money.zero(basePrice.getCurrency());
         
-        List<Campaign> applicableCampaigns = campaignRepository.findApplicableCampaignsForLeasing(
-            RentalType.LEASING, vehicle.getCategoryId(), startDate, termMonths);
+        List<Campaign> applicableCampaigns = context.getPricingCatalog().findApplicableCampaigns(
+            RentalType.LEASING, context.getCategoryId(), startDate, termMonths);
         
         for (Campaign campaign : applicableCampaigns) {
             Money discount = campaign.getDiscountAmount(basePrice);
@@ -127,11 +130,11 @@ public class LeasingPriceCalculationService {
         return totalDiscount;
     }
 
-    private KmPackageResponse buildKmPackageResponse(Long kmPackageId) {
+    private KmPackageResponse buildKmPackageResponse(PricingCatalog catalog, Long kmPackageId) {
         if (kmPackageId == null) {
             return null;
         }
-        return kmPackageRepository.findByIdAndActive(kmPackageId)
+        return catalog.findActiveKmPackage(kmPackageId)
             .map(kp -> new KmPackageResponse(
                 kp.getId(), kp.getName(), kp.getIncludedKm(),
                 kp.getExtraKmPrice().getAmount(), kp.getExtraKmPrice().getCurrency(),
@@ -185,15 +188,6 @@ public class LeasingPriceCalculationService {
         List<LeasingPriceCalculationResponse.AppliedDiscount> appliedDiscounts
     ) {}
 
-    private Money calculateBasePrice(PriceCalculationContext context) {
-        return strategies.stream()
-            .sorted(Comparator.comparing(PriceCalculationStrategy::getPriority).reversed())
-            .map(strategy -> strategy.calculatePrice(context))
-            .filter(Objects::nonNull)
-            .findFirst()
-            .orElseGet(() -> calculateFallbackPrice(context));
-    }
-
     private Money calculateFallbackPrice(PriceCalculationContext context) {
         Money basePrice = resolveBasePrice(context);
         return basePrice.multiply(context.getEffectiveTermMonths());
@@ -209,36 +203,15 @@ public class LeasingPriceCalculationService {
         return Money.zero();
     }
 
-    private String determinePricingSource(PriceCalculationContext context, LocalDate date) {
-        if (hasActiveCustomerContract(context, date)) {
-            return DomainConstants.PRICE_SOURCE_CUSTOMER_CONTRACT;
-        }
-        if (hasApplicableLeasingPlan(context, date)) {
-            return DomainConstants.PRICE_SOURCE_LEASING_PLAN;
-        }
-        return DomainConstants.PRICE_SOURCE_CATEGORY_DEFAULT;
-    }
-
-    private boolean hasActiveCustomerContract(PriceCalculationContext context, LocalDate date) {
-        return context.getCustomerId() != null &&
-            customerContractRepository.findActiveContract(
-                context.getCustomerId(), context.getCategoryId(), date).isPresent();
-    }
-
-    private boolean hasApplicableLeasingPlan(PriceCalculationContext context, LocalDate date) {
-        return leasingPlanRepository.findApplicablePlan(
-            context.getCategoryId(), context.getEffectiveTermMonths(), date).isPresent();
-    }
-
     private int getIncludedKmPerMonth(PriceCalculationContext context, LocalDate date) {
         if (context.getCustomerId() != null) {
-            var contract = customerContractRepository.findActiveContract(
+            var contract = context.getPricingCatalog().findActiveContract(
                 context.getCustomerId(), context.getCategoryId(), date);
             if (contract.isPresent()) {
                 return contract.get().getIncludedKmPerMonth();
             }
         }
-        var plan = leasingPlanRepository.findApplicablePlan(
+        var plan = context.getPricingCatalog().findApplicablePlan(
             context.getCategoryId(), context.getEffectiveTermMonths(), date);
         return plan.map(LeasingPlan::getIncludedKmPerMonth).orElse(0);
     }
@@ -3,18 +3,22 @@ package com.reindecar.service.pricing;
 import com.reindecar.common.constant.PriceBreakdownLabels;
 import com.reindecar.common.constant.ValidationMessages;
 import com.reindecar.common.valueobject.Money;
+import com.reindecar.dto.pricing.BatchCalculatePriceRequest;
 import com.reindecar.dto.pricing.CalculatePriceRequest;
 import com.reindecar.dto.pricing.KmPackageResponse;
 import com.reindecar.dto.pricing.PriceBreakdownItem;
 import com.reindecar.dto.pricing.PriceCalculationResponse;
 import com.reindecar.entity.pricing.RentalType;
 import com.reindecar.entity.vehicle.Vehicle;
-import com.reindecar.repository.pricing.KmPackageRepository;
 import com.reindecar.repository.vehicle.VehicleRepository;
+import com.reindecar.service.pricing.catalog.PricingCatalog;
+import com.reindecar.service.pricing.catalog.PricingCatalogProvider;
 import com.reindecar.service.pricing.strategy.PriceCalculationContext;
-import com.reindecar.service.pricing.strategy.PriceCalculationStrategy;
+import com.reindecar.service.pricing.strategy.PricingPipeline;
+import com.reindecar.service.pricing.strategy.PricingResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,9 +27,16 @@ import java.time.LocalDate;
 import java.time.Period;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -35,9 +46,11 @@ public class PriceCalculationService {
 
     private static final int DAYS_PER_WEEK = 7;
 
-    private final List<PriceCalculationStrategy> strategies;
+    private final PricingPipeline pricingPipeline;
     private final VehicleRepository vehicleRepository;
-    private final KmPackageRepository kmPackageRepository;
+    private final PricingCatalogProvider pricingCatalogProvider;
+    @Qualifier("pricingExecutor")
+    private final Executor pricingExecutor;
 
     public PriceCalculationResponse calculatePrice(CalculatePriceRequest request) {
         log.info("Fiyat hesaplanıyor: vehicleId={}, rentalType={}",
@@ -47,16 +60,102 @@ public class PriceCalculationService {
             .orElseThrow(() -> new IllegalArgumentException(
                 String.format(ValidationMessages.VEHICLE_NOT_FOUND, request.vehicleId())));
 
+        return calculatePrice(request, vehicle);
+    }
+
+    /**
+     * Aracı zaten yüklemiş çağıranlar için; araç tekrar sorgulanmaz.
+     */
+    public PriceCalculationResponse calculatePrice(CalculatePriceRequest request, Vehicle vehicle) {
+        PricingCatalog catalog = pricingCatalogProvider.current();
+        KmPackageResponse kmPackageResponse = buildKmPackageResponse(catalog, request.kmPackageId());
+
+        return calculateForVehicle(request, vehicle, catalog, kmPackageResponse);
+    }
+
+    public List<PriceCalculationResponse> calculatePrices(BatchCalculatePriceRequest request) {
+        log.info("Toplu fiyat hesaplanıyor: {} araç, rentalType={}",
+            request.vehicleIds().size(), request.rentalType());
+
+        Map<Long, Vehicle> vehiclesById = vehicleRepository.findAllById(request.vehicleIds()).stream()
+            .collect(Collectors.toMap(Vehicle::getId, Function.identity()));
+
+        List<Vehicle> vehicles = request.vehicleIds().stream()
+            .distinct()
+            .map(vehiclesById::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        if (vehicles.size() < request.vehicleIds().size()) {
+            log.warn("Toplu fiyat hesaplamada bazı araçlar bulunamadı: istenen={}, bulunan={}",
+                request.vehicleIds().size(), vehicles.size());
+        }
+
+        return calculatePrices(vehicles, request);
+    }
+
+    /**
+     * Önceden yüklenmiş araçlar için fiyat hesaplar. Araçlar kategoriye göre gruplanır ve
+     * her grup tek bir katalog versiyonu ile sınırlı havuzda paralel hesaplanır.
+     * Sonuç listesi araçların verildiği sırayı korur.
+     */
+    public List<PriceCalculationResponse> calculatePrices(List<Vehicle> vehicles, BatchCalculatePriceRequest request) {
+        if (vehicles.isEmpty()) {
+            return List.of();
+        }
+
+        PricingCatalog catalog = pricingCatalogProvider.current();
+        KmPackageResponse kmPackageResponse = buildKmPackageResponse(catalog, request.kmPackageId());
+
+        Map<Long, List<Vehicle>> vehiclesByCategory = vehicles.stream()
+            .collect(Collectors.groupingBy(Vehicle::getCategoryId, LinkedHashMap::new, Collectors.toList()));
+
+        List<CompletableFuture<List<PriceCalculationResponse>>> futures = vehiclesByCategory.values().stream()
+            .map(group -> CompletableFuture.supplyAsync(
+                () -> group.stream()
+                    .map(vehicle -> calculateForVehicle(
+                        request.forVehicle(vehicle.getId()), vehicle, catalog, kmPackageResponse))
+                    .toList(),
+                pricingExecutor))
+            .toList();
+
+        Map<Long, PriceCalculationResponse> responsesByVehicle = new HashMap<>();
+        for (CompletableFuture<List<PriceCalculationResponse>> future : futures) {
+            for (PriceCalculationResponse response : joinQuotes(future)) {
+                responsesByVehicle.put(response.vehicleId(), response);
+            }
+        }
+
+        return vehicles.stream()
+            .map(vehicle -> responsesByVehicle.get(vehicle.getId()))
+            .toList();
+    }
+
+    private List<PriceCalculationResponse> joinQuotes(CompletableFuture<List<PriceCalculationResponse>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private PriceCalculationResponse calculateForVehicle(
+            CalculatePriceRequest request,
+            Vehicle vehicle,
+            PricingCatalog catalog,
+            KmPackageResponse kmPackageResponse) {
+
         int totalDays = (int) ChronoUnit.DAYS.between(request.startDate(), request.endDate()) + 1;
 
-        PriceCalculationContext context = buildContext(request, vehicle, totalDays);
+        PriceCalculationContext context = buildContext(request, vehicle, totalDays, catalog);
 
         Money finalPrice = calculateFinalPrice(context);
 
         List<PriceBreakdownItem> breakdown = buildBreakdown(context, finalPrice);
 
-        KmPackageResponse kmPackageResponse = buildKmPackageResponse(request.kmPackageId());
-
         BigDecimal dailyPriceAmount = vehicle.getDailyPrice() != null 
             ? vehicle.getDailyPrice().getAmount() 
             : BigDecimal.ZERO;
@@ -102,7 +201,8 @@ public class PriceCalculationService {
     private PriceCalculationContext buildContext(
             CalculatePriceRequest request,
             Vehicle vehicle,
-            int totalDays) {
+            int totalDays,
+            PricingCatalog catalog) {
 
         return PriceCalculationContext.builder()
             .vehicleId(request.vehicleId())
@@ -117,16 +217,13 @@ public class PriceCalculationService {
             .dailyPrice(vehicle.getDailyPrice())
             .weeklyPrice(vehicle.getWeeklyPrice())
             .monthlyPrice(vehicle.getMonthlyPrice())
+            .pricingCatalog(catalog)
             .build();
     }
 
     private Money calculateFinalPrice(PriceCalculationContext context) {
-        Money price = strategies.stream()
-            .sorted(Comparator.comparing(PriceCalculationStrategy::getPriority).reversed())
-            .map(strategy -> strategy.calculatePrice(context))
-            .filter(Objects::nonNull)
-            .findFirst()
-            .orElseGet(() -> calculateFallbackPrice(context));
+        PricingResult result = pricingPipeline.execute(context);
+        Money price = result != null ? result.price() : calculateFallbackPrice(context);
 
         log.debug("Hesaplanan fiyat: {}", price);
         return price;
@@ -232,12 +329,12 @@ public class PriceCalculationService {
         }
     }
 
-    private KmPackageResponse buildKmPackageResponse(Long kmPackageId) {
+    private KmPackageResponse buildKmPackageResponse(PricingCatalog catalog, Long kmPackageId) {
         if (kmPackageId == null) {
             return null;
         }
 
-        return kmPackageRepository.findByIdAndActive(kmPackageId)
+        return catalog.findActiveKmPackage(kmPackageId)
             .map(kmPackage -> new KmPackageResponse(
                 kmPackage.getId(),
                 kmPackage.getName(),
@@ -8,8 +8,10 @@ import com.reindecar.dto.pricing.UpdateSeasonRequest;
 import com.reindecar.entity.pricing.Season;
 import com.reindecar.mapper.pricing.SeasonMapper;
 import com.reindecar.repository.pricing.SeasonRepository;
+import com.reindecar.service.pricing.catalog.PricingCatalogChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class SeasonService {
 
     private final SeasonRepository seasonRepository;
     private final SeasonMapper seasonMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public SeasonResponse create(CreateSeasonRequest request) {
@@ -33,6 +36,7 @@ public class SeasonService {
         Season season = seasonMapper.toEntity(request);
 
         Season saved = seasonRepository.save(season);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("Season"));
         log.info("Season created: {}", saved.getName());
         return seasonMapper.toResponse(saved);
     }
@@ -75,6 +79,7 @@ public class SeasonService {
         seasonMapper.updateEntity(season, request);
         
         Season saved = seasonRepository.save(season);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("Season"));
         log.info("Season updated: {}", saved.getName());
         return seasonMapper.toResponse(saved);
     }
@@ -83,6 +88,7 @@ public class SeasonService {
     public void delete(Long id) {
         Season season = getSeasonOrThrow(id);
         seasonRepository.delete(season);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("Season"));
         log.info("Season deleted: {}", season.getName());
     }
 
@@ -91,6 +97,7 @@ public class SeasonService {
         Season season = getSeasonOrThrow(id);
         season.activate();
         seasonRepository.save(season);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("Season"));
     }
 
     @Transactional
@@ -98,6 +105,7 @@ public class SeasonService {
         Season season = getSeasonOrThrow(id);
         season.deactivate();
         seasonRepository.save(season);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("Season"));
     }
 
     private Season getSeasonOrThrow(Long id) {
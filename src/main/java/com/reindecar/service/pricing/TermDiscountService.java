@@ -6,8 +6,10 @@ import com.reindecar.entity.pricing.TermDiscount;
 import com.reindecar.entity.vehicle.VehicleCategory;
 import com.reindecar.repository.pricing.TermDiscountRepository;
 import com.reindecar.repository.vehicle.VehicleCategoryRepository;
+import com.reindecar.service.pricing.catalog.PricingCatalogChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ public class TermDiscountService {
 
     private final TermDiscountRepository discountRepository;
     private final VehicleCategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<TermDiscountResponse> findAll() {
         return discountRepository.findByActiveTrue()
@@ -55,6 +58,7 @@ public class TermDiscountService {
         };
 
         discount = discountRepository.save(discount);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("TermDiscount"));
         log.info("Vade iskontosu oluşturuldu: termMonths={}, type={}, value={}",
             request.termMonths(), request.discountType(), request.discountValue());
 
@@ -68,6 +72,7 @@ public class TermDiscountService {
 
         discount.update(request.discountType(), request.discountValue());
         discount = discountRepository.save(discount);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("TermDiscount"));
 
         log.info("Vade iskontosu güncellendi: id={}", id);
         return toResponse(discount);
@@ -80,6 +85,7 @@ public class TermDiscountService {
 
         discount.deactivate();
         discountRepository.save(discount);
+        eventPublisher.publishEvent(new PricingCatalogChangedEvent("TermDiscount"));
         log.info("Vade iskontosu deaktif edildi: id={}", id);
     }
 
@@ -0,0 +1,146 @@
+package com.reindecar.service.pricing.catalog;
+
+import com.reindecar.entity.pricing.Campaign;
+import com.reindecar.entity.pricing.CustomerContract;
+import com.reindecar.entity.pricing.KmPackage;
+import com.reindecar.entity.pricing.LeasingPlan;
+import com.reindecar.entity.pricing.PricingRule;
+import com.reindecar.entity.pricing.RentalType;
+import com.reindecar.entity.pricing.Season;
+import com.reindecar.entity.pricing.TermDiscount;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fiyatlandırma kataloğunun değişmez (immutable) anlık görüntüsü.
+ * Aktif fiyat kuralları, leasing planları, vade iskontoları, sezonlar,
+ * kampanyalar, km paketleri ve aktif müşteri sözleşmelerini içerir.
+ * Her yeniden oluşturmada yeni bir versiyon numarası alır; fiyat hesaplamaları
+ * tek bir versiyona karşı çalışır ve veritabanına gitmez.
+ */
+public final class PricingCatalog {
+
+    @Getter
+    private final long version;
+
+    @Getter
+    private final Instant builtAt;
+
+    private final Map<RuleKey, List<PricingRule>> rulesByCategoryAndType;
+    private final Map<PlanKey, LeasingPlan> plansByCategoryAndTerm;
+    private final Map<Integer, List<TermDiscount>> discountsByTerm;
+    private final Map<Long, List<CustomerContract>> contractsByCustomer;
+    private final Map<Long, KmPackage> kmPackagesById;
+    private final List<Season> seasons;
+    private final List<Campaign> campaigns;
+
+    private PricingCatalog(
+            long version,
+            List<PricingRule> rules,
+            List<LeasingPlan> plans,
+            List<TermDiscount> discounts,
+            List<CustomerContract> contracts,
+            List<KmPackage> kmPackages,
+            List<Season> seasons,
+            List<Campaign> campaigns) {
+
+        this.version = version;
+        this.builtAt = Instant.now();
+        this.rulesByCategoryAndType = Map.copyOf(rules.stream()
+            .sorted(Comparator.comparing(PricingRule::getId))
+            .collect(Collectors.groupingBy(
+                rule -> new RuleKey(rule.getCategoryId(), rule.getRentalType()),
+                Collectors.toUnmodifiableList())));
+        this.plansByCategoryAndTerm = Map.copyOf(plans.stream()
+            .collect(Collectors.toMap(
+                plan -> new PlanKey(plan.getCategoryId(), plan.getTermMonths()),
+                Function.identity(),
+                (first, second) -> first)));
+        this.discountsByTerm = Map.copyOf(discounts.stream()
+            .sorted(Comparator.comparing(TermDiscount::getCategoryId,
+                Comparator.nullsLast(Comparator.reverseOrder())))
+            .collect(Collectors.groupingBy(
+                TermDiscount::getTermMonths,
+                Collectors.toUnmodifiableList())));
+        this.contractsByCustomer = Map.copyOf(contracts.stream()
+            .collect(Collectors.groupingBy(
+                CustomerContract::getCustomerId,
+                Collectors.toUnmodifiableList())));
+        this.kmPackagesById = Map.copyOf(kmPackages.stream()
+            .collect(Collectors.toMap(KmPackage::getId, Function.identity())));
+        this.seasons = List.copyOf(seasons);
+        this.campaigns = List.copyOf(campaigns);
+    }
+
+    public static PricingCatalog of(
+            long version,
+            List<PricingRule> rules,
+            List<LeasingPlan> plans,
+            List<TermDiscount> discounts,
+            List<CustomerContract> contracts,
+            List<KmPackage> kmPackages,
+            List<Season> seasons,
+            List<Campaign> campaigns) {
+
+        return new PricingCatalog(version, rules, plans, discounts, contracts, kmPackages, seasons, campaigns);
+    }
+
+    public Optional<PricingRule> findApplicableRule(Long categoryId, RentalType rentalType, int days, LocalDate date) {
+        return rulesByCategoryAndType.getOrDefault(new RuleKey(categoryId, rentalType), List.of()).stream()
+            .filter(rule -> rule.isApplicable(rentalType, days, date))
+            .findFirst();
+    }
+
+    public Optional<LeasingPlan> findApplicablePlan(Long categoryId, int termMonths, LocalDate date) {
+        return Optional.ofNullable(plansByCategoryAndTerm.get(new PlanKey(categoryId, termMonths)))
+            .filter(plan -> plan.isApplicable(date));
+    }
+
+    public Optional<TermDiscount> findBestDiscount(Long categoryId, int termMonths) {
+        return discountsByTerm.getOrDefault(termMonths, List.of()).stream()
+            .filter(discount -> discount.isApplicable(categoryId, termMonths))
+            .findFirst();
+    }
+
+    public Optional<CustomerContract> findActiveContract(Long customerId, Long categoryId, LocalDate date) {
+        if (customerId == null) {
+            return Optional.empty();
+        }
+        return contractsByCustomer.getOrDefault(customerId, List.of()).stream()
+            .filter(contract -> contract.getCategoryId().equals(categoryId))
+            .filter(contract -> contract.isApplicable(date))
+            .findFirst();
+    }
+
+    public Optional<Season> findActiveSeasonForDate(LocalDate date) {
+        return seasons.stream()
+            .filter(season -> season.isApplicable(date))
+            .findFirst();
+    }
+
+    public List<Campaign> findApplicableCampaigns(RentalType rentalType, Long categoryId, LocalDate date, int termMonths) {
+        return campaigns.stream()
+            .filter(campaign -> campaign.isApplicable(rentalType, date, termMonths))
+            .filter(campaign -> campaign.isApplicableForCategory(categoryId))
+            .toList();
+    }
+
+    public Optional<KmPackage> findActiveKmPackage(Long kmPackageId) {
+        if (kmPackageId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(kmPackagesById.get(kmPackageId));
+    }
+
+    private record RuleKey(Long categoryId, RentalType rentalType) {}
+
+    private record PlanKey(Long categoryId, int termMonths) {}
+}
@@ -0,0 +1,7 @@
+package com.reindecar.service.pricing.catalog;
+
+/**
+ * Fiyatlandırma yönetim servislerinden biri katalog verisini değiştirdiğinde yayınlanır.
+ * Katalog, işlem commit edildikten sonra yeniden oluşturulur.
+ */
+public record PricingCatalogChangedEvent(String source) {}
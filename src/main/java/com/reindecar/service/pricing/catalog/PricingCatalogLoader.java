@@ -0,0 +1,53 @@
+package com.reindecar.service.pricing.catalog;
+
+import com.reindecar.entity.pricing.Campaign;
+import com.reindecar.entity.pricing.CustomerContract;
+import com.reindecar.entity.pricing.KmPackage;
+import com.reindecar.repository.pricing.CampaignRepository;
+import com.reindecar.repository.pricing.CustomerContractRepository;
+import com.reindecar.repository.pricing.KmPackageRepository;
+import com.reindecar.repository.pricing.LeasingPlanRepository;
+import com.reindecar.repository.pricing.PricingRuleRepository;
+import com.reindecar.repository.pricing.SeasonRepository;
+import com.reindecar.repository.pricing.TermDiscountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Katalog verisini kendi okuma işleminde yükler.
+ * Commit sonrası dinleyicilerden de çağrıldığı için her zaman yeni bir işlem açar.
+ */
+@Component
+@RequiredArgsConstructor
+public class PricingCatalogLoader {
+
+    private final PricingRuleRepository pricingRuleRepository;
+    private final LeasingPlanRepository leasingPlanRepository;
+    private final TermDiscountRepository termDiscountRepository;
+    private final CustomerContractRepository customerContractRepository;
+    private final KmPackageRepository kmPackageRepository;
+    private final SeasonRepository seasonRepository;
+    private final CampaignRepository campaignRepository;
+
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public PricingCatalog load(long version) {
+        List<Campaign> campaigns = campaignRepository.findActiveWithRentalTypes();
+        List<KmPackage> kmPackages = kmPackageRepository.findActivePackagesWithTypes();
+        List<CustomerContract> contracts = customerContractRepository.findByStatus(CustomerContract.ContractStatus.ACTIVE);
+
+        return PricingCatalog.of(
+            version,
+            pricingRuleRepository.findByActiveTrue(),
+            leasingPlanRepository.findByActiveTrue(),
+            termDiscountRepository.findByActiveTrue(),
+            contracts,
+            kmPackages,
+            seasonRepository.findByActiveTrue(),
+            campaigns
+        );
+    }
+}
@@ -0,0 +1,90 @@
+package com.reindecar.service.pricing.catalog;
+
+import com.reindecar.repository.pricing.PricingCatalogStampRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Geçerli fiyatlandırma kataloğunu tutar.
+ * Okuyucular kilitsiz olarak güncel anlık görüntüyü alır; yeniden oluşturma
+ * tamamlandığında referans tek adımda değiştirilir.
+ * Yerel değişiklikler commit sonrası olayla, diğer düğümlerde yapılan değişiklikler ise
+ * okuma yolundaki damga kontrolüyle kataloğa yansır. Kontrol zamanlayıcıya bağlı değildir;
+ * {@code pricing.catalog.check-interval} süresinde bir, o anda okuyan tek bir istek yapar.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PricingCatalogProvider {
+
+    private final PricingCatalogLoader pricingCatalogLoader;
+    private final PricingCatalogStampRepository stampRepository;
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final AtomicLong nextStampCheckAt = new AtomicLong(System.nanoTime());
+
+    @Value("${pricing.catalog.check-interval:PT30S}")
+    private Duration checkInterval;
+
+    private volatile PricingCatalog catalog;
+    private volatile String loadedStamp;
+
+    public PricingCatalog current() {
+        PricingCatalog snapshot = catalog;
+        if (snapshot == null) {
+            return refresh();
+        }
+        long checkAt = nextStampCheckAt.get();
+        long now = System.nanoTime();
+        if (now - checkAt >= 0 && nextStampCheckAt.compareAndSet(checkAt, now + checkInterval.toNanos())) {
+            reloadIfChanged();
+            return catalog;
+        }
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(PricingCatalogChangedEvent event) {
+        log.debug("Pricing catalog change committed by {}", event.source());
+        refresh();
+    }
+
+    /**
+     * Başka bir düğümde yapılan fiyat değişikliklerini yakalar; damga değişmediyse katalog
+     * yeniden oluşturulmaz. Kontrol başarısız olursa mevcut katalogla devam edilir.
+     */
+    public void reloadIfChanged() {
+        try {
+            String stamp = stampRepository.currentStamp();
+            if (!stamp.equals(loadedStamp)) {
+                log.info("Pricing catalog changed in the database, reloading");
+                refresh();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Pricing catalog stamp check failed, keeping version {}: {}", catalog.getVersion(), e.getMessage());
+        }
+    }
+
+    public synchronized PricingCatalog refresh() {
+        // damga yüklemeden önce okunur; yükleme sırasında gelen bir değişiklik sonraki kontrolde yakalanır
+        loadedStamp = stampRepository.currentStamp();
+        PricingCatalog rebuilt = pricingCatalogLoader.load(versionSequence.incrementAndGet());
+        catalog = rebuilt;
+        log.info("Pricing catalog rebuilt: version={}", rebuilt.getVersion());
+        return rebuilt;
+    }
+}
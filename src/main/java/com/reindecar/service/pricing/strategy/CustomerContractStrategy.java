@@ -1,7 +1,8 @@
 package com.reindecar.service.pricing.strategy;
 
+import com.reindecar.common.constant.DomainConstants;
 import com.reindecar.common.valueobject.Money;
-import com.reindecar.repository.pricing.CustomerContractRepository;
+import com.reindecar.entity.pricing.RentalType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,8 +14,6 @@ import java.time.LocalDate;
 @Slf4j
 public class CustomerContractStrategy implements PriceCalculationStrategy {
 
-    private final CustomerContractRepository customerContractRepository;
-
     @Override
     public Money calculatePrice(PriceCalculationContext context) {
         if (context.getCustomerId() == null) {
@@ -29,7 +28,7 @@ public class CustomerContractStrategy implements PriceCalculationStrategy {
             ? context.getStartDate() 
             : LocalDate.now();
 
-        return customerContractRepository.findActiveContract(
+        return context.getPricingCatalog().findActiveContract(
                 context.getCustomerId(),
                 context.getCategoryId(),
                 calculationDate
@@ -49,6 +48,16 @@ public class CustomerContractStrategy implements PriceCalculationStrategy {
         return 300;
     }
 
+    @Override
+    public boolean supports(RentalType rentalType, boolean leasingCalculation) {
+        return leasingCalculation || rentalType == RentalType.MONTHLY;
+    }
+
+    @Override
+    public String getPriceSource() {
+        return DomainConstants.PRICE_SOURCE_CUSTOMER_CONTRACT;
+    }
+
     @Override
     public String getStrategyName() {
         return "CustomerContractStrategy";
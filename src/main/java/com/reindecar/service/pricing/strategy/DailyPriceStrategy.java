@@ -43,6 +43,11 @@ public class DailyPriceStrategy implements PriceCalculationStrategy {
         return 100;
     }
 
+    @Override
+    public boolean supports(RentalType rentalType, boolean leasingCalculation) {
+        return rentalType == RentalType.DAILY;
+    }
+
     @Override
     public String getStrategyName() {
         return "Daily Price";
@@ -1,7 +1,8 @@
 package com.reindecar.service.pricing.strategy;
 
+import com.reindecar.common.constant.DomainConstants;
 import com.reindecar.common.valueobject.Money;
-import com.reindecar.repository.pricing.LeasingPlanRepository;
+import com.reindecar.entity.pricing.RentalType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,8 +14,6 @@ import java.time.LocalDate;
 @Slf4j
 public class LeasingPriceStrategy implements PriceCalculationStrategy {
 
-    private final LeasingPlanRepository leasingPlanRepository;
-
     @Override
     public Money calculatePrice(PriceCalculationContext context) {
         if (!context.isLeasingCalculation()) {
@@ -25,7 +24,7 @@ public class LeasingPriceStrategy implements PriceCalculationStrategy {
             ? context.getStartDate() 
             : LocalDate.now();
 
-        return leasingPlanRepository.findApplicablePlan(
+        return context.getPricingCatalog().findApplicablePlan(
                 context.getCategoryId(),
                 context.getEffectiveTermMonths(),
                 calculationDate
@@ -44,6 +43,16 @@ public class LeasingPriceStrategy implements PriceCalculationStrategy {
         return 200;
     }
 
+    @Override
+    public boolean supports(RentalType rentalType, boolean leasingCalculation) {
+        return leasingCalculation;
+    }
+
+    @Override
+    public String getPriceSource() {
+        return DomainConstants.PRICE_SOURCE_LEASING_PLAN;
+    }
+
     @Override
     public String getStrategyName() {
         return "LeasingPlanStrategy";
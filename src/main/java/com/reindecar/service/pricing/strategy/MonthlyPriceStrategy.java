@@ -67,6 +67,11 @@ public class MonthlyPriceStrategy implements PriceCalculationStrategy {
         return 100;
     }
 
+    @Override
+    public boolean supports(RentalType rentalType, boolean leasingCalculation) {
+        return rentalType == RentalType.MONTHLY;
+    }
+
     @Override
     public String getStrategyName() {
         return "Monthly Price";
@@ -2,6 +2,7 @@ package com.reindecar.service.pricing.strategy;
 
 import com.reindecar.common.valueobject.Money;
 import com.reindecar.entity.pricing.RentalType;
+import com.reindecar.service.pricing.catalog.PricingCatalog;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -33,6 +34,9 @@ public class PriceCalculationContext {
     private Long kmPackageId;
     private boolean isLeasing;
 
+    // Hesaplama boyunca kullanılan katalog versiyonu
+    private PricingCatalog pricingCatalog;
+
     public boolean isDailyRental() {
         return rentalType == RentalType.DAILY;
     }
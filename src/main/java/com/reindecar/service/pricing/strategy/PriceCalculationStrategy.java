@@ -1,6 +1,8 @@
 package com.reindecar.service.pricing.strategy;
 
+import com.reindecar.common.constant.DomainConstants;
 import com.reindecar.common.valueobject.Money;
+import com.reindecar.entity.pricing.RentalType;
 
 public interface PriceCalculationStrategy {
     
@@ -9,4 +11,19 @@ public interface PriceCalculationStrategy {
     int getPriority();
     
     String getStrategyName();
+
+    /**
+     * Stratejinin verilen kiralama tipi için çalıştırılıp çalıştırılmayacağını belirtir.
+     * Pipeline başlangıçta bu bilgiyle derlenir; uygulanamayan stratejiler hiç çağrılmaz.
+     */
+    default boolean supports(RentalType rentalType, boolean leasingCalculation) {
+        return true;
+    }
+
+    /**
+     * Bu strateji fiyatı belirlediğinde yanıtta gösterilecek fiyat kaynağı.
+     */
+    default String getPriceSource() {
+        return DomainConstants.PRICE_SOURCE_CATEGORY_DEFAULT;
+    }
 }
@@ -0,0 +1,73 @@
+package com.reindecar.service.pricing.strategy;
+
+import com.reindecar.common.valueobject.Money;
+import com.reindecar.entity.pricing.RentalType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Başlangıçta derlenen fiyat hesaplama pipeline'ı.
+ * Stratejiler kiralama tipi ve leasing hesaplaması bayrağına göre önceden
+ * filtrelenip önceliğe göre sıralanır; hesaplama sırasında akış (stream)
+ * veya karşılaştırıcı oluşturulmaz.
+ */
+@Component
+@Slf4j
+public class PricingPipeline {
+
+    private final PriceCalculationStrategy[] allStrategies;
+    private final Map<RentalType, PriceCalculationStrategy[]> standardChains;
+    private final Map<RentalType, PriceCalculationStrategy[]> leasingChains;
+
+    public PricingPipeline(List<PriceCalculationStrategy> strategies) {
+        this.allStrategies = strategies.stream()
+            .sorted(Comparator.comparing(PriceCalculationStrategy::getPriority).reversed())
+            .toArray(PriceCalculationStrategy[]::new);
+        this.standardChains = compile(false);
+        this.leasingChains = compile(true);
+        log.info("Pricing pipeline compiled with {} strategies", allStrategies.length);
+    }
+
+    /**
+     * Uygulanabilir stratejileri öncelik sırasıyla çalıştırır.
+     * Hiçbir strateji fiyat üretmezse null döner.
+     */
+    public PricingResult execute(PriceCalculationContext context) {
+        PriceCalculationStrategy[] chain = chainFor(context);
+        for (PriceCalculationStrategy strategy : chain) {
+            Money price = strategy.calculatePrice(context);
+            if (price != null) {
+                return new PricingResult(price, strategy);
+            }
+        }
+        return null;
+    }
+
+    private PriceCalculationStrategy[] chainFor(PriceCalculationContext context) {
+        RentalType rentalType = context.getRentalType();
+        if (rentalType == null) {
+            return allStrategies;
+        }
+        return context.isLeasingCalculation()
+            ? leasingChains.get(rentalType)
+            : standardChains.get(rentalType);
+    }
+
+    private Map<RentalType, PriceCalculationStrategy[]> compile(boolean leasingCalculation) {
+        Map<RentalType, PriceCalculationStrategy[]> chains = new EnumMap<>(RentalType.class);
+        for (RentalType rentalType : RentalType.values()) {
+            boolean leasing = leasingCalculation || rentalType == RentalType.LEASING;
+            PriceCalculationStrategy[] chain = Arrays.stream(allStrategies)
+                .filter(strategy -> strategy.supports(rentalType, leasing))
+                .toArray(PriceCalculationStrategy[]::new);
+            chains.put(rentalType, chain);
+        }
+        return chains;
+    }
+}
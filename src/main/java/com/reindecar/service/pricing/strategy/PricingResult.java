@@ -0,0 +1,15 @@
+package com.reindecar.service.pricing.strategy;
+
+import com.reindecar.common.valueobject.Money;
+
+/**
+ * Pipeline sonucu: hesaplanan fiyat ve fiyatı belirleyen strateji.
+ */
+public record PricingResult(
+    Money price,
+    PriceCalculationStrategy strategy
+) {
+    public String priceSource() {
+        return strategy.getPriceSource();
+    }
+}
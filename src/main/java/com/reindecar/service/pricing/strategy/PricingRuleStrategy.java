@@ -2,7 +2,6 @@ package com.reindecar.service.pricing.strategy;
 
 import com.reindecar.common.valueobject.Money;
 import com.reindecar.entity.pricing.PricingRule;
-import com.reindecar.repository.pricing.PricingRuleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -14,21 +13,17 @@ import java.util.Optional;
 @Slf4j
 public class PricingRuleStrategy implements PriceCalculationStrategy {
 
-    private final PricingRuleRepository pricingRuleRepository;
-
     @Override
     public Money calculatePrice(PriceCalculationContext context) {
         log.debug("Applying pricing rule strategy");
 
-        Optional<PricingRule> applicableRule = pricingRuleRepository
-            .findApplicableRules(
+        Optional<PricingRule> applicableRule = context.getPricingCatalog()
+            .findApplicableRule(
                 context.getCategoryId(),
                 context.getRentalType(),
                 context.getTotalDays(),
                 context.getStartDate()
-            )
-            .stream()
-            .findFirst();
+            );
 
         if (applicableRule.isPresent()) {
             Money price = applicableRule.get().calculatePrice(context.getTotalDays());
@@ -61,6 +61,11 @@ public class WeeklyPriceStrategy implements PriceCalculationStrategy {
         return 100;
     }
 
+    @Override
+    public boolean supports(RentalType rentalType, boolean leasingCalculation) {
+        return rentalType == RentalType.WEEKLY;
+    }
+
     @Override
     public String getStrategyName() {
         return "Weekly Price";
@@ -3,7 +3,6 @@ package com.reindecar.service.pricing.strategy;
 import com.reindecar.common.valueobject.Money;
 import com.reindecar.entity.pricing.RentalType;
 import com.reindecar.entity.pricing.TermDiscount;
-import com.reindecar.repository.pricing.TermDiscountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -20,8 +19,6 @@ public class YearlyLeasingStrategy implements PriceCalculationStrategy {
 
     private static final int MIN_LEASING_MONTHS = 12;
 
-    private final TermDiscountRepository termDiscountRepository;
-
     @Override
     public Money calculatePrice(PriceCalculationContext context) {
         if (!isApplicable(context)) {
@@ -40,7 +37,7 @@ public class YearlyLeasingStrategy implements PriceCalculationStrategy {
         }
 
         Money basePrice = monthlyPrice.multiply(termMonths);
-        Money finalPrice = applyTermDiscount(basePrice, context.getCategoryId(), termMonths);
+        Money finalPrice = applyTermDiscount(context, basePrice, termMonths);
 
         log.debug("Yıllık/Leasing fiyat hesaplandı: {} ay x {} = {}, iskonto sonrası: {}",
             termMonths, monthlyPrice, basePrice, finalPrice);
@@ -48,8 +45,8 @@ public class YearlyLeasingStrategy implements PriceCalculationStrategy {
         return finalPrice;
     }
 
-    private Money applyTermDiscount(Money basePrice, Long categoryId, int termMonths) {
-        return termDiscountRepository.findBestDiscount(categoryId, termMonths)
+    private Money applyTermDiscount(PriceCalculationContext context, Money basePrice, int termMonths) {
+        return context.getPricingCatalog().findBestDiscount(context.getCategoryId(), termMonths)
             .map(discount -> {
                 Money discountedPrice = discount.applyDiscount(basePrice);
                 log.debug("Vade iskontosu uygulandı: {} ay, tip: {}, değer: {}",
@@ -68,6 +65,11 @@ public class YearlyLeasingStrategy implements PriceCalculationStrategy {
         return 100;
     }
 
+    @Override
+    public boolean supports(RentalType rentalType, boolean leasingCalculation) {
+        return rentalType == RentalType.LEASING;
+    }
+
     @Override
     public String getStrategyName() {
         return "Yearly/Leasing Price";
@@ -0,0 +1,256 @@
+package com.reindecar.service.rental;
+
+import com.reindecar.common.constant.ValidationMessages;
+import com.reindecar.common.exception.BusinessException;
+import com.reindecar.common.exception.EntityNotFoundException;
+import com.reindecar.common.exception.ErrorCode;
+import com.reindecar.common.valueobject.Money;
+import com.reindecar.dto.pricing.BatchCalculatePriceRequest;
+import com.reindecar.dto.pricing.PriceCalculationResponse;
+import com.reindecar.dto.rental.BulkCreateRentalRequest;
+import com.reindecar.dto.rental.BulkCreateRentalResponse;
+import com.reindecar.dto.rental.BulkRentalResult;
+import com.reindecar.dto.rental.BulkRentalVehicleRequest;
+import com.reindecar.entity.customer.Customer;
+import com.reindecar.entity.customer.CustomerType;
+import com.reindecar.entity.customer.Driver;
+import com.reindecar.entity.rental.Rental;
+import com.reindecar.entity.rental.RentalDriver;
+import com.reindecar.entity.vehicle.Vehicle;
+import com.reindecar.exception.customer.CustomerBlacklistedException;
+import com.reindecar.exception.rental.DriverAlreadyInActiveRentalException;
+import com.reindecar.exception.rental.RentalOverlapException;
+import com.reindecar.repository.customer.CustomerRepository;
+import com.reindecar.repository.customer.DriverRepository;
+import com.reindecar.repository.rental.RentalDriverBatchRepository;
+import com.reindecar.repository.rental.RentalDriverRepository;
+import com.reindecar.repository.rental.RentalRepository;
+import com.reindecar.repository.vehicle.VehicleRepository;
+import com.reindecar.service.pricing.PriceCalculationService;
+import com.reindecar.service.rental.availability.RentalChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates DRAFT rentals for many vehicles of one company customer in a single transaction.
+ * Customer and period are validated once; vehicles, drivers, overlaps and driver conflicts are
+ * resolved with one query each. Vehicles that fail validation are reported and skipped, the rest
+ * are priced in one pass and stored together.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkCreateRentalUseCase {
+
+    private final RentalRepository rentalRepository;
+    private final VehicleRepository vehicleRepository;
+    private final CustomerRepository customerRepository;
+    private final DriverRepository driverRepository;
+    private final RentalDriverRepository rentalDriverRepository;
+    private final RentalDriverBatchRepository rentalDriverBatchRepository;
+    private final PriceCalculationService priceCalculationService;
+    private final RentalNumberGenerator rentalNumberGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public BulkCreateRentalResponse execute(BulkCreateRentalRequest request, String createdBy) {
+        List<BulkRentalVehicleRequest> items = request.vehicles();
+        log.info("Creating {} rentals for company customer: {}", items.size(), request.customerId());
+
+        validateCustomer(request.customerId());
+        validatePeriod(request.startDate(), request.endDate());
+
+        List<Long> vehicleIds = items.stream().map(BulkRentalVehicleRequest::vehicleId).toList();
+        Set<Long> driverIds = items.stream()
+            .flatMap(item -> item.driverIds().stream())
+            .collect(Collectors.toSet());
+
+        Map<Long, Vehicle> vehiclesById = vehicleRepository.findAllById(vehicleIds).stream()
+            .collect(Collectors.toMap(Vehicle::getId, Function.identity()));
+        Map<Long, Driver> driversById = driverRepository.findAllById(driverIds).stream()
+            .collect(Collectors.toMap(Driver::getId, Function.identity()));
+        Set<Long> overlappingVehicleIds = findOverlappingVehicleIds(vehicleIds, request.startDate(), request.endDate());
+        Set<Long> blockedDriverIds = new HashSet<>(rentalDriverRepository.findDriverIdsWithBlockingRental(driverIds));
+
+        BulkRentalResult[] results = new BulkRentalResult[items.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        Set<Long> claimedVehicleIds = new HashSet<>();
+        Set<Long> claimedDriverIds = new HashSet<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            BulkRentalVehicleRequest item = items.get(i);
+            try {
+                validateItem(item, request, vehiclesById, driversById, overlappingVehicleIds, blockedDriverIds,
+                    claimedVehicleIds, claimedDriverIds);
+                claimedVehicleIds.add(item.vehicleId());
+                claimedDriverIds.addAll(item.driverIds());
+                acceptedIndexes.add(i);
+            } catch (BusinessException e) {
+                results[i] = BulkRentalResult.failed(item.vehicleId(), e.getCode(), e.getMessage());
+            }
+        }
+
+        if (!acceptedIndexes.isEmpty()) {
+            createRentals(request, createdBy, items, acceptedIndexes, vehiclesById, results);
+        }
+
+        BulkCreateRentalResponse response = BulkCreateRentalResponse.of(Arrays.asList(results));
+        log.info("Bulk rental finished for customer {}: {} created, {} failed",
+            request.customerId(), response.created(), response.failed());
+        return response;
+    }
+
+    private void createRentals(
+            BulkCreateRentalRequest request,
+            String createdBy,
+            List<BulkRentalVehicleRequest> items,
+            List<Integer> acceptedIndexes,
+            Map<Long, Vehicle> vehiclesById,
+            BulkRentalResult[] results) {
+
+        List<Vehicle> vehicles = acceptedIndexes.stream()
+            .map(index -> vehiclesById.get(items.get(index).vehicleId()))
+            .toList();
+        List<PriceCalculationResponse> prices = priceCalculationService.calculatePrices(vehicles, toPriceRequest(request));
+
+        List<Rental> rentals = new ArrayList<>(acceptedIndexes.size());
+        for (int i = 0; i < acceptedIndexes.size(); i++) {
+            rentals.add(toRental(request, vehicles.get(i).getId(), prices.get(i), createdBy));
+        }
+        List<Rental> savedRentals = rentalRepository.saveAll(rentals);
+
+        List<RentalDriver> rentalDrivers = new ArrayList<>();
+        for (int i = 0; i < acceptedIndexes.size(); i++) {
+            BulkRentalVehicleRequest item = items.get(acceptedIndexes.get(i));
+            Rental rental = savedRentals.get(i);
+            for (Long driverId : item.driverIds()) {
+                rentalDrivers.add(RentalDriver.create(
+                    rental.getId(), driverId, driverId.equals(item.primaryDriverId()), createdBy));
+            }
+            results[acceptedIndexes.get(i)] =
+                BulkRentalResult.created(rental.getVehicleId(), rental.getId(), rental.getRentalNumber());
+            eventPublisher.publishEvent(RentalChangedEvent.created(rental));
+        }
+        rentalDriverBatchRepository.insertAll(rentalDrivers);
+    }
+
+    private void validateCustomer(Long customerId) {
+        Customer customer = customerRepository.findById(customerId)
+            .orElseThrow(() -> new EntityNotFoundException("Customer", customerId));
+
+        if (customer.getCustomerType() != CustomerType.COMPANY) {
+            throw new BusinessException(ErrorCode.INVALID_OPERATION, ValidationMessages.BULK_RENTAL_COMPANY_ONLY);
+        }
+        if (customer.isBlacklisted()) {
+            throw new CustomerBlacklistedException(customer.getDisplayName());
+        }
+    }
+
+    private void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, ValidationMessages.RENTAL_DATE_INVALID);
+        }
+    }
+
+    private void validateItem(
+            BulkRentalVehicleRequest item,
+            BulkCreateRentalRequest request,
+            Map<Long, Vehicle> vehiclesById,
+            Map<Long, Driver> driversById,
+            Set<Long> overlappingVehicleIds,
+            Set<Long> blockedDriverIds,
+            Set<Long> claimedVehicleIds,
+            Set<Long> claimedDriverIds) {
+
+        Long vehicleId = item.vehicleId();
+        if (claimedVehicleIds.contains(vehicleId)) {
+            throw new BusinessException(ErrorCode.DUPLICATE_ENTITY,
+                String.format(ValidationMessages.BULK_RENTAL_DUPLICATE_VEHICLE, vehicleId));
+        }
+
+        Vehicle vehicle = vehiclesById.get(vehicleId);
+        if (vehicle == null) {
+            throw new BusinessException(ErrorCode.VEHICLE_NOT_FOUND, vehicleId);
+        }
+        if (!vehicle.getStatus().isAvailableForRental()) {
+            throw new BusinessException(ErrorCode.VEHICLE_NOT_AVAILABLE, "Vehicle is not available for rental: " + vehicleId);
+        }
+        if (overlappingVehicleIds.contains(vehicleId)) {
+            throw new RentalOverlapException(vehicleId, request.startDate(), request.endDate());
+        }
+
+        RentalDriverChecks.validateSelection(item.driverIds(), item.primaryDriverId());
+        RentalDriverChecks.validateEligible(item.driverIds(), driversById);
+        for (Long driverId : item.driverIds()) {
+            if (blockedDriverIds.contains(driverId)) {
+                throw new DriverAlreadyInActiveRentalException(driverId);
+            }
+            if (claimedDriverIds.contains(driverId)) {
+                throw new BusinessException(ErrorCode.INVALID_OPERATION,
+                    String.format(ValidationMessages.BULK_RENTAL_DRIVER_ALREADY_ASSIGNED, driverId));
+            }
+        }
+    }
+
+    private Set<Long> findOverlappingVehicleIds(List<Long> vehicleIds, LocalDate startDate, LocalDate endDate) {
+        return new HashSet<>(rentalRepository.findOverlappingVehicleIds(vehicleIds, startDate, endDate));
+    }
+
+    private BatchCalculatePriceRequest toPriceRequest(BulkCreateRentalRequest request) {
+        return new BatchCalculatePriceRequest(
+            request.vehicles().stream().map(BulkRentalVehicleRequest::vehicleId).toList(),
+            request.customerId(),
+            request.rentalType(),
+            request.startDate(),
+            request.endDate(),
+            request.termMonths(),
+            request.kmPackageId()
+        );
+    }
+
+    private Rental toRental(
+            BulkCreateRentalRequest request,
+            Long vehicleId,
+            PriceCalculationResponse priceCalc,
+            String createdBy) {
+
+        Money customExtraKmPrice = request.customExtraKmPrice() != null
+            ? Money.of(request.customExtraKmPrice(), priceCalc.currency())
+            : null;
+
+        return Rental.create(
+            rentalNumberGenerator.next(),
+            request.rentalType(),
+            vehicleId,
+            request.customerId(),
+            CustomerType.COMPANY,
+            request.contractSignerId(),
+            request.contractSignerName(),
+            request.branchId(),
+            request.returnBranchId(),
+            request.startDate(),
+            request.endDate(),
+            request.kmPackageId(),
+            request.customIncludedKm(),
+            customExtraKmPrice,
+            Money.of(priceCalc.dailyPrice(), priceCalc.currency()),
+            Money.of(priceCalc.finalTotal(), priceCalc.currency()),
+            Money.zero(priceCalc.currency()),
+            request.notes(),
+            createdBy
+        );
+    }
+}
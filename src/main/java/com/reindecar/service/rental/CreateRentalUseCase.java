@@ -1,6 +1,5 @@
 package com.reindecar.service.rental;
 
-import com.reindecar.common.constant.ValidationMessages;
 import com.reindecar.common.exception.BusinessException;
 import com.reindecar.common.exception.ErrorCode;
 import com.reindecar.common.valueobject.Money;
@@ -12,26 +11,28 @@ import com.reindecar.entity.customer.Driver;
 import com.reindecar.entity.rental.Rental;
 import com.reindecar.entity.rental.RentalDriver;
 import com.reindecar.entity.vehicle.Vehicle;
-import com.reindecar.exception.customer.DriverNotFoundException;
 import com.reindecar.exception.customer.CustomerBlacklistedException;
 import com.reindecar.exception.rental.RentalOverlapException;
 import com.reindecar.repository.customer.CustomerRepository;
 import com.reindecar.repository.customer.DriverRepository;
-import com.reindecar.repository.rental.RentalDriverRepository;
+import com.reindecar.repository.rental.RentalDriverBatchRepository;
 import com.reindecar.repository.rental.RentalRepository;
 import com.reindecar.repository.vehicle.VehicleRepository;
 import com.reindecar.service.pricing.PriceCalculationService;
+import com.reindecar.service.rental.availability.RentalChangedEvent;
+import com.reindecar.service.rental.validation.RentalCreationContext;
 import com.reindecar.service.rental.validation.RentalValidationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.Year;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -42,25 +43,32 @@ public class CreateRentalUseCase {
     private final VehicleRepository vehicleRepository;
     private final CustomerRepository customerRepository;
     private final DriverRepository driverRepository;
-    private final RentalDriverRepository rentalDriverRepository;
+    private final RentalDriverBatchRepository rentalDriverBatchRepository;
     private final PriceCalculationService priceCalculationService;
     private final RentalValidationService rentalValidationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RentalNumberGenerator rentalNumberGenerator;
 
     @Transactional
     public Rental execute(CreateRentalRequest request, String createdBy) {
         log.info("Creating rental for vehicle: {}, customer: {}", request.vehicleId(), request.customerId());
 
+        RentalDriverChecks.validateSelection(request.driverIds(), request.primaryDriverId());
+
+        // Müşteri, araç ve sürücüler istek başına bir kez yüklenir
+        RentalCreationContext context = loadContext(request);
+
         // Önce yeni validasyon servisini çalıştır (sürücü müsaitlik, müşteri limiti)
-        rentalValidationService.validate(request);
+        rentalValidationService.validate(context);
 
-        validateCustomerNotBlacklisted(request.customerId());
-        validateVehicleAvailable(request.vehicleId());
+        validateCustomerNotBlacklisted(context.customer());
+        validateVehicleAvailable(context.vehicle());
         validateNoOverlap(request.vehicleId(), request.startDate(), request.endDate());
-        validateDrivers(request.driverIds(), request.primaryDriverId());
+        RentalDriverChecks.validateEligible(request.driverIds(), context.driversById());
 
-        PriceCalculationResponse priceCalc = calculatePrice(request);
+        PriceCalculationResponse priceCalc = calculatePrice(request, context.vehicle());
 
-        String rentalNumber = generateRentalNumber();
+        String rentalNumber = rentalNumberGenerator.next();
 
         Money dailyPrice = Money.of(priceCalc.dailyPrice(), priceCalc.currency());
         Money totalPrice = Money.of(priceCalc.finalTotal(), priceCalc.currency());
@@ -94,6 +102,7 @@ public class CreateRentalUseCase {
         );
 
         Rental savedRental = rentalRepository.save(rental);
+        eventPublisher.publishEvent(RentalChangedEvent.created(savedRental));
 
         addDriversToRental(savedRental.getId(), request.driverIds(), request.primaryDriverId(), createdBy);
 
@@ -104,81 +113,51 @@ public class CreateRentalUseCase {
         return savedRental;
     }
 
-    private void addDriversToRental(Long rentalId, List<Long> driverIds, Long primaryDriverId, String createdBy) {
-        if (driverIds == null || driverIds.isEmpty()) {
-            return;
-        }
+    private RentalCreationContext loadContext(CreateRentalRequest request) {
+        Customer customer = customerRepository.findById(request.customerId())
+            .orElseThrow(() -> new IllegalArgumentException("Customer not found"));
+        Vehicle vehicle = vehicleRepository.findById(request.vehicleId())
+            .orElseThrow(() -> new IllegalArgumentException("Vehicle not found"));
+        Map<Long, Driver> driversById = driverRepository.findAllById(request.driverIds()).stream()
+            .collect(Collectors.toMap(Driver::getId, Function.identity()));
 
-        for (Long driverId : driverIds) {
-            boolean isPrimary = driverId.equals(primaryDriverId);
-            RentalDriver rentalDriver = RentalDriver.create(rentalId, driverId, isPrimary, createdBy);
-            rentalDriverRepository.save(rentalDriver);
-        }
+        return new RentalCreationContext(request, customer, vehicle, driversById);
     }
 
-    private void validateDrivers(List<Long> driverIds, Long primaryDriverId) {
+    private void addDriversToRental(Long rentalId, List<Long> driverIds, Long primaryDriverId, String createdBy) {
         if (driverIds == null || driverIds.isEmpty()) {
-            throw new BusinessException(ErrorCode.INVALID_PARAMETER, ValidationMessages.RENTAL_DRIVER_REQUIRED);
-        }
-
-        if (primaryDriverId == null) {
-            throw new BusinessException(ErrorCode.INVALID_PARAMETER, ValidationMessages.RENTAL_PRIMARY_DRIVER_REQUIRED);
-        }
-
-        Set<Long> uniqueDriverIds = new HashSet<>(driverIds);
-        if (uniqueDriverIds.size() != driverIds.size()) {
-            throw new BusinessException(ErrorCode.DUPLICATE_ENTITY, ValidationMessages.DRIVER_DUPLICATE_IN_REQUEST);
-        }
-
-        if (!uniqueDriverIds.contains(primaryDriverId)) {
-            throw new BusinessException(ErrorCode.INVALID_PARAMETER, ValidationMessages.RENTAL_PRIMARY_DRIVER_NOT_IN_LIST);
-        }
-
-        for (Long driverId : uniqueDriverIds) {
-            Driver driver = driverRepository.findById(driverId)
-                .orElseThrow(() -> new DriverNotFoundException(driverId));
-            validateDriverEligible(driver);
+            return;
         }
-    }
 
-    private void validateDriverEligible(Driver driver) {
-        if (!driver.isActive()) {
-            throw new BusinessException(ErrorCode.INVALID_OPERATION, ValidationMessages.DRIVER_NOT_ACTIVE);
-        }
-        if (driver.isLicenseExpired()) {
-            throw new BusinessException(ErrorCode.INVALID_OPERATION, ValidationMessages.DRIVER_LICENSE_EXPIRED);
-        }
+        List<RentalDriver> rentalDrivers = driverIds.stream()
+            .map(driverId -> RentalDriver.create(rentalId, driverId, driverId.equals(primaryDriverId), createdBy))
+            .toList();
+        rentalDriverBatchRepository.insertAll(rentalDrivers);
     }
 
-    private void validateCustomerNotBlacklisted(Long customerId) {
-        Customer customer = customerRepository.findById(customerId)
-            .orElseThrow(() -> new IllegalArgumentException("Customer not found"));
-        
+    private void validateCustomerNotBlacklisted(Customer customer) {
         if (customer.isBlacklisted()) {
             throw new CustomerBlacklistedException(customer.getDisplayName());
         }
     }
 
-    private Vehicle validateVehicleAvailable(Long vehicleId) {
-        Vehicle vehicle = vehicleRepository.findById(vehicleId)
-            .orElseThrow(() -> new IllegalArgumentException("Vehicle not found"));
-        
+    private void validateVehicleAvailable(Vehicle vehicle) {
         if (!vehicle.getStatus().isAvailableForRental()) {
-            throw new BusinessException(ErrorCode.VEHICLE_NOT_AVAILABLE, "Vehicle is not available for rental: " + vehicleId);
+            throw new BusinessException(ErrorCode.VEHICLE_NOT_AVAILABLE, "Vehicle is not available for rental: " + vehicle.getId());
         }
-        
-        return vehicle;
     }
 
+    /**
+     * Always asks the database: the availability index only sees rentals committed on this node
+     * and serves read-side listings only.
+     */
     private void validateNoOverlap(Long vehicleId, LocalDate startDate, LocalDate endDate) {
-        List<Rental> overlapping = rentalRepository.findOverlappingRentals(vehicleId, startDate, endDate);
-        
-        if (!overlapping.isEmpty()) {
+        if (rentalRepository.existsOverlappingRental(vehicleId, startDate, endDate)) {
             throw new RentalOverlapException(vehicleId, startDate, endDate);
         }
     }
 
-    private PriceCalculationResponse calculatePrice(CreateRentalRequest request) {
+    private PriceCalculationResponse calculatePrice(CreateRentalRequest request, Vehicle vehicle) {
         CalculatePriceRequest priceRequest = new CalculatePriceRequest(
             request.vehicleId(),
             request.customerId(),
@@ -189,12 +168,6 @@ public class CreateRentalUseCase {
             request.kmPackageId()
         );
         
-        return priceCalculationService.calculatePrice(priceRequest);
-    }
-
-    private String generateRentalNumber() {
-        String prefix = "RNT-" + Year.now().getValue() + "-";
-        long count = rentalRepository.countByRentalNumberPrefix(prefix);
-        return String.format("%s%05d", prefix, count + 1);
+        return priceCalculationService.calculatePrice(priceRequest, vehicle);
     }
 }
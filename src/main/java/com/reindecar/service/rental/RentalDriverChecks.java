@@ -0,0 +1,59 @@
+package com.reindecar.service.rental;
+
+import com.reindecar.common.constant.ValidationMessages;
+import com.reindecar.common.exception.BusinessException;
+import com.reindecar.common.exception.ErrorCode;
+import com.reindecar.entity.customer.Driver;
+import com.reindecar.exception.customer.DriverNotFoundException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Driver checks shared by single and bulk rental creation.
+ */
+final class RentalDriverChecks {
+
+    private RentalDriverChecks() {
+    }
+
+    static void validateSelection(List<Long> driverIds, Long primaryDriverId) {
+        if (driverIds == null || driverIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, ValidationMessages.RENTAL_DRIVER_REQUIRED);
+        }
+
+        if (primaryDriverId == null) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, ValidationMessages.RENTAL_PRIMARY_DRIVER_REQUIRED);
+        }
+
+        Set<Long> uniqueDriverIds = new HashSet<>(driverIds);
+        if (uniqueDriverIds.size() != driverIds.size()) {
+            throw new BusinessException(ErrorCode.DUPLICATE_ENTITY, ValidationMessages.DRIVER_DUPLICATE_IN_REQUEST);
+        }
+
+        if (!uniqueDriverIds.contains(primaryDriverId)) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, ValidationMessages.RENTAL_PRIMARY_DRIVER_NOT_IN_LIST);
+        }
+    }
+
+    static void validateEligible(List<Long> driverIds, Map<Long, Driver> driversById) {
+        for (Long driverId : driverIds) {
+            Driver driver = driversById.get(driverId);
+            if (driver == null) {
+                throw new DriverNotFoundException(driverId);
+            }
+            validateEligible(driver);
+        }
+    }
+
+    static void validateEligible(Driver driver) {
+        if (!driver.isActive()) {
+            throw new BusinessException(ErrorCode.INVALID_OPERATION, ValidationMessages.DRIVER_NOT_ACTIVE);
+        }
+        if (driver.isLicenseExpired()) {
+            throw new BusinessException(ErrorCode.INVALID_OPERATION, ValidationMessages.DRIVER_LICENSE_EXPIRED);
+        }
+    }
+}
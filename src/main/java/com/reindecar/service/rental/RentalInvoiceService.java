@@ -1,5 +1,6 @@
 package com.reindecar.service.rental;
 
+import com.reindecar.common.constant.DomainConstants;
 import com.reindecar.common.valueobject.Money;
 import com.reindecar.dto.rental.RentalInvoiceResponse;
 import com.reindecar.entity.pricing.KmBundle;
@@ -11,6 +12,7 @@ import com.reindecar.repository.pricing.KmBundleRepository;
 import com.reindecar.repository.pricing.RentalPricingRepository;
 import com.reindecar.repository.rental.RentalInvoiceRepository;
 import com.reindecar.repository.rental.RentalRepository;
+import com.reindecar.service.sequence.NumberAllocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,7 +23,6 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,8 +35,10 @@ public class RentalInvoiceService {
     private final RentalInvoiceRepository invoiceRepository;
     private final RentalPricingRepository pricingRepository;
     private final KmBundleRepository kmBundleRepository;
+    private final NumberAllocationService numberAllocationService;
 
-    private static final AtomicLong invoiceCounter = new AtomicLong(1000);
+    private static final String INVOICE_SEQUENCE = "RINV-";
+    private static final long LEGACY_INVOICE_NUMBER_OFFSET = 999;
     private static final BigDecimal DEFAULT_TAX_RATE = new BigDecimal("20");
 
     @Transactional
@@ -132,8 +135,10 @@ public class RentalInvoiceService {
 
     private String generateInvoiceNumber() {
         int year = LocalDate.now().getYear();
-        long counter = invoiceCounter.getAndIncrement();
-        return String.format("INV-%d-%05d", year, counter);
+        long number = numberAllocationService.nextValue(
+            INVOICE_SEQUENCE, year,
+            () -> LEGACY_INVOICE_NUMBER_OFFSET + invoiceRepository.count());
+        return String.format("%s%d-%05d", DomainConstants.INVOICE_NUMBER_PREFIX, year, number);
     }
 
     private RentalInvoiceResponse toResponse(RentalInvoice inv) {
@@ -0,0 +1,26 @@
+package com.reindecar.service.rental;
+
+import com.reindecar.common.constant.DomainConstants;
+import com.reindecar.repository.rental.RentalRepository;
+import com.reindecar.service.sequence.NumberAllocationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+
+@Component
+@RequiredArgsConstructor
+class RentalNumberGenerator {
+
+    private final NumberAllocationService numberAllocationService;
+    private final RentalRepository rentalRepository;
+
+    String next() {
+        int year = Year.now().getValue();
+        String prefix = DomainConstants.RENTAL_NUMBER_PREFIX + year + "-";
+        long number = numberAllocationService.nextValue(
+            DomainConstants.RENTAL_NUMBER_PREFIX, year,
+            () -> rentalRepository.countByRentalNumberPrefix(prefix));
+        return String.format("%s%05d", prefix, number);
+    }
+}
@@ -14,9 +14,12 @@ import com.reindecar.mapper.rental.RentalMapper;
 import com.reindecar.mapper.vehicle.VehicleMapper;
 import com.reindecar.repository.rental.RentalRepository;
 import com.reindecar.repository.vehicle.VehicleRepository;
+import com.reindecar.service.rental.availability.RentalChangedEvent;
+import com.reindecar.service.vehicle.VehicleService;
 import com.reindecar.service.vehicle.VehicleStatusService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,27 +37,30 @@ public class RentalService {
     private final RentalMapper rentalMapper;
     private final VehicleMapper vehicleMapper;
     private final CreateRentalUseCase createRentalUseCase;
+    private final BulkCreateRentalUseCase bulkCreateRentalUseCase;
     private final VehicleRepository vehicleRepository;
     private final VehicleStatusService vehicleStatusService;
+    private final VehicleService vehicleService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String ENTITY_VEHICLE = "Vehicle";
 
     public PageResponse<RentalResponse> getAllRentals(Pageable pageable) {
         log.info("Fetching all rentals");
         Page<Rental> rentals = rentalRepository.findAll(pageable);
-        return PageResponse.of(rentals.map(rentalMapper::toResponse));
+        return PageResponse.of(rentalMapper.toResponsePage(rentals));
     }
 
     public PageResponse<RentalResponse> getActiveRentals(Pageable pageable) {
         log.info("Fetching active rentals");
         Page<Rental> rentals = rentalRepository.findActiveRentals(pageable);
-        return PageResponse.of(rentals.map(rentalMapper::toResponse));
+        return PageResponse.of(rentalMapper.toResponsePage(rentals));
     }
 
     public PageResponse<RentalResponse> getOverdueRentals(Pageable pageable) {
         log.info("Fetching overdue rentals");
         Page<Rental> rentals = rentalRepository.findOverdueRentals(pageable);
-        return PageResponse.of(rentals.map(rentalMapper::toResponse));
+        return PageResponse.of(rentalMapper.toResponsePage(rentals));
     }
 
     public RentalResponse getRentalById(Long id) {
@@ -70,14 +76,22 @@ public class RentalService {
         return rentalMapper.toResponse(rental);
     }
 
+    @Transactional
+    public BulkCreateRentalResponse createRentalsBulk(BulkCreateRentalRequest request, String createdBy) {
+        log.info("Creating bulk rentals for customer: {}", request.customerId());
+        return bulkCreateRentalUseCase.execute(request, createdBy);
+    }
+
     @Transactional
     public RentalResponse reserveRental(Long id) {
         log.info("Reserving rental: {}", id);
         Rental rental = findRentalByIdOrThrow(id);
+        RentalStatus previousStatus = rental.getStatus();
 
         updateVehicleStatus(rental, VehicleStatus.RESERVED, "Reserved");
         rental.reserve();
         rentalRepository.save(rental);
+        eventPublisher.publishEvent(RentalChangedEvent.of(rental, previousStatus));
 
         log.info("Rental {} reserved", rental.getRentalNumber());
         return rentalMapper.toResponse(rental);
@@ -87,10 +101,12 @@ public class RentalService {
     public RentalResponse activateRental(Long id, ActivateRentalRequest request) {
         log.info("Activating rental: {}", id);
         Rental rental = findRentalByIdOrThrow(id);
+        RentalStatus previousStatus = rental.getStatus();
 
         updateVehicleStatus(rental, VehicleStatus.RENTED, "Activated");
         rental.activate(request.startKm());
         rentalRepository.save(rental);
+        eventPublisher.publishEvent(RentalChangedEvent.of(rental, previousStatus));
 
         log.info("Rental {} activated", rental.getRentalNumber());
         return rentalMapper.toResponse(rental);
@@ -100,8 +116,10 @@ public class RentalService {
     public RentalResponse startReturn(Long id) {
         log.info("Starting return for rental: {}", id);
         Rental rental = findRentalByIdOrThrow(id);
+        RentalStatus previousStatus = rental.getStatus();
         rental.startReturn();
         rentalRepository.save(rental);
+        eventPublisher.publishEvent(RentalChangedEvent.of(rental, previousStatus));
         return rentalMapper.toResponse(rental);
     }
 
@@ -109,10 +127,12 @@ public class RentalService {
     public RentalResponse completeRental(Long id, CompleteRentalRequest request) {
         log.info("Completing rental: {}", id);
         Rental rental = findRentalByIdOrThrow(id);
+        RentalStatus previousStatus = rental.getStatus();
 
         updateVehicleStatus(rental, VehicleStatus.AVAILABLE, "Returned");
         rental.complete(request.actualReturnDate(), request.endKm(), rental.getExtraKmCharge());
         rentalRepository.save(rental);
+        eventPublisher.publishEvent(RentalChangedEvent.of(rental, previousStatus));
 
         log.info("Rental {} completed", rental.getRentalNumber());
         return rentalMapper.toResponse(rental);
@@ -122,10 +142,12 @@ public class RentalService {
     public void cancelRental(Long id) {
         log.info("Cancelling rental: {}", id);
         Rental rental = findRentalByIdOrThrow(id);
+        RentalStatus previousStatus = rental.getStatus();
 
         releaseVehicleIfReserved(rental);
         rental.cancel();
         rentalRepository.save(rental);
+        eventPublisher.publishEvent(RentalChangedEvent.of(rental, previousStatus));
     }
 
     private void updateVehicleStatus(Rental rental, VehicleStatus newStatus, String action) {
@@ -179,24 +201,19 @@ public class RentalService {
     public PageResponse<RentalResponse> getRentalsByCustomerId(Long customerId, Pageable pageable) {
         log.info("Fetching rentals for customer: {}", customerId);
         Page<Rental> rentals = rentalRepository.findByCustomerId(customerId, pageable);
-        return PageResponse.of(rentals.map(rentalMapper::toResponse));
+        return PageResponse.of(rentalMapper.toResponsePage(rentals));
     }
 
     public List<RentalResponse> getActiveRentalsByCustomerId(Long customerId) {
         log.info("Fetching active rentals for customer: {}", customerId);
         List<Rental> rentals = rentalRepository.findActiveByCustomerId(customerId);
-        return rentals.stream().map(rentalMapper::toResponse).toList();
+        return rentalMapper.toResponseList(rentals);
     }
 
     public List<VehicleResponse> getVehiclesByCustomerId(Long customerId) {
         log.info("Fetching vehicles for customer: {}", customerId);
         List<Long> vehicleIds = rentalRepository.findVehicleIdsByCustomerId(customerId);
-        return vehicleIds.stream()
-            .map(vehicleRepository::findById)
-            .filter(java.util.Optional::isPresent)
-            .map(java.util.Optional::get)
-            .map(vehicleMapper::toResponse)
-            .toList();
+        return vehicleService.findAllByIds(vehicleIds, vehicleMapper::toResponse);
     }
 
     public List<Rental> getRentalsByVehicleId(Long vehicleId) {
@@ -206,17 +223,12 @@ public class RentalService {
     public List<VehicleResponse> getVehiclesRentedToCompany(Long companyId) {
         log.info("Fetching vehicles rented to company: {}", companyId);
         List<Long> vehicleIds = rentalRepository.findVehicleIdsByCompanyId(companyId);
-        return vehicleIds.stream()
-            .map(vehicleRepository::findById)
-            .filter(java.util.Optional::isPresent)
-            .map(java.util.Optional::get)
-            .map(vehicleMapper::toResponse)
-            .toList();
+        return vehicleService.findAllByIds(vehicleIds, vehicleMapper::toResponse);
     }
 
     public PageResponse<RentalResponse> getAllCompanyRentals(Pageable pageable) {
         log.info("Fetching all company rentals");
         Page<Rental> rentals = rentalRepository.findAllCompanyRentals(pageable);
-        return PageResponse.of(rentals.map(rentalMapper::toResponse));
+        return PageResponse.of(rentalMapper.toResponsePage(rentals));
     }
 }
@@ -0,0 +1,43 @@
+package com.reindecar.service.rental.availability;
+
+import com.reindecar.entity.rental.Rental;
+import com.reindecar.entity.rental.RentalStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Published whenever a rental is created or changes state or period.
+ * Consumed after commit to keep in-memory views (availability index, dashboard snapshot) in sync.
+ * {@code previousStatus} is null for newly created rentals.
+ */
+public record RentalChangedEvent(
+    Long rentalId,
+    Long vehicleId,
+    LocalDate startDate,
+    LocalDate endDate,
+    RentalStatus previousStatus,
+    RentalStatus status
+) {
+    public static RentalChangedEvent created(Rental rental) {
+        return of(rental, null);
+    }
+
+    public static RentalChangedEvent of(Rental rental, RentalStatus previousStatus) {
+        return new RentalChangedEvent(
+            rental.getId(),
+            rental.getVehicleId(),
+            rental.getStartDate(),
+            rental.getEndDate(),
+            previousStatus,
+            rental.getStatus()
+        );
+    }
+
+    public boolean isStatusChange() {
+        return previousStatus != status;
+    }
+
+    public boolean occupiesVehicle() {
+        return !status.isFinalState();
+    }
+}
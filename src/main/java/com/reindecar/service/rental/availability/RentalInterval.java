@@ -0,0 +1,18 @@
+package com.reindecar.service.rental.availability;
+
+import java.time.LocalDate;
+
+/**
+ * A vehicle occupancy interval taken from a rental that is not CLOSED or CANCELLED.
+ * Both dates are inclusive, matching the overlap predicate used in rental queries.
+ */
+public record RentalInterval(
+    Long rentalId,
+    Long vehicleId,
+    LocalDate startDate,
+    LocalDate endDate
+) {
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        return !startDate.isAfter(to) && !endDate.isBefore(from);
+    }
+}
@@ -0,0 +1,181 @@
+package com.reindecar.service.rental.availability;
+
+import com.reindecar.entity.rental.RentalStatus;
+import com.reindecar.repository.rental.RentalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of vehicle occupancy built from rentals that are not CLOSED or CANCELLED.
+ * Each vehicle maps to an immutable list of intervals sorted by start date; updates replace
+ * the list atomically so readers never need a lock.
+ * The index only sees rentals committed on this node until the next reconcile, so it serves
+ * read-side availability listings; booking paths check overlaps in the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VehicleAvailabilityIndex {
+
+    private static final List<RentalStatus> RELEASED_STATUSES = List.of(RentalStatus.CLOSED, RentalStatus.CANCELLED);
+
+    private static final Comparator<RentalInterval> BY_START =
+        Comparator.comparing(RentalInterval::startDate).thenComparing(RentalInterval::rentalId);
+
+    private final RentalRepository rentalRepository;
+
+    private final Map<Long, List<RentalInterval>> intervalsByVehicle = new ConcurrentHashMap<>();
+    private final Map<Long, Long> vehicleByRental = new ConcurrentHashMap<>();
+    private final Map<Long, Long> vehicleModifications = new ConcurrentHashMap<>();
+    private final AtomicLong modificationSequence = new AtomicLong();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<RentalInterval> intervals = rentalRepository.findOccupancyIntervals(RELEASED_STATUSES);
+        intervalsByVehicle.clear();
+        vehicleByRental.clear();
+        intervals.stream()
+            .collect(Collectors.groupingBy(RentalInterval::vehicleId))
+            .forEach((vehicleId, vehicleIntervals) -> intervalsByVehicle.put(vehicleId, sorted(vehicleIntervals)));
+        intervals.forEach(interval -> vehicleByRental.put(interval.rentalId(), interval.vehicleId()));
+        ready = true;
+        log.info("Vehicle availability index warmed: {} intervals for {} vehicles",
+            intervals.size(), intervalsByVehicle.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRentalChanged(RentalChangedEvent event) {
+        apply(event);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean hasOverlap(Long vehicleId, LocalDate startDate, LocalDate endDate) {
+        List<RentalInterval> intervals = intervalsByVehicle.get(vehicleId);
+        if (intervals == null) {
+            return false;
+        }
+        for (RentalInterval interval : intervals) {
+            if (interval.startDate().isAfter(endDate)) {
+                return false;
+            }
+            if (!interval.endDate().isBefore(startDate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Set<Long> findBusyVehicleIds(LocalDate startDate, LocalDate endDate) {
+        Set<Long> busy = new HashSet<>();
+        intervalsByVehicle.forEach((vehicleId, intervals) -> {
+            if (hasOverlap(vehicleId, startDate, endDate)) {
+                busy.add(vehicleId);
+            }
+        });
+        return busy;
+    }
+
+    public List<RentalInterval> getIntervals(Long vehicleId) {
+        return intervalsByVehicle.getOrDefault(vehicleId, List.of());
+    }
+
+    /**
+     * Compares the index with the database and repairs any drift. Vehicles that were
+     * modified while the database snapshot was being read are skipped; they are
+     * already newer than the snapshot.
+     *
+     * @return number of vehicles whose intervals were corrected
+     */
+    public int reconcile() {
+        long startedAt = modificationSequence.get();
+        Map<Long, List<RentalInterval>> expected = rentalRepository.findOccupancyIntervals(RELEASED_STATUSES).stream()
+            .collect(Collectors.groupingBy(RentalInterval::vehicleId));
+
+        Set<Long> vehicleIds = new HashSet<>(expected.keySet());
+        vehicleIds.addAll(intervalsByVehicle.keySet());
+
+        int corrected = 0;
+        for (Long vehicleId : vehicleIds) {
+            if (vehicleModifications.getOrDefault(vehicleId, 0L) > startedAt) {
+                continue;
+            }
+            List<RentalInterval> expectedIntervals = sorted(expected.getOrDefault(vehicleId, List.of()));
+            if (!expectedIntervals.equals(getIntervals(vehicleId))) {
+                log.warn("Availability index drift for vehicle {}: index={}, database={}",
+                    vehicleId, getIntervals(vehicleId).size(), expectedIntervals.size());
+                replace(vehicleId, expectedIntervals);
+                corrected++;
+            }
+        }
+        ready = true;
+        return corrected;
+    }
+
+    private void apply(RentalChangedEvent event) {
+        Long previousVehicleId = event.occupiesVehicle()
+            ? vehicleByRental.put(event.rentalId(), event.vehicleId())
+            : vehicleByRental.remove(event.rentalId());
+
+        if (previousVehicleId != null && !previousVehicleId.equals(event.vehicleId())) {
+            removeInterval(previousVehicleId, event.rentalId());
+        }
+
+        touch(event.vehicleId());
+        intervalsByVehicle.compute(event.vehicleId(), (vehicleId, current) -> {
+            List<RentalInterval> updated = new ArrayList<>(current != null ? current : List.of());
+            updated.removeIf(interval -> interval.rentalId().equals(event.rentalId()));
+            if (event.occupiesVehicle()) {
+                updated.add(new RentalInterval(event.rentalId(), vehicleId, event.startDate(), event.endDate()));
+            }
+            return updated.isEmpty() ? null : sorted(updated);
+        });
+    }
+
+    private void removeInterval(Long vehicleId, Long rentalId) {
+        touch(vehicleId);
+        intervalsByVehicle.computeIfPresent(vehicleId, (id, current) -> {
+            List<RentalInterval> updated = new ArrayList<>(current);
+            updated.removeIf(interval -> interval.rentalId().equals(rentalId));
+            return updated.isEmpty() ? null : List.copyOf(updated);
+        });
+    }
+
+    private void replace(Long vehicleId, List<RentalInterval> intervals) {
+        getIntervals(vehicleId).forEach(interval -> vehicleByRental.remove(interval.rentalId()));
+        intervals.forEach(interval -> vehicleByRental.put(interval.rentalId(), vehicleId));
+        if (intervals.isEmpty()) {
+            intervalsByVehicle.remove(vehicleId);
+        } else {
+            intervalsByVehicle.put(vehicleId, intervals);
+        }
+    }
+
+    private void touch(Long vehicleId) {
+        vehicleModifications.put(vehicleId, modificationSequence.incrementAndGet());
+    }
+
+    private static List<RentalInterval> sorted(List<RentalInterval> intervals) {
+        return intervals.stream().sorted(BY_START).toList();
+    }
+}
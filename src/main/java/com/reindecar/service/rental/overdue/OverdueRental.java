@@ -0,0 +1,15 @@
+package com.reindecar.service.rental.overdue;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of a rental moved to OVERDUE by a sweep run.
+ */
+public record OverdueRental(
+    Long rentalId,
+    String rentalNumber,
+    Long vehicleId,
+    LocalDate startDate,
+    LocalDate endDate
+) {
+}
@@ -0,0 +1,94 @@
+package com.reindecar.service.rental.overdue;
+
+import com.reindecar.entity.notification.Notification;
+import com.reindecar.entity.notification.NotificationPriority;
+import com.reindecar.entity.notification.NotificationType;
+import com.reindecar.entity.rental.RentalStatus;
+import com.reindecar.repository.rental.RentalRepository;
+import com.reindecar.service.notification.NotificationService;
+import com.reindecar.service.rental.availability.RentalChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Moves every ACTIVE rental whose end date has passed to OVERDUE with one conditional UPDATE.
+ * Rows touched by a run are identified by the run's timestamp written to {@code updatedAt},
+ * so notifications are raised exactly for the rentals this run changed, even when several
+ * nodes sweep at the same time.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OverdueRentalSweeper {
+
+    private static final int HISTORY_SIZE = 20;
+    private static final Long ADMIN_USER_ID = 1L;
+    private static final String REFERENCE_TYPE_RENTAL = "RENTAL";
+
+    private final RentalRepository rentalRepository;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Deque<OverdueSweepResult> recentRuns = new ArrayDeque<>();
+
+    @Transactional
+    public OverdueSweepResult sweep() {
+        long started = System.nanoTime();
+        Instant runAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        int updated = rentalRepository.markOverdue(LocalDate.now(), runAt, RentalStatus.ACTIVE, RentalStatus.OVERDUE);
+        List<OverdueRental> overdueRentals = updated > 0
+            ? rentalRepository.findMarkedOverdue(runAt, RentalStatus.OVERDUE)
+            : List.of();
+
+        List<Notification> notifications = new ArrayList<>(overdueRentals.size());
+        for (OverdueRental rental : overdueRentals) {
+            notifications.add(Notification.create(
+                NotificationType.RENTAL_OVERDUE,
+                NotificationPriority.URGENT,
+                "Kiralama Gecikti",
+                "Kiralama " + rental.rentalNumber() + " iade tarihi (" + rental.endDate() + ") geçti.",
+                REFERENCE_TYPE_RENTAL,
+                rental.rentalId(),
+                ADMIN_USER_ID
+            ));
+            eventPublisher.publishEvent(new RentalChangedEvent(
+                rental.rentalId(), rental.vehicleId(), rental.startDate(), rental.endDate(),
+                RentalStatus.ACTIVE, RentalStatus.OVERDUE));
+        }
+        if (!notifications.isEmpty()) {
+            notificationService.createNotifications(notifications);
+        }
+
+        OverdueSweepResult result = new OverdueSweepResult(
+            runAt, updated, notifications.size(), (System.nanoTime() - started) / 1_000_000);
+        remember(result);
+        return result;
+    }
+
+    public List<OverdueSweepResult> getRecentRuns() {
+        synchronized (recentRuns) {
+            return List.copyOf(recentRuns);
+        }
+    }
+
+    private void remember(OverdueSweepResult result) {
+        synchronized (recentRuns) {
+            if (recentRuns.size() == HISTORY_SIZE) {
+                recentRuns.removeLast();
+            }
+            recentRuns.addFirst(result);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.reindecar.service.rental.overdue;
+
+import java.time.Instant;
+
+public record OverdueSweepResult(
+    Instant startedAt,
+    int rentalsUpdated,
+    int notificationsCreated,
+    long durationMs
+) {
+}
@@ -1,12 +1,15 @@
 package com.reindecar.service.rental.validation;
 
-import com.reindecar.dto.rental.CreateRentalRequest;
 import com.reindecar.exception.rental.DriverAlreadyInActiveRentalException;
 import com.reindecar.repository.rental.RentalDriverRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Sürücü müsaitlik validasyon kuralı.
  * 
@@ -20,13 +23,15 @@ public class DriverAvailabilityRule implements RentalValidationRule {
     private final RentalDriverRepository rentalDriverRepository;
     
     @Override
-    public void validate(CreateRentalRequest request) {
-        if (request.driverIds() == null || request.driverIds().isEmpty()) {
+    public void validate(RentalCreationContext context) {
+        List<Long> driverIds = context.request().driverIds();
+        if (driverIds == null || driverIds.isEmpty()) {
             return;
         }
         
-        for (Long driverId : request.driverIds()) {
-            if (rentalDriverRepository.hasBlockingRental(driverId)) {
+        Set<Long> blockedDriverIds = new HashSet<>(rentalDriverRepository.findDriverIdsWithBlockingRental(driverIds));
+        for (Long driverId : driverIds) {
+            if (blockedDriverIds.contains(driverId)) {
                 log.warn("Driver {} already has an active rental", driverId);
                 throw new DriverAlreadyInActiveRentalException(driverId);
             }
@@ -22,7 +22,8 @@ public class PersonalCustomerRentalLimitRule implements RentalValidationRule {
     private final RentalRepository rentalRepository;
     
     @Override
-    public void validate(CreateRentalRequest request) {
+    public void validate(RentalCreationContext context) {
+        CreateRentalRequest request = context.request();
         if (request.customerType() != CustomerType.PERSONAL) {
             log.debug("Customer type is COMPANY, skipping rental limit check");
             return;
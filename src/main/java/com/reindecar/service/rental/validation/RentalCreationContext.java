@@ -0,0 +1,27 @@
+package com.reindecar.service.rental.validation;
+
+import com.reindecar.dto.rental.CreateRentalRequest;
+import com.reindecar.entity.customer.Customer;
+import com.reindecar.entity.customer.Driver;
+import com.reindecar.entity.vehicle.Vehicle;
+
+import java.util.Map;
+
+/**
+ * Kiralama oluşturma bağlamı.
+ *
+ * İstek başına müşteri, araç ve sürücüler bir kez yüklenir; validasyon kuralları ve
+ * fiyat hesaplama aynı kayıtları kullanır, tekrar sorgu atmaz.
+ *
+ * @param request     Kiralama oluşturma isteği
+ * @param customer    Kiralayan müşteri
+ * @param vehicle     Kiralanacak araç
+ * @param driversById İstekteki sürücüler (bulunamayanlar haritada yer almaz)
+ */
+public record RentalCreationContext(
+    CreateRentalRequest request,
+    Customer customer,
+    Vehicle vehicle,
+    Map<Long, Driver> driversById
+) {
+}
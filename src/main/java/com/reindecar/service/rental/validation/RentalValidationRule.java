@@ -1,7 +1,5 @@
 package com.reindecar.service.rental.validation;
 
-import com.reindecar.dto.rental.CreateRentalRequest;
-
 /**
  * Kiralama validasyon kuralı arayüzü.
  * Her yeni kural bu interface'i implement eder (Open/Closed Principle).
@@ -11,8 +9,8 @@ public interface RentalValidationRule {
     /**
      * Kiralama oluşturma isteğini validate eder.
      * 
-     * @param request Kiralama oluşturma isteği
+     * @param context İstek ve önceden yüklenmiş müşteri, araç, sürücü kayıtları
      * @throws com.reindecar.common.exception.BusinessException Validasyon başarısız olursa
      */
-    void validate(CreateRentalRequest request);
+    void validate(RentalCreationContext context);
 }
@@ -1,6 +1,5 @@
 package com.reindecar.service.rental.validation;
 
-import com.reindecar.dto.rental.CreateRentalRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,15 +25,15 @@ public class RentalValidationService {
     /**
      * Tüm validasyon kurallarını çalıştırır.
      * 
-     * @param request Kiralama oluşturma isteği
+     * @param context Kiralama oluşturma bağlamı
      * @throws com.reindecar.common.exception.BusinessException Herhangi bir kural başarısız olursa
      */
-    public void validate(CreateRentalRequest request) {
+    public void validate(RentalCreationContext context) {
         log.debug("Running {} validation rules for rental creation", rules.size());
         
         for (RentalValidationRule rule : rules) {
             log.trace("Executing validation rule: {}", rule.getClass().getSimpleName());
-            rule.validate(request);
+            rule.validate(context);
         }
         
         log.debug("All validation rules passed");
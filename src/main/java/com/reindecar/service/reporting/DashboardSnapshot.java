@@ -0,0 +1,124 @@
+package com.reindecar.service.reporting;
+
+import com.reindecar.entity.customer.CustomerStatus;
+import com.reindecar.entity.payment.PaymentStatus;
+import com.reindecar.entity.rental.RentalStatus;
+import com.reindecar.entity.vehicle.VehicleStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable point-in-time view of the dashboard counters.
+ * Status transitions produce a new snapshot so readers never observe a partially applied update.
+ */
+public final class DashboardSnapshot {
+
+    private final Map<RentalStatus, Long> rentalCounts;
+    private final Map<VehicleStatus, Long> vehicleCounts;
+    private final Map<CustomerStatus, Long> customerCounts;
+    private final long blacklistedCustomers;
+    private final Map<PaymentStatus, Long> paymentCounts;
+    private final Map<String, BigDecimal> revenueByCurrency;
+    private final Instant computedAt;
+
+    public DashboardSnapshot(
+            Map<RentalStatus, Long> rentalCounts,
+            Map<VehicleStatus, Long> vehicleCounts,
+            Map<CustomerStatus, Long> customerCounts,
+            long blacklistedCustomers,
+            Map<PaymentStatus, Long> paymentCounts,
+            Map<String, BigDecimal> revenueByCurrency,
+            Instant computedAt) {
+        this.rentalCounts = filled(RentalStatus.class, rentalCounts);
+        this.vehicleCounts = filled(VehicleStatus.class, vehicleCounts);
+        this.customerCounts = filled(CustomerStatus.class, customerCounts);
+        this.blacklistedCustomers = blacklistedCustomers;
+        this.paymentCounts = filled(PaymentStatus.class, paymentCounts);
+        this.revenueByCurrency = Collections.unmodifiableMap(new LinkedHashMap<>(revenueByCurrency));
+        this.computedAt = computedAt;
+    }
+
+    public Instant getComputedAt() {
+        return computedAt;
+    }
+
+    public DashboardSnapshot withRentalTransition(RentalStatus from, RentalStatus to) {
+        return new DashboardSnapshot(
+            transition(RentalStatus.class, rentalCounts, from, to),
+            vehicleCounts, customerCounts, blacklistedCustomers,
+            paymentCounts, revenueByCurrency, computedAt);
+    }
+
+    public DashboardSnapshot withVehicleTransition(VehicleStatus from, VehicleStatus to) {
+        return new DashboardSnapshot(
+            rentalCounts,
+            transition(VehicleStatus.class, vehicleCounts, from, to),
+            customerCounts, blacklistedCustomers,
+            paymentCounts, revenueByCurrency, computedAt);
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+
+        stats.put("totalRentals", total(rentalCounts));
+        stats.put("totalVehicles", total(vehicleCounts));
+        stats.put("totalCustomers", total(customerCounts));
+        stats.put("totalPayments", total(paymentCounts));
+
+        Map<String, Object> rentalStats = new LinkedHashMap<>();
+        for (RentalStatus status : RentalStatus.values()) {
+            if (status != RentalStatus.ACTIVE) {
+                rentalStats.put(status.name().toLowerCase(), rentalCounts.get(status));
+            }
+        }
+        rentalStats.put("active", rentalCounts.get(RentalStatus.ACTIVE) + rentalCounts.get(RentalStatus.OVERDUE));
+        stats.put("rentals", rentalStats);
+
+        stats.put("vehicles", lowercaseKeys(vehicleCounts));
+
+        Map<String, Object> customerStats = lowercaseKeys(customerCounts);
+        customerStats.put("blacklisted", blacklistedCustomers);
+        stats.put("customers", customerStats);
+
+        Map<String, Object> paymentStats = lowercaseKeys(paymentCounts);
+        paymentStats.put("revenueByCurrency", new LinkedHashMap<>(revenueByCurrency));
+        stats.put("payments", paymentStats);
+
+        return stats;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> filled(Class<E> type, Map<E, Long> source) {
+        EnumMap<E, Long> counts = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            counts.put(constant, source.getOrDefault(constant, 0L));
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> transition(Class<E> type, Map<E, Long> source, E from, E to) {
+        EnumMap<E, Long> counts = new EnumMap<>(type);
+        counts.putAll(source);
+        if (from != null) {
+            counts.merge(from, -1L, (current, delta) -> Math.max(0L, current + delta));
+        }
+        if (to != null) {
+            counts.merge(to, 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    private static long total(Map<?, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static <E extends Enum<E>> Map<String, Object> lowercaseKeys(Map<E, Long> counts) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        counts.forEach((status, count) -> result.put(status.name().toLowerCase(), count));
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+package com.reindecar.service.reporting;
+
+import com.reindecar.service.rental.availability.RentalChangedEvent;
+import com.reindecar.service.vehicle.VehicleStatusChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Holds the latest dashboard snapshot for a short TTL.
+ * Rental and vehicle status transitions are applied in place after commit; everything else
+ * (new customers, payments, vehicle creation) is picked up on the next recompute.
+ * Only one caller recomputes an expired snapshot, the rest wait and reuse its result.
+ */
+@Component
+@Slf4j
+public class DashboardStatsCache {
+
+    private final Duration ttl;
+    private final AtomicReference<DashboardSnapshot> current = new AtomicReference<>();
+    private final Object refreshLock = new Object();
+
+    public DashboardStatsCache(@Value("${reporting.dashboard.ttl:PT30S}") Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public DashboardSnapshot get(Supplier<DashboardSnapshot> loader) {
+        DashboardSnapshot snapshot = current.get();
+        if (isFresh(snapshot)) {
+            return snapshot;
+        }
+        synchronized (refreshLock) {
+            snapshot = current.get();
+            if (isFresh(snapshot)) {
+                return snapshot;
+            }
+            snapshot = loader.get();
+            current.set(snapshot);
+            log.debug("Dashboard snapshot recomputed at {}", snapshot.getComputedAt());
+            return snapshot;
+        }
+    }
+
+    public void invalidate() {
+        current.set(null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRentalChanged(RentalChangedEvent event) {
+        if (event.isStatusChange()) {
+            current.updateAndGet(snapshot -> snapshot == null
+                ? null
+                : snapshot.withRentalTransition(event.previousStatus(), event.status()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVehicleStatusChanged(VehicleStatusChangedEvent event) {
+        if (event.oldStatus() != event.newStatus()) {
+            current.updateAndGet(snapshot -> snapshot == null
+                ? null
+                : snapshot.withVehicleTransition(event.oldStatus(), event.newStatus()));
+        }
+    }
+
+    private boolean isFresh(DashboardSnapshot snapshot) {
+        return snapshot != null && snapshot.getComputedAt().plus(ttl).isAfter(Instant.now());
+    }
+}
@@ -3,7 +3,7 @@ package com.reindecar.service.reporting;
 import com.reindecar.dto.reporting.RevenueByMonthResponse;
 import com.reindecar.dto.reporting.UpcomingReturnResponse;
 import com.reindecar.entity.customer.CustomerStatus;
-import com.reindecar.entity.payment.Payment;
+import com.reindecar.entity.payment.MonthlyRevenue;
 import com.reindecar.entity.payment.PaymentStatus;
 import com.reindecar.entity.rental.Rental;
 import com.reindecar.entity.rental.RentalStatus;
@@ -14,6 +14,7 @@ import com.reindecar.repository.customer.CustomerRepository;
 import com.reindecar.repository.payment.PaymentRepository;
 import com.reindecar.repository.rental.RentalRepository;
 import com.reindecar.repository.vehicle.VehicleRepository;
+import com.reindecar.service.payment.RevenueRollupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,9 +24,8 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,51 +40,47 @@ public class ReportingService {
     private final VehicleRepository vehicleRepository;
     private final PaymentRepository paymentRepository;
     private final CustomerRepository customerRepository;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final RevenueRollupService revenueRollupService;
 
     public Map<String, Object> getDashboardStats() {
         log.info("Generating dashboard statistics");
+        return dashboardStatsCache.get(this::loadDashboardSnapshot).toMap();
+    }
 
-        Map<String, Object> stats = new HashMap<>();
-
-        stats.put("totalRentals", rentalRepository.count());
-        stats.put("totalVehicles", vehicleRepository.countByDeletedFalse());
-        stats.put("totalCustomers", customerRepository.countByDeletedFalse());
-        stats.put("totalPayments", paymentRepository.count());
-
-        Map<String, Object> rentalStats = new LinkedHashMap<>();
-        for (RentalStatus status : RentalStatus.values()) {
-            if (status != RentalStatus.ACTIVE) {
-                rentalStats.put(status.name().toLowerCase(), rentalRepository.countByStatus(status));
-            }
+    private DashboardSnapshot loadDashboardSnapshot() {
+        Map<RentalStatus, Long> rentalCounts = new EnumMap<>(RentalStatus.class);
+        for (Object[] row : rentalRepository.countGroupedByStatus()) {
+            rentalCounts.put((RentalStatus) row[0], (Long) row[1]);
         }
-        rentalStats.put("active", rentalRepository.countByStatus(RentalStatus.ACTIVE) + rentalRepository.countByStatus(RentalStatus.OVERDUE));
-        stats.put("rentals", rentalStats);
 
-        Map<String, Object> vehicleStats = new LinkedHashMap<>();
-        for (VehicleStatus status : VehicleStatus.values()) {
-            vehicleStats.put(status.name().toLowerCase(), vehicleRepository.countByStatusAndDeletedFalse(status));
+        Map<VehicleStatus, Long> vehicleCounts = new EnumMap<>(VehicleStatus.class);
+        for (Object[] row : vehicleRepository.countGroupedByStatus()) {
+            vehicleCounts.put((VehicleStatus) row[0], (Long) row[1]);
         }
-        stats.put("vehicles", vehicleStats);
 
-        Map<String, Object> customerStats = new LinkedHashMap<>();
-        for (CustomerStatus status : CustomerStatus.values()) {
-            customerStats.put(status.name().toLowerCase(), customerRepository.countByStatusAndDeletedFalse(status));
+        Map<CustomerStatus, Long> customerCounts = new EnumMap<>(CustomerStatus.class);
+        long blacklisted = 0;
+        for (Object[] row : customerRepository.countGroupedByStatusAndBlacklisted()) {
+            long count = (Long) row[2];
+            customerCounts.merge((CustomerStatus) row[0], count, Long::sum);
+            if (Boolean.TRUE.equals(row[1])) {
+                blacklisted += count;
+            }
         }
-        customerStats.put("blacklisted", customerRepository.countByBlacklistedTrueAndDeletedFalse());
-        stats.put("customers", customerStats);
 
-        Map<String, Object> paymentStats = new LinkedHashMap<>();
-        for (PaymentStatus status : PaymentStatus.values()) {
-            paymentStats.put(status.name().toLowerCase(), paymentRepository.countByStatus(status));
-        }
-        Map<String, Object> revenueByCurrency = new LinkedHashMap<>();
-        for (Object[] row : paymentRepository.sumCompletedAmountsByCurrency()) {
-            revenueByCurrency.put(String.valueOf(row[0]), row[1]);
+        Map<PaymentStatus, Long> paymentCounts = new EnumMap<>(PaymentStatus.class);
+        Map<String, BigDecimal> revenueByCurrency = new LinkedHashMap<>();
+        for (Object[] row : paymentRepository.summarizeByStatusAndCurrency()) {
+            PaymentStatus status = (PaymentStatus) row[0];
+            paymentCounts.merge(status, (Long) row[2], Long::sum);
+            if (status == PaymentStatus.COMPLETED) {
+                revenueByCurrency.merge(String.valueOf(row[1]), (BigDecimal) row[3], BigDecimal::add);
+            }
         }
-        paymentStats.put("revenueByCurrency", revenueByCurrency);
-        stats.put("payments", paymentStats);
 
-        return stats;
+        return new DashboardSnapshot(rentalCounts, vehicleCounts, customerCounts, blacklisted,
+                paymentCounts, revenueByCurrency, Instant.now());
     }
 
     public List<UpcomingReturnResponse> getUpcomingReturns(int days) {
@@ -116,15 +112,6 @@ public class ReportingService {
 
         YearMonth current = YearMonth.now();
         YearMonth startMonth = current.minusMonths(months - 1L);
-        LocalDate startDate = startMonth.atDay(1);
-        LocalDate endDate = current.atEndOfMonth();
-
-        ZoneId zoneId = ZoneId.systemDefault();
-        Instant startInstant = startDate.atStartOfDay(zoneId).toInstant();
-        Instant endInstant = endDate.plusDays(1).atStartOfDay(zoneId).toInstant();
-
-        List<Payment> payments = paymentRepository.findByStatusAndPaidAtBetween(
-                PaymentStatus.COMPLETED, startInstant, endInstant);
 
         Map<YearMonth, Map<String, BigDecimal>> totalsByMonth = new LinkedHashMap<>();
         for (int i = 0; i < months; i++) {
@@ -132,12 +119,9 @@ public class ReportingService {
             totalsByMonth.put(month, new LinkedHashMap<>());
         }
 
-        for (Payment payment : payments) {
-            YearMonth month = YearMonth.from(payment.getPaidAt().atZone(zoneId));
-            Map<String, BigDecimal> totals = totalsByMonth.computeIfAbsent(month, key -> new LinkedHashMap<>());
-            String currency = payment.getAmount().getCurrency();
-            BigDecimal amount = payment.getAmount().getAmount();
-            totals.merge(currency, amount, BigDecimal::add);
+        for (MonthlyRevenue revenue : revenueRollupService.findBetween(startMonth, current)) {
+            totalsByMonth.computeIfAbsent(revenue.getYearMonth(), key -> new LinkedHashMap<>())
+                    .merge(revenue.getCurrency(), revenue.getTotalAmount(), BigDecimal::add);
         }
 
         return totalsByMonth.entrySet().stream()
@@ -0,0 +1,79 @@
+package com.reindecar.service.sequence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Allocates unique document numbers per prefix and year.
+ * Values are reserved from the database in blocks and served from memory, so the hot path
+ * neither locks nor scans; every node reserves its own blocks and numbers stay unique
+ * across the cluster. Numbers of rolled back transactions are not reused.
+ * A block is reserved by one thread per sequence while the others wait on that sequence's lock,
+ * so reservations of other sequences and the served values are not held up.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NumberAllocationService {
+
+    private final NumberBlockAllocator blockAllocator;
+    private final Map<String, NumberBlock> blocks = new ConcurrentHashMap<>();
+    private final Map<String, Lock> reservationLocks = new ConcurrentHashMap<>();
+
+    @Value("${numbering.block-size:20}")
+    private int blockSize;
+
+    /**
+     * Returns the next value for the given prefix and year.
+     *
+     * @param existingCount supplies how many numbers were already issued before this sequence
+     *                      existed; consulted only once, when the sequence row is created
+     */
+    public long nextValue(String prefix, int year, LongSupplier existingCount) {
+        String sequenceKey = prefix + year;
+        while (true) {
+            NumberBlock block = blocks.get(sequenceKey);
+            if (block != null) {
+                long value = block.next();
+                if (value != NumberBlock.EXHAUSTED) {
+                    return value;
+                }
+            }
+            Lock lock = reservationLocks.computeIfAbsent(sequenceKey, key -> new ReentrantLock());
+            lock.lock();
+            try {
+                NumberBlock current = blocks.get(sequenceKey);
+                if (current == null || !current.hasRemaining()) {
+                    blocks.put(sequenceKey, reserveBlock(sequenceKey, existingCount));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private NumberBlock reserveBlock(String sequenceKey, LongSupplier existingCount) {
+        Optional<NumberBlock> advanced = blockAllocator.advance(sequenceKey, blockSize);
+        if (advanced.isPresent()) {
+            return advanced.get();
+        }
+        try {
+            NumberBlock created = blockAllocator.create(sequenceKey, existingCount.getAsLong() + 1, blockSize);
+            log.info("Number sequence created: {}", sequenceKey);
+            return created;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Number sequence {} created concurrently, reserving from it", sequenceKey);
+            return blockAllocator.advance(sequenceKey, blockSize).orElseThrow(() -> e);
+        }
+    }
+}
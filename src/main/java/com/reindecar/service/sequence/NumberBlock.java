@@ -0,0 +1,28 @@
+package com.reindecar.service.sequence;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A reserved, half-open range [start, end) of sequence values handed out lock-free.
+ */
+final class NumberBlock {
+
+    static final long EXHAUSTED = -1L;
+
+    private final AtomicLong cursor;
+    private final long end;
+
+    NumberBlock(long start, long end) {
+        this.cursor = new AtomicLong(start);
+        this.end = end;
+    }
+
+    long next() {
+        long value = cursor.getAndIncrement();
+        return value < end ? value : EXHAUSTED;
+    }
+
+    boolean hasRemaining() {
+        return cursor.get() < end;
+    }
+}
@@ -0,0 +1,75 @@
+package com.reindecar.service.sequence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * Reserves blocks from the number_sequences table in short transactions that commit at once, so
+ * the row lock is released immediately and a rollback of the caller never reuses numbers.
+ * Callers hold a connection of the application pool for their own transaction; the reservations
+ * therefore run on a small pool of their own ({@code numbering.pool-size}) instead of waiting for a
+ * second connection from the application pool, which concurrent callers could exhaust.
+ */
+@Component
+class NumberBlockAllocator implements DisposableBean {
+
+    private static final String ADVANCE_SQL =
+        "UPDATE number_sequences SET next_value = next_value + ?, version = version + 1, updated_at = ? " +
+        "WHERE sequence_key = ?";
+    private static final String NEXT_VALUE_SQL = "SELECT next_value FROM number_sequences WHERE sequence_key = ?";
+    private static final String CREATE_SQL =
+        "INSERT INTO number_sequences (sequence_key, next_value, version, created_at, updated_at) " +
+        "VALUES (?, ?, 0, ?, ?)";
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    NumberBlockAllocator(DataSourceProperties dataSourceProperties, @Value("${numbering.pool-size:2}") int poolSize) {
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("numbering");
+        this.dataSource.setMaximumPoolSize(poolSize);
+        this.dataSource.setMinimumIdle(1);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    public Optional<NumberBlock> advance(String sequenceKey, int blockSize) {
+        return transactionTemplate.execute(status -> {
+            if (jdbcTemplate.update(ADVANCE_SQL, blockSize, now(), sequenceKey) == 0) {
+                return Optional.empty();
+            }
+            long nextValue = jdbcTemplate.queryForObject(NEXT_VALUE_SQL, Long.class, sequenceKey);
+            return Optional.of(new NumberBlock(nextValue - blockSize, nextValue));
+        });
+    }
+
+    /**
+     * @throws org.springframework.dao.DataIntegrityViolationException when the sequence was created concurrently
+     */
+    public NumberBlock create(String sequenceKey, long firstValue, int blockSize) {
+        OffsetDateTime now = now();
+        jdbcTemplate.update(CREATE_SQL, sequenceKey, firstValue + blockSize, now, now);
+        return new NumberBlock(firstValue, firstValue + blockSize);
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+
+    private static OffsetDateTime now() {
+        return OffsetDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+    }
+}
@@ -14,7 +14,9 @@ import com.reindecar.exception.user.WeakPasswordException;
 import com.reindecar.mapper.user.UserMapper;
 import com.reindecar.repository.user.UserRepository;
 import com.reindecar.repository.user.UserSettingsRepository;
+import com.reindecar.security.JwtClaims;
 import com.reindecar.security.JwtTokenProvider;
+import com.reindecar.security.TokenCacheStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -93,11 +95,9 @@ public class UserService {
     public LoginResponse refreshToken(RefreshTokenRequest request) {
         log.info("Token refresh attempt");
 
-        if (!jwtTokenProvider.validateToken(request.refreshToken())) {
-            throw new InvalidCredentialsException();
-        }
-
-        String username = jwtTokenProvider.getUsernameFromToken(request.refreshToken());
+        String username = jwtTokenProvider.verify(request.refreshToken())
+            .map(JwtClaims::username)
+            .orElseThrow(InvalidCredentialsException::new);
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new UserNotFoundException(username));
 
@@ -129,6 +129,10 @@ public class UserService {
         return userMapper.toResponse(user);
     }
 
+    public TokenCacheStats getTokenCacheStats() {
+        return jwtTokenProvider.getCacheStats();
+    }
+
     @Transactional
     public UserResponse updateProfile(String username, UpdateProfileRequest request) {
         log.info("Updating profile for user: {}", username);
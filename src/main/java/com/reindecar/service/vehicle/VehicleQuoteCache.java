@@ -0,0 +1,76 @@
+package com.reindecar.service.vehicle;
+
+import com.reindecar.dto.vehicle.VehicleAvailabilitySearchRequest;
+import com.reindecar.dto.vehicle.VehicleQuoteResponse;
+import com.reindecar.service.pricing.catalog.PricingCatalogChangedEvent;
+import com.reindecar.service.rental.availability.RentalChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the sorted quotes of recent availability searches for a short TTL, so paging through
+ * a search prices the candidates once instead of on every page.
+ * Rentals, vehicle status changes and pricing changes committed on this node drop every entry;
+ * changes made on other nodes are picked up when the entry expires.
+ */
+@Component
+@Slf4j
+class VehicleQuoteCache {
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Map<VehicleAvailabilitySearchRequest, CachedQuotes> entries = new ConcurrentHashMap<>();
+
+    VehicleQuoteCache(
+            @Value("${vehicle.quote-search.ttl:PT1M}") Duration ttl,
+            @Value("${vehicle.quote-search.max-entries:200}") int maxEntries) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+    }
+
+    public List<VehicleQuoteResponse> get(VehicleAvailabilitySearchRequest request, Supplier<List<VehicleQuoteResponse>> loader) {
+        Instant now = Instant.now();
+        CachedQuotes cached = entries.get(request);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return cached.quotes();
+        }
+
+        List<VehicleQuoteResponse> quotes = loader.get();
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+        }
+        if (entries.size() < maxEntries) {
+            entries.put(request, new CachedQuotes(quotes, now.plus(ttl)));
+        }
+        return quotes;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRentalChanged(RentalChangedEvent event) {
+        entries.clear();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVehicleStatusChanged(VehicleStatusChangedEvent event) {
+        entries.clear();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPricingCatalogChanged(PricingCatalogChangedEvent event) {
+        log.debug("Pricing changed by {}, dropping cached vehicle quotes", event.source());
+        entries.clear();
+    }
+
+    private record CachedQuotes(List<VehicleQuoteResponse> quotes, Instant expiresAt) {
+    }
+}
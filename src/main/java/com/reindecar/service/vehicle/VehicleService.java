@@ -7,7 +7,11 @@ import com.reindecar.common.exception.BusinessException;
 import com.reindecar.common.exception.ErrorCode;
 import com.reindecar.common.service.BaseService;
 import com.reindecar.dto.vehicle.CreateVehicleRequest;
+import com.reindecar.dto.pricing.BatchCalculatePriceRequest;
+import com.reindecar.dto.pricing.PriceCalculationResponse;
 import com.reindecar.dto.vehicle.UpdateVehicleStatusRequest;
+import com.reindecar.dto.vehicle.VehicleAvailabilitySearchRequest;
+import com.reindecar.dto.vehicle.VehicleQuoteResponse;
 import com.reindecar.dto.vehicle.VehicleResponse;
 import com.reindecar.dto.vehicle.VehicleStatusHistoryResponse;
 import com.reindecar.entity.vehicle.Vehicle;
@@ -15,13 +19,23 @@ import com.reindecar.entity.vehicle.VehicleStatus;
 import com.reindecar.exception.vehicle.VehicleNotFoundException;
 import com.reindecar.mapper.vehicle.VehicleMapper;
 import com.reindecar.repository.vehicle.VehicleRepository;
+import com.reindecar.service.pricing.PriceCalculationService;
+import com.reindecar.service.rental.availability.VehicleAvailabilityIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -30,14 +44,23 @@ public class VehicleService extends BaseService<Vehicle, Long, VehicleRepository
 
     private final VehicleMapper vehicleMapper;
     private final VehicleStatusService statusService;
+    private final PriceCalculationService priceCalculationService;
+    private final VehicleAvailabilityIndex availabilityIndex;
+    private final VehicleQuoteCache quoteCache;
 
     public VehicleService(
             VehicleRepository repository,
             VehicleMapper vehicleMapper,
-            VehicleStatusService statusService) {
+            VehicleStatusService statusService,
+            PriceCalculationService priceCalculationService,
+            VehicleAvailabilityIndex availabilityIndex,
+            VehicleQuoteCache quoteCache) {
         super(repository, "Vehicle");
         this.vehicleMapper = vehicleMapper;
         this.statusService = statusService;
+        this.priceCalculationService = priceCalculationService;
+        this.availabilityIndex = availabilityIndex;
+        this.quoteCache = quoteCache;
     }
 
     public PageResponse<VehicleResponse> getAllVehicles(Pageable pageable) {
@@ -53,18 +76,65 @@ public class VehicleService extends BaseService<Vehicle, Long, VehicleRepository
     }
 
     public PageResponse<VehicleResponse> getAvailableVehiclesForPeriod(LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        if (startDate == null || endDate == null) {
-            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "startDate/endDate");
-        }
-        if (startDate.isAfter(endDate)) {
-            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "startDate must be before endDate");
-        }
+        validatePeriod(startDate, endDate);
 
         log.info("Fetching available vehicles for period {} - {}", startDate, endDate);
-        Page<Vehicle> vehicles = repository.findAvailableForPeriod(VehicleStatus.AVAILABLE, startDate, endDate, pageable);
+        Page<Vehicle> vehicles = findAvailableForPeriod(startDate, endDate, pageable);
         return PageResponse.of(vehicles.map(vehicleMapper::toResponse));
     }
 
+    public PageResponse<VehicleQuoteResponse> searchAvailableWithPrices(
+            VehicleAvailabilitySearchRequest request, Pageable pageable) {
+        validatePeriod(request.startDate(), request.endDate());
+        if (request.rentalType() == null) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "rentalType");
+        }
+
+        log.info("Searching available vehicles with prices for period {} - {}, branch={}, category={}",
+            request.startDate(), request.endDate(), request.branchId(), request.categoryId());
+
+        List<VehicleQuoteResponse> sorted = quoteCache.get(request, () -> quoteAvailable(request));
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), sorted.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), sorted.size());
+        Page<VehicleQuoteResponse> page = new PageImpl<>(sorted.subList(fromIndex, toIndex), pageable, sorted.size());
+        return PageResponse.of(page);
+    }
+
+    private List<VehicleQuoteResponse> quoteAvailable(VehicleAvailabilitySearchRequest request) {
+        List<Vehicle> candidates = repository.findAvailableCandidates(
+            VehicleStatus.AVAILABLE, request.startDate(), request.endDate(),
+            request.branchId(), request.categoryId());
+
+        Map<Long, Vehicle> vehiclesById = candidates.stream()
+            .collect(Collectors.toMap(Vehicle::getId, Function.identity()));
+
+        List<PriceCalculationResponse> quotes = priceCalculationService.calculatePrices(
+            candidates,
+            new BatchCalculatePriceRequest(
+                List.copyOf(vehiclesById.keySet()),
+                request.customerId(),
+                request.rentalType(),
+                request.startDate(),
+                request.endDate(),
+                request.termMonths(),
+                null));
+
+        // Totals in different currencies are not comparable, so quotes are grouped by currency
+        // and sorted by price within each group
+        Comparator<PriceCalculationResponse> byPrice = Comparator.comparing(PriceCalculationResponse::finalTotal);
+        if (request.priceDirection() == Sort.Direction.DESC) {
+            byPrice = byPrice.reversed();
+        }
+
+        return quotes.stream()
+            .sorted(Comparator.comparing(PriceCalculationResponse::currency)
+                .thenComparing(byPrice)
+                .thenComparing(PriceCalculationResponse::vehicleId))
+            .map(quote -> toQuoteResponse(vehiclesById.get(quote.vehicleId()), quote))
+            .toList();
+    }
+
     public PageResponse<VehicleResponse> getVehiclesByBranch(Long branchId, Pageable pageable) {
         log.info("Fetching vehicles by branch: {}", branchId);
         Page<Vehicle> vehicles = repository.findByBranchIdAndDeletedFalse(branchId, pageable);
@@ -157,6 +227,39 @@ public class VehicleService extends BaseService<Vehicle, Long, VehicleRepository
         return entity.getId();
     }
 
+    private Page<Vehicle> findAvailableForPeriod(LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        if (!availabilityIndex.isReady()) {
+            return repository.findAvailableForPeriod(VehicleStatus.AVAILABLE, startDate, endDate, pageable);
+        }
+        Set<Long> busyVehicleIds = availabilityIndex.findBusyVehicleIds(startDate, endDate);
+        if (busyVehicleIds.isEmpty()) {
+            return repository.findByStatusAndDeletedFalse(VehicleStatus.AVAILABLE, pageable);
+        }
+        return repository.findByStatusExcludingIds(VehicleStatus.AVAILABLE, busyVehicleIds, pageable);
+    }
+
+    private void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "startDate/endDate");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "startDate must be before endDate");
+        }
+    }
+
+    private VehicleQuoteResponse toQuoteResponse(Vehicle vehicle, PriceCalculationResponse quote) {
+        return new VehicleQuoteResponse(
+            vehicleMapper.toResponse(vehicle),
+            quote.rentalType(),
+            quote.startDate(),
+            quote.endDate(),
+            quote.totalDays(),
+            quote.unitPrice(),
+            quote.finalTotal(),
+            quote.currency()
+        );
+    }
+
     private void validateUniquePlateNumber(String plateNumber) {
         if (repository.existsByPlateNumberAndDeletedFalse(plateNumber)) {
             throw new DuplicateEntityException("Vehicle", "plateNumber", plateNumber);
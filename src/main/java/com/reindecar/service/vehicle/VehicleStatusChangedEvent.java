@@ -0,0 +1,14 @@
+package com.reindecar.service.vehicle;
+
+import com.reindecar.entity.vehicle.VehicleStatus;
+
+/**
+ * Published whenever a vehicle status change is recorded.
+ * Consumed after commit to keep the dashboard snapshot in sync.
+ */
+public record VehicleStatusChangedEvent(
+    Long vehicleId,
+    VehicleStatus oldStatus,
+    VehicleStatus newStatus
+) {
+}
@@ -8,6 +8,7 @@ import com.reindecar.mapper.vehicle.VehicleStatusHistoryMapper;
 import com.reindecar.repository.vehicle.VehicleStatusHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,6 +22,7 @@ public class VehicleStatusService {
 
     private final VehicleStatusHistoryRepository historyRepository;
     private final VehicleStatusHistoryMapper historyMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void recordStatusChange(
@@ -45,6 +47,7 @@ public class VehicleStatusService {
         );
 
         historyRepository.save(history);
+        eventPublisher.publishEvent(new VehicleStatusChangedEvent(vehicleId, oldStatus, newStatus));
     }
 
     public PageResponse<VehicleStatusHistoryResponse> getVehicleHistory(Long vehicleId, Pageable pageable) {
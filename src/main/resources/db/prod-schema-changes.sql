@@ -0,0 +1,170 @@
+-- Schema changes for the production PostgreSQL database.
+--
+-- Production runs with spring.jpa.hibernate.ddl-auto=validate, so Hibernate does not create these
+-- tables and the application refuses to start until they exist. Run this script against the
+-- production database before deploying the release that introduces them. Every statement can be
+-- run again safely. The definitions match what Hibernate generates for the entities; keep both
+-- in sync when an entity changes.
+
+-- Number allocation (NumberSequence)
+create table if not exists number_sequences (
+    created_at timestamp(6) with time zone not null,
+    id bigint generated by default as identity,
+    next_value bigint not null,
+    updated_at timestamp(6) with time zone not null,
+    version bigint,
+    sequence_key varchar(50) not null unique,
+    primary key (id)
+);
+
+-- Monthly revenue rollup (MonthlyRevenue)
+create table if not exists monthly_revenues (
+    currency varchar(3) not null,
+    period integer not null,
+    total_amount numeric(19,4) not null,
+    created_at timestamp(6) with time zone not null,
+    id bigint generated by default as identity,
+    payment_count bigint not null,
+    updated_at timestamp(6) with time zone not null,
+    version bigint,
+    primary key (id),
+    constraint uk_monthly_revenue_period_currency unique (period, currency)
+);
+
+-- One-time rollup backfills (RollupBackfill)
+create table if not exists rollup_backfills (
+    cut_over_period integer not null,
+    completed_at timestamp(6) with time zone,
+    created_at timestamp(6) with time zone not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6) with time zone not null,
+    version bigint,
+    name varchar(50) not null unique,
+    primary key (id)
+);
+
+-- Monthly leasing invoice runs (InvoiceRun)
+create table if not exists invoice_runs (
+    created_count integer not null,
+    failed_count integer not null,
+    processed_count integer not null,
+    skipped_count integer not null,
+    period varchar(7) not null,
+    created_at timestamp(6) with time zone not null,
+    finished_at timestamp(6) with time zone,
+    id bigint generated by default as identity,
+    last_rental_id bigint not null,
+    processing_millis bigint not null,
+    started_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    version bigint,
+    status varchar(20) not null check (status in ('RUNNING','COMPLETED')),
+    last_error varchar(500),
+    primary key (id),
+    constraint uk_invoice_run_period unique (period)
+);
+
+-- A rental is invoiced once per period. Existing duplicates must be cancelled and removed first:
+--   select rental_id, period_start, period_end, count(*) from leasing_invoices
+--   group by rental_id, period_start, period_end having count(*) > 1;
+do $$
+begin
+    if not exists (select 1 from pg_constraint where conname = 'uk_leasing_invoice_rental_period') then
+        alter table leasing_invoices
+            add constraint uk_leasing_invoice_rental_period unique (rental_id, period_start, period_end);
+    end if;
+end $$;
+
+-- Cluster-wide job locks (JobLock)
+create table if not exists job_locks (
+    created_at timestamp(6) with time zone not null,
+    id bigint generated by default as identity,
+    locked_at timestamp(6) with time zone not null,
+    locked_until timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    version bigint,
+    locked_by varchar(100) not null,
+    name varchar(100) not null unique,
+    primary key (id)
+);
+
+-- Notification archive and the indexes used by the notification sweeps (ArchivedNotification, Notification)
+create table if not exists notification_archive (
+    archived_at timestamp(6) with time zone not null,
+    created_at timestamp(6) with time zone not null,
+    dismissed_at timestamp(6) with time zone,
+    id bigint not null,
+    read_at timestamp(6) with time zone,
+    recipient_user_id bigint,
+    reference_id bigint,
+    priority varchar(10) not null check (priority in ('LOW','NORMAL','HIGH','URGENT')),
+    status varchar(15) not null check (status in ('PENDING','SENT','READ','DISMISSED','FAILED')),
+    reference_type varchar(30),
+    type varchar(30) not null check (type in ('KM_LIMIT_EXCEEDED','KM_LIMIT_APPROACHING','HGS_BALANCE_LOW',
+        'INSPECTION_DUE','INSURANCE_EXPIRING','SERVICE_DUE','TIRE_CHANGE_DUE','MTV_DUE','RENTAL_ENDING_SOON',
+        'RENTAL_OVERDUE','CONTRACT_EXPIRING','PAYMENT_DUE','PAYMENT_OVERDUE','SYSTEM','CUSTOM')),
+    title varchar(200) not null,
+    message varchar(1000),
+    primary key (id)
+);
+
+create index if not exists idx_notification_archive_recipient on notification_archive (recipient_user_id);
+create index if not exists idx_notification_recipient_status on notifications (recipient_user_id, status);
+create index if not exists idx_notification_status_created on notifications (status, created_at);
+
+-- Content-addressed file storage and resumable uploads (FileBlob, UploadSession)
+create table if not exists file_blobs (
+    reference_count integer not null,
+    created_at timestamp(6) with time zone not null,
+    id bigint generated by default as identity,
+    size bigint not null,
+    updated_at timestamp(6) with time zone not null,
+    version bigint,
+    hash varchar(64) not null,
+    path varchar(500) not null,
+    primary key (id),
+    constraint uk_file_blob_hash unique (hash)
+);
+
+create table if not exists upload_sessions (
+    is_public boolean not null,
+    created_at timestamp(6) with time zone not null,
+    expires_at timestamp(6) with time zone not null,
+    id bigint generated by default as identity,
+    received_bytes bigint not null,
+    reference_id bigint,
+    total_size bigint not null,
+    updated_at timestamp(6) with time zone not null,
+    version bigint,
+    reference_type varchar(20) not null check (reference_type in ('CUSTOMER','VEHICLE','RENTAL','DAMAGE',
+        'MAINTENANCE','USER')),
+    upload_type varchar(30) not null check (upload_type in ('DRIVER_LICENSE_FRONT','DRIVER_LICENSE_BACK',
+        'PASSPORT','IDENTITY_CARD','VEHICLE_PHOTO','INSURANCE_POLICY','LICENSE_DOCUMENT','HANDOVER_PHOTO',
+        'HANDOVER_VIDEO','RETURN_PHOTO','RETURN_VIDEO','SIGNED_CONTRACT','DAMAGE_PHOTO','REPAIR_INVOICE',
+        'ACCIDENT_REPORT','PROFILE_PHOTO','OTHER')),
+    upload_id varchar(36) not null unique,
+    content_type varchar(100),
+    uploaded_by varchar(100),
+    file_name varchar(255) not null,
+    primary key (id)
+);
+
+create index if not exists idx_upload_session_expires on upload_sessions (expires_at);
+
+-- Generated image variants (FileVariant)
+create table if not exists file_variants (
+    height integer not null,
+    width integer not null,
+    created_at timestamp(6) with time zone not null,
+    file_id bigint not null,
+    id bigint generated by default as identity,
+    size bigint not null,
+    updated_at timestamp(6) with time zone not null,
+    version bigint,
+    variant varchar(20) not null check (variant in ('THUMBNAIL','PREVIEW')),
+    checksum varchar(64) not null,
+    content_type varchar(100) not null,
+    path varchar(500) not null,
+    primary key (id),
+    constraint uk_file_variant unique (file_id, variant)
+);
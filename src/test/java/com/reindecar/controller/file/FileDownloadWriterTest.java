@@ -0,0 +1,228 @@
+package com.reindecar.controller.file;
+
+import com.reindecar.service.file.FileStorageService;
+import com.reindecar.service.file.StoredFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FileDownloadWriterTest {
+
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+    private static final String ETAG = "\"content-etag\"";
+    private static final Instant LAST_MODIFIED = Instant.parse("2024-03-01T10:15:30Z");
+    private static final long SENDFILE_THRESHOLD = 16;
+
+    @TempDir
+    Path directory;
+
+    private FileStorageService fileStorageService;
+    private FileDownloadWriter writer;
+    private StoredFile localFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fileStorageService = mock(FileStorageService.class);
+        writer = new FileDownloadWriter(fileStorageService, SENDFILE_THRESHOLD);
+        localFile = storedFile(Files.write(directory.resolve("content.txt"), CONTENT));
+    }
+
+    @Test
+    void writesWholeFile() throws IOException {
+        MockHttpServletResponse response = write(localFile, get());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+        assertThat(response.getContentLengthLong()).isEqualTo(CONTENT.length);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).startsWith("attachment");
+    }
+
+    @Test
+    void writesSingleRange() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        MockHttpServletResponse response = write(localFile, request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/" + CONTENT.length);
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(CONTENT, 2, 6));
+    }
+
+    @Test
+    void writesSuffixRange() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        MockHttpServletResponse response = write(localFile, request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 17-19/" + CONTENT.length);
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(CONTENT, 17, 20));
+    }
+
+    @Test
+    void writesWholeFileForMultipleRanges() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1,4-5");
+
+        MockHttpServletResponse response = write(localFile, request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void rejectsUnsatisfiableRange() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=50-60");
+
+        MockHttpServletResponse response = write(localFile, request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */" + CONTENT.length);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void honoursRangeWhenIfRangeMatches() throws IOException {
+        MockHttpServletRequest byEtag = get();
+        byEtag.addHeader(HttpHeaders.RANGE, "bytes=0-3");
+        byEtag.addHeader(HttpHeaders.IF_RANGE, ETAG);
+        MockHttpServletRequest byDate = get();
+        byDate.addHeader(HttpHeaders.RANGE, "bytes=0-3");
+        byDate.addHeader(HttpHeaders.IF_RANGE, LAST_MODIFIED.toEpochMilli());
+
+        assertThat(write(localFile, byEtag).getStatus()).isEqualTo(206);
+        assertThat(write(localFile, byDate).getStatus()).isEqualTo(206);
+    }
+
+    @Test
+    void writesWholeFileWhenIfRangeIsStale() throws IOException {
+        MockHttpServletRequest byEtag = get();
+        byEtag.addHeader(HttpHeaders.RANGE, "bytes=0-3");
+        byEtag.addHeader(HttpHeaders.IF_RANGE, "\"previous-etag\"");
+        MockHttpServletRequest byDate = get();
+        byDate.addHeader(HttpHeaders.RANGE, "bytes=0-3");
+        byDate.addHeader(HttpHeaders.IF_RANGE, LAST_MODIFIED.minusSeconds(60).toEpochMilli());
+
+        MockHttpServletResponse staleEtag = write(localFile, byEtag);
+        MockHttpServletResponse staleDate = write(localFile, byDate);
+
+        assertThat(staleEtag.getStatus()).isEqualTo(200);
+        assertThat(staleEtag.getContentAsByteArray()).isEqualTo(CONTENT);
+        assertThat(staleDate.getStatus()).isEqualTo(200);
+        assertThat(staleDate.getContentAsByteArray()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void answersNotModifiedForMatchingEtag() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+        MockHttpServletResponse response = write(localFile, request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void answersNotModifiedForUnchangedDate() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED.toEpochMilli());
+
+        MockHttpServletResponse response = write(localFile, request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void writesHeadersOnlyForHead() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("HEAD", "/files/1/download");
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+
+        MockHttpServletResponse response = write(localFile, request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void handsLargeRangeToSendfile() throws IOException {
+        MockHttpServletRequest request = get();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-");
+
+        MockHttpServletResponse response = write(localFile, request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+            .isEqualTo(localFile.localPath().toAbsolutePath().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(2L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo((long) CONTENT.length);
+    }
+
+    @Test
+    void copiesSmallRangeDespiteSendfileSupport() throws IOException {
+        MockHttpServletRequest request = get();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-3");
+
+        MockHttpServletResponse response = write(localFile, request);
+
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(CONTENT, 0, 4));
+    }
+
+    @Test
+    void streamsRangeOfFileWithoutLocalCopy() throws IOException {
+        StoredFile remoteFile = storedFile(null);
+        when(fileStorageService.openStream(remoteFile, 5, 5))
+            .thenReturn(new ByteArrayInputStream(Arrays.copyOfRange(CONTENT, 5, 10)));
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+        MockHttpServletResponse response = write(remoteFile, request);
+
+        verify(fileStorageService).openStream(remoteFile, 5, 5);
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(CONTENT, 5, 10));
+    }
+
+    private MockHttpServletResponse write(StoredFile file, MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.write(file, false, request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/files/1/download");
+    }
+
+    private static StoredFile storedFile(Path localPath) {
+        return new StoredFile(1L, "content.txt", "text/plain", CONTENT.length, ETAG, LAST_MODIFIED,
+            "blobs/content", localPath);
+    }
+}
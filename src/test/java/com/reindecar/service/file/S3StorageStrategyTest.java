@@ -0,0 +1,335 @@
+package com.reindecar.service.file;
+
+import com.reindecar.common.exception.BusinessException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the strategy against an in-process fake of the S3 REST API.
+ */
+class S3StorageStrategyTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final int MULTIPART_THRESHOLD = 1000;
+    private static final int PART_SIZE = 400;
+
+    @TempDir
+    Path stagingDirectory;
+
+    private FakeS3 fakeS3;
+    private ExecutorService storageExecutor;
+    private S3StorageStrategy strategy;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fakeS3 = new FakeS3();
+        storageExecutor = Executors.newFixedThreadPool(2);
+        strategy = new S3StorageStrategy(
+            BUCKET,
+            "us-east-1",
+            "",
+            "http://127.0.0.1:" + fakeS3.port(),
+            true,
+            "test-access-key",
+            "test-secret-key",
+            MULTIPART_THRESHOLD,
+            PART_SIZE,
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(10),
+            storageExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fakeS3.stop();
+        storageExecutor.shutdownNow();
+    }
+
+    @Test
+    void storesSmallContentWithSinglePut() throws IOException {
+        byte[] content = randomBytes(MULTIPART_THRESHOLD - 1);
+        String checksum = S3RequestSigner.sha256Hex(content);
+        Path staged = stage(content);
+
+        String path = strategy.storeContent(staged, checksum);
+
+        assertThat(path).startsWith("s3://" + BUCKET + "/blobs/" + checksum + "-");
+        assertThat(fakeS3.object(keyOf(path))).isEqualTo(content);
+        assertThat(fakeS3.requests()).containsExactly("PUT /" + BUCKET + "/" + keyOf(path));
+        assertThat(fakeS3.payloadHashes()).containsExactly(checksum);
+        assertThat(staged).doesNotExist();
+    }
+
+    @Test
+    void storesEveryUploadOfTheSameContentAsItsOwnObject() throws IOException {
+        byte[] content = randomBytes(100);
+        String checksum = S3RequestSigner.sha256Hex(content);
+        String first = strategy.storeContent(stage(content), checksum);
+
+        Path staged = stage(content);
+        String second = strategy.storeContent(staged, checksum);
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(fakeS3.object(keyOf(first))).isEqualTo(content);
+        assertThat(fakeS3.object(keyOf(second))).isEqualTo(content);
+        assertThat(staged).doesNotExist();
+    }
+
+    @Test
+    void storesLargeContentAsMultipartUpload() throws IOException {
+        byte[] content = randomBytes(MULTIPART_THRESHOLD + 50);
+        String checksum = S3RequestSigner.sha256Hex(content);
+
+        String path = strategy.storeContent(stage(content), checksum);
+
+        assertThat(fakeS3.object(keyOf(path))).isEqualTo(content);
+        assertThat(fakeS3.requests())
+            .filteredOn(request -> request.startsWith("PUT") && request.contains("partNumber="))
+            .hasSize(3);
+        assertThat(fakeS3.requests()).anyMatch(request -> request.startsWith("POST") && request.contains("uploadId="));
+        assertThat(fakeS3.openUploads()).isEmpty();
+    }
+
+    @Test
+    void abortsMultipartUploadWhenPartFails() throws IOException {
+        byte[] content = randomBytes(MULTIPART_THRESHOLD + 50);
+        String checksum = S3RequestSigner.sha256Hex(content);
+        fakeS3.failPart(2);
+
+        assertThatThrownBy(() -> strategy.storeContent(stage(content), checksum))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("part 2");
+
+        assertThat(fakeS3.requests()).anyMatch(request -> request.startsWith("DELETE") && request.contains("uploadId="));
+        assertThat(fakeS3.openUploads()).isEmpty();
+        assertThat(fakeS3.objectKeys()).isEmpty();
+    }
+
+    @Test
+    void retrievesRequestedRange() throws IOException {
+        byte[] content = randomBytes(500);
+        String path = strategy.storeContent(stage(content), S3RequestSigner.sha256Hex(content));
+
+        try (InputStream range = strategy.retrieveRange(path, 100, 50)) {
+            assertThat(range.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 100, 150));
+        }
+        try (InputStream whole = strategy.retrieve(path)) {
+            assertThat(whole.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void rejectsRangeAnsweredWithWholeObject() throws IOException {
+        byte[] content = randomBytes(500);
+        String path = strategy.storeContent(stage(content), S3RequestSigner.sha256Hex(content));
+        fakeS3.ignoreRanges();
+
+        assertThatThrownBy(() -> strategy.retrieveRange(path, 100, 50))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("status 200");
+    }
+
+    @Test
+    void deletesObject() throws IOException {
+        byte[] content = randomBytes(100);
+        String checksum = S3RequestSigner.sha256Hex(content);
+        String path = strategy.storeContent(stage(content), checksum);
+
+        strategy.delete(path);
+
+        assertThat(fakeS3.object(keyOf(path))).isNull();
+    }
+
+    private static String keyOf(String path) {
+        return path.substring(("s3://" + BUCKET + "/").length());
+    }
+
+    private Path stage(byte[] content) throws IOException {
+        return Files.write(stagingDirectory.resolve(UUID.randomUUID() + ".tmp"), content);
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Keeps objects and multipart uploads of a single bucket in memory, addressed path-style.
+     */
+    private static final class FakeS3 {
+
+        private final HttpServer server;
+        private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+        private final List<String> requests = new CopyOnWriteArrayList<>();
+        private final List<String> payloadHashes = new CopyOnWriteArrayList<>();
+        private volatile int failingPart;
+        private volatile boolean ignoreRanges;
+
+        FakeS3() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", this::handle);
+            server.setExecutor(serverExecutor);
+            server.start();
+        }
+
+        int port() {
+            return server.getAddress().getPort();
+        }
+
+        void stop() {
+            server.stop(0);
+            serverExecutor.shutdownNow();
+        }
+
+        void failPart(int partNumber) {
+            failingPart = partNumber;
+        }
+
+        void ignoreRanges() {
+            ignoreRanges = true;
+        }
+
+        byte[] object(String key) {
+            return objects.get(key);
+        }
+
+        List<String> requests() {
+            return requests;
+        }
+
+        Set<String> objectKeys() {
+            return objects.keySet();
+        }
+
+        List<String> payloadHashes() {
+            return payloadHashes;
+        }
+
+        Map<String, Map<Integer, byte[]>> openUploads() {
+            return uploads;
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            String query = exchange.getRequestURI().getRawQuery();
+            String key = path.substring(("/" + BUCKET + "/").length());
+            Map<String, String> parameters = parameters(query);
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            requests.add(method + " " + path + (query != null ? "?" + query : ""));
+            if (exchange.getRequestHeaders().getFirst("Authorization") == null) {
+                respond(exchange, 403, new byte[0]);
+                return;
+            }
+
+            if ("POST".equals(method) && parameters.containsKey("uploads")) {
+                String uploadId = UUID.randomUUID().toString();
+                uploads.put(uploadId, new ConcurrentSkipListMap<>());
+                respond(exchange, 200, ("<InitiateMultipartUploadResult><UploadId>" + uploadId
+                    + "</UploadId></InitiateMultipartUploadResult>").getBytes(StandardCharsets.UTF_8));
+            } else if ("PUT".equals(method) && parameters.containsKey("partNumber")) {
+                int partNumber = Integer.parseInt(parameters.get("partNumber"));
+                if (partNumber == failingPart) {
+                    respond(exchange, 500, "<Error><Code>InternalError</Code></Error>".getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                uploads.get(parameters.get("uploadId")).put(partNumber, body);
+                exchange.getResponseHeaders().add("ETag", "\"etag-" + partNumber + "\"");
+                respond(exchange, 200, new byte[0]);
+            } else if ("POST".equals(method) && parameters.containsKey("uploadId")) {
+                ByteArrayOutputStream object = new ByteArrayOutputStream();
+                for (byte[] part : uploads.remove(parameters.get("uploadId")).values()) {
+                    object.write(part);
+                }
+                objects.put(key, object.toByteArray());
+                respond(exchange, 200, "<CompleteMultipartUploadResult/>".getBytes(StandardCharsets.UTF_8));
+            } else if ("DELETE".equals(method) && parameters.containsKey("uploadId")) {
+                uploads.remove(parameters.get("uploadId"));
+                respond(exchange, 204, null);
+            } else if ("PUT".equals(method)) {
+                payloadHashes.add(exchange.getRequestHeaders().getFirst("x-amz-content-sha256"));
+                objects.put(key, body);
+                respond(exchange, 200, new byte[0]);
+            } else if ("GET".equals(method)) {
+                get(exchange, objects.get(key));
+            } else if ("DELETE".equals(method)) {
+                objects.remove(key);
+                respond(exchange, 204, null);
+            } else {
+                respond(exchange, 405, new byte[0]);
+            }
+        }
+
+        private void get(HttpExchange exchange, byte[] object) throws IOException {
+            if (object == null) {
+                respond(exchange, 404, new byte[0]);
+                return;
+            }
+            String range = exchange.getRequestHeaders().getFirst("Range");
+            if (range == null || ignoreRanges) {
+                respond(exchange, 200, object);
+                return;
+            }
+            String[] bounds = range.substring("bytes=".length()).split("-");
+            int start = Integer.parseInt(bounds[0]);
+            int end = Integer.parseInt(bounds[1]);
+            exchange.getResponseHeaders().add("Content-Range", "bytes " + start + "-" + end + "/" + object.length);
+            respond(exchange, 206, Arrays.copyOfRange(object, start, end + 1));
+        }
+
+        private static Map<String, String> parameters(String query) {
+            Map<String, String> parameters = new ConcurrentHashMap<>();
+            if (query != null) {
+                for (String parameter : query.split("&")) {
+                    int separator = parameter.indexOf('=');
+                    parameters.put(separator < 0 ? parameter : parameter.substring(0, separator),
+                        separator < 0 ? "" : parameter.substring(separator + 1));
+                }
+            }
+            return parameters;
+        }
+
+        private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+            if (body == null) {
+                exchange.sendResponseHeaders(status, -1);
+                exchange.close();
+                return;
+            }
+            exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+}